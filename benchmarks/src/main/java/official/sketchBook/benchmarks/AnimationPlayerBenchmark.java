@@ -0,0 +1,56 @@
+package official.sketchBook.benchmarks;
+
+import official.sketchBook.engine.animation_related.AnimationClip;
+import official.sketchBook.engine.animation_related.ObjectAnimationPlayer;
+import official.sketchBook.engine.animation_related.Sprite;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/// ObjectAnimationPlayer.update em N players compartilhando o mesmo clip
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationPlayerBenchmark {
+
+    private static final float FRAME_DELTA = 1f / 60f;
+
+    @Param({"1000"})
+    public int playerCount;
+
+    private ObjectAnimationPlayer[] players;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        AnimationClip clip = new AnimationClip(
+            new Sprite(0, 0, 0.1f),
+            new Sprite(1, 0, 0.1f),
+            new Sprite(2, 0, 0.1f),
+            new Sprite(3, 0, 0.1f),
+            new Sprite(4, 0, 0.15f),
+            new Sprite(5, 0, 0.15f)
+        );
+
+        players = new ObjectAnimationPlayer[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            ObjectAnimationPlayer player = new ObjectAnimationPlayer();
+            player.addAnimation("run", clip);
+            player.playAnimation("run");
+            // Espalha os players entre os quadros
+            player.setAniTick(i % clip.getFrameCount());
+            players[i] = player;
+        }
+    }
+
+    @Benchmark
+    public void update(Blackhole blackhole) {
+        for (ObjectAnimationPlayer player : players) {
+            player.update(FRAME_DELTA);
+            blackhole.consume(player.getCurrentSprite());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package official.sketchBook.benchmarks;
+
+import official.sketchBook.benchmarks.support.BenchWorldDataManager;
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.FIXED_TIMESTAMP;
+
+/// Um passo do manager com N objetos de 4 componentes de classes diferentes,
+/// atualizados pelos próprios objetos ou em grupos por classe pelo ComponentScheduler
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentSchedulerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int objectCount;
+
+    @Param({"false", "true"})
+    public boolean scheduled;
+
+    private BenchWorldDataManager manager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        manager = new BenchWorldDataManager();
+        for (int i = 0; i < objectCount; i++) {
+            new ComponentHolder(manager, scheduled);
+        }
+
+        // Integra os objetos antes da medição
+        manager.beginUpdate();
+    }
+
+    @Benchmark
+    public void update() {
+        manager.update(FIXED_TIMESTAMP);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.dispose();
+    }
+
+    /// Objeto sem visuais que só atualiza os componentes
+    private static final class ComponentHolder extends BaseGameObject {
+
+        private ComponentHolder(BaseWorldDataManager manager, boolean scheduled) {
+            super(manager);
+            this.useComponentScheduler = scheduled;
+            initObject();
+        }
+
+        @Override
+        protected void initObject() {
+            addUpdateComponent(new Timer());
+            addUpdateComponent(new Velocity());
+            addUpdateComponent(new Health());
+            addUpdateComponent(new Cooldown());
+        }
+
+        @Override
+        public void update(float delta) {
+            updateComponents(delta);
+        }
+
+        @Override
+        public void postUpdate() {
+            postUpdateComponents();
+        }
+
+        @Override
+        protected void onObjectDestruction() {
+
+        }
+
+        @Override
+        protected void disposeData() {
+
+        }
+    }
+
+    private abstract static class BenchComponent implements Component {
+        private boolean disposed;
+
+        @Override
+        public void postUpdate() {
+
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    private static final class Timer extends BenchComponent {
+        private float elapsed;
+
+        @Override
+        public void update(float delta) {
+            elapsed += delta;
+        }
+    }
+
+    private static final class Velocity extends BenchComponent {
+        private float x, vx = 1f;
+
+        @Override
+        public void update(float delta) {
+            x += vx * delta;
+            if (x > 100f || x < 0f) vx = -vx;
+        }
+    }
+
+    private static final class Health extends BenchComponent {
+        private float value = 100f;
+
+        @Override
+        public void update(float delta) {
+            value = Math.min(100f, value + delta);
+        }
+    }
+
+    private static final class Cooldown extends BenchComponent {
+        private float remaining = 1f;
+
+        @Override
+        public void update(float delta) {
+            remaining -= delta;
+            if (remaining <= 0f) remaining += 1f;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.graphics.Texture;
+import official.sketchBook.benchmarks.support.BenchGameObject;
+import official.sketchBook.benchmarks.support.BenchWorldDataManager;
+import official.sketchBook.benchmarks.support.HeadlessGdx;
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/// Remoção em massa: uma fração dos objetos do manager morre no mesmo passo (BaseWorldDataManager.beginUpdate)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DespawnBenchmark {
+
+    @Param({"10000"})
+    public int objectCount;
+
+    /// A cada quantos objetos um é removido, 1 remove todos
+    @Param({"1", "2", "10"})
+    public int removeEvery;
+
+    private Texture sheet;
+    private BenchWorldDataManager manager;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        sheet = HeadlessGdx.createTexture(128, 32);
+        BenchGameObject.sheet = sheet;
+    }
+
+    /// Cada medição começa com um manager cheio e os objetos já marcados
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        manager = new BenchWorldDataManager();
+        Random random = new Random(42);
+        for (int i = 0; i < objectCount; i++) {
+            new BenchGameObject(
+                random.nextFloat() * BenchGameObject.AREA_SIZE,
+                random.nextFloat() * BenchGameObject.AREA_SIZE,
+                random.nextInt(8),
+                manager
+            );
+        }
+        manager.beginUpdate();
+
+        List<BaseGameObject> objects = manager.getGameObjectList();
+        for (int i = 0; i < objects.size(); i += removeEvery) {
+            manager.removeGameObject(objects.get(i));
+        }
+    }
+
+    @Benchmark
+    public int despawn() {
+        manager.beginUpdate();
+        return manager.getGameObjectList().size();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        manager.dispose();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        sheet.dispose();
+        BenchGameObject.sheet = null;
+    }
+}
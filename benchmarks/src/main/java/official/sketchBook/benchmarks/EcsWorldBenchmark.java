@@ -0,0 +1,88 @@
+package official.sketchBook.benchmarks;
+
+import official.sketchBook.engine.ecs_related.Archetype;
+import official.sketchBook.engine.ecs_related.EcsComponentType;
+import official.sketchBook.engine.ecs_related.EcsMovementSystem;
+import official.sketchBook.engine.ecs_related.EcsQuery;
+import official.sketchBook.engine.ecs_related.EcsSystem;
+import official.sketchBook.engine.ecs_related.EcsWorld;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.FIXED_TIMESTAMP;
+
+/// Um passo fixo do EcsWorld com N entidades com posição, velocidade e sprite:
+/// posição anterior guardada, movimento e quique nas bordas de uma área fixa
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EcsWorldBenchmark {
+
+    private static final float AREA_SIZE = 4096f;
+
+    @Param({"10000", "100000"})
+    public int entityCount;
+
+    private EcsWorld world;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = new EcsWorld();
+        EcsComponentType position = world.getPositionType();
+        EcsComponentType velocity = world.getVelocityType();
+        EcsComponentType sprite = world.getSpriteType();
+
+        Random random = new Random(42);
+        for (int i = 0; i < entityCount; i++) {
+            long entity = world.createEntity(position, velocity, sprite);
+            world.setPosition(entity, random.nextFloat() * AREA_SIZE, random.nextFloat() * AREA_SIZE);
+            world.setFloat(entity, velocity, EcsWorld.VELOCITY_X, random.nextFloat() * 200f - 100f);
+            world.setFloat(entity, velocity, EcsWorld.VELOCITY_Y, random.nextFloat() * 200f - 100f);
+            world.setFloat(entity, sprite, EcsWorld.SPRITE_WIDTH, 8f);
+            world.setFloat(entity, sprite, EcsWorld.SPRITE_HEIGHT, 8f);
+        }
+
+        world.addSystem(new EcsMovementSystem(world));
+        world.addSystem(new BounceSystem(world));
+    }
+
+    @Benchmark
+    public int step() {
+        world.storePreviousPositions();
+        world.update(FIXED_TIMESTAMP);
+        return world.getEntityCount();
+    }
+
+    /// Inverte a velocidade das entidades que saíram da área
+    private static final class BounceSystem implements EcsSystem {
+        private final EcsQuery query;
+
+        private BounceSystem(EcsWorld world) {
+            this.query = world.query(world.getPositionType(), world.getVelocityType());
+        }
+
+        @Override
+        public void update(EcsWorld world, float delta) {
+            EcsComponentType position = world.getPositionType();
+            EcsComponentType velocity = world.getVelocityType();
+
+            for (int a = 0; a < query.getArchetypeCount(); a++) {
+                Archetype archetype = query.getArchetype(a);
+                float[] x = archetype.floats(position, EcsWorld.POSITION_X);
+                float[] y = archetype.floats(position, EcsWorld.POSITION_Y);
+                float[] vx = archetype.floats(velocity, EcsWorld.VELOCITY_X);
+                float[] vy = archetype.floats(velocity, EcsWorld.VELOCITY_Y);
+
+                for (int row = 0, size = archetype.size(); row < size; row++) {
+                    if ((x[row] < 0 && vx[row] < 0) || (x[row] > AREA_SIZE && vx[row] > 0)) vx[row] = -vx[row];
+                    if ((y[row] < 0 && vy[row] < 0) || (y[row] > AREA_SIZE && vy[row] > 0)) vy[row] = -vy[row];
+                }
+            }
+        }
+    }
+}
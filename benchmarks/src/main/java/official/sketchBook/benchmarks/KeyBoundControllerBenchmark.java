@@ -0,0 +1,85 @@
+package official.sketchBook.benchmarks;
+
+import official.sketchBook.benchmarks.support.HeadlessGdx;
+import official.sketchBook.engine.components_related.base_components.KeyBoundControllerComponent;
+import official.sketchBook.engine.input_related.InputSnapshot;
+import official.sketchBook.engine.input_related.KeyEventDispatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// KeyBoundControllerComponent.update com N teclas ligadas e metade delas mudando de estado a cada frame,
+/// lendo as teclas por polling, pelos eventos de um KeyEventDispatcher ou por um InputSnapshot capturado a cada frame
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyBoundControllerBenchmark {
+
+    /// Primeira tecla ligada, as demais são consecutivas (Input.Keys.A em diante)
+    private static final int FIRST_KEY = 29;
+
+    @Param({"4", "16"})
+    public int boundKeys;
+
+    @Param({"polling", "events", "snapshot"})
+    public String mode;
+
+    private HeadlessGdx.ScriptedInput input;
+    private KeyEventDispatcher dispatcher;
+    private InputSnapshot snapshot;
+    private KeyBoundControllerComponent controller;
+    private int frame;
+    private int pressedActions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = HeadlessGdx.input();
+        input.releaseAll();
+
+        controller = new KeyBoundControllerComponent() {
+        };
+        for (int i = 0; i < boundKeys; i++) {
+            controller.bindKey(FIRST_KEY + i, pressed -> {
+                if (pressed) pressedActions++;
+            });
+        }
+
+        if ("events".equals(mode)) {
+            dispatcher = new KeyEventDispatcher();
+            controller.useEventDispatcher(dispatcher);
+        } else if ("snapshot".equals(mode)) {
+            snapshot = new InputSnapshot();
+            controller.useInputSnapshot(snapshot);
+        }
+    }
+
+    @Benchmark
+    public int update() {
+        frame++;
+        // Teclas pares alternam a cada frame, as ímpares ficam soltas
+        for (int i = 0; i < boundKeys; i += 2) {
+            boolean pressed = (frame & 1) == 0;
+            if (dispatcher == null) {
+                input.setPressed(FIRST_KEY + i, pressed);
+            } else if (pressed) {
+                dispatcher.keyDown(FIRST_KEY + i);
+            } else {
+                dispatcher.keyUp(FIRST_KEY + i);
+            }
+        }
+        if (snapshot != null) {
+            snapshot.capture();
+        }
+        controller.update(1f / 60f);
+        return pressedActions;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        input.releaseAll();
+        controller.dispose();
+    }
+}
@@ -0,0 +1,89 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.graphics.Texture;
+import official.sketchBook.benchmarks.support.BenchGameObject;
+import official.sketchBook.benchmarks.support.BenchWorldDataManager;
+import official.sketchBook.benchmarks.support.HeadlessGdx;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de manter a ordem de renderização (BaseWorldDataManager.sortRenderables) quando
+ * parte dos objetos muda de z a cada frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderQueueBenchmark {
+
+    private static final int Z_LAYERS = 8;
+
+    @Param({"1000", "10000"})
+    public int objectCount;
+
+    /// Objetos que mudam de z a cada operação
+    @Param({"0", "10", "100"})
+    public int changesPerFrame;
+
+    private Texture sheet;
+    private BenchWorldDataManager manager;
+    private BenchGameObject[] objects;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sheet = HeadlessGdx.createTexture(128, 32);
+        BenchGameObject.sheet = sheet;
+
+        manager = new BenchWorldDataManager();
+        objects = new BenchGameObject[objectCount];
+
+        Random random = new Random(42);
+        for (int i = 0; i < objectCount; i++) {
+            objects[i] = new BenchGameObject(0, 0, random.nextInt(Z_LAYERS), manager);
+        }
+
+        manager.sortRenderables();
+    }
+
+    /// Mudanças avisadas objeto a objeto (RenderableGameObject.setZ)
+    @Benchmark
+    public int sortAfterTargetedNotify() {
+        for (int i = 0; i < changesPerFrame; i++) {
+            BenchGameObject obj = nextObject();
+            obj.setZ((obj.getZIndex() + 1) % Z_LAYERS);
+        }
+        manager.sortRenderables();
+        return manager.getRenderQueue().size();
+    }
+
+    /// Mudanças feitas direto no transform, com um aviso global que exige verificar todos os objetos
+    @Benchmark
+    public int sortAfterGlobalNotify() {
+        for (int i = 0; i < changesPerFrame; i++) {
+            BenchGameObject obj = nextObject();
+            obj.getTransformC().setZ((obj.getZIndex() + 1) % Z_LAYERS);
+        }
+        manager.notifyRenderIndexUpdate();
+        manager.sortRenderables();
+        return manager.getRenderQueue().size();
+    }
+
+    private BenchGameObject nextObject() {
+        BenchGameObject obj = objects[cursor];
+        cursor = (cursor + 1) % objects.length;
+        return obj;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.dispose();
+        sheet.dispose();
+        BenchGameObject.sheet = null;
+    }
+}
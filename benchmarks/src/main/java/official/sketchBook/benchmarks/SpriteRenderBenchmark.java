@@ -0,0 +1,80 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.graphics.Texture;
+import official.sketchBook.benchmarks.support.HeadlessGdx;
+import official.sketchBook.benchmarks.support.RecordingBatch;
+import official.sketchBook.engine.animation_related.Sprite;
+import official.sketchBook.engine.animation_related.SpriteSheetDataHandler;
+import official.sketchBook.engine.util_related.texture.TextureUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Obtenção do quadro atual de uma sprite sheet: o caminho antigo que aloca uma TextureRegion por chamada
+ * (TextureUtils.obtainCurrentSpriteImage) e o caminho de renderização com o cache de regiões
+ * (SpriteSheetDataHandler.renderSprite num RecordingBatch).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteRenderBenchmark {
+
+    private static final int COLUMNS = 8, ROWS = 4, CANVAS_SIZE = 32;
+
+    private Texture sheet;
+    private Sprite[] sprites;
+    private SpriteSheetDataHandler handler;
+    private RecordingBatch batch;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sheet = HeadlessGdx.createTexture(COLUMNS * CANVAS_SIZE, ROWS * CANVAS_SIZE);
+
+        sprites = new Sprite[COLUMNS * ROWS];
+        for (int i = 0; i < sprites.length; i++) {
+            sprites[i] = new Sprite(i % COLUMNS, i / COLUMNS, 0.1f);
+        }
+
+        handler = new SpriteSheetDataHandler(0, 0, 0, 0, COLUMNS, ROWS, false, false, sheet);
+        batch = new RecordingBatch();
+        batch.begin();
+    }
+
+    @Benchmark
+    public void obtainCurrentSpriteImage(Blackhole blackhole) {
+        Sprite sprite = nextSprite();
+        blackhole.consume(TextureUtils.obtainCurrentSpriteImage(
+            sprite,
+            CANVAS_SIZE,
+            CANVAS_SIZE,
+            sheet,
+            (cursor & 1) == 0,
+            false
+        ));
+    }
+
+    @Benchmark
+    public void renderSprite() {
+        handler.setxAxisInvert((cursor & 1) == 0);
+        handler.renderSprite(batch, nextSprite());
+    }
+
+    private Sprite nextSprite() {
+        Sprite sprite = sprites[cursor];
+        cursor = (cursor + 1) % sprites.length;
+        return sprite;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batch.end();
+        TextureUtils.disposeSpriteSheetRegionCache(sheet);
+        sheet.dispose();
+    }
+}
@@ -0,0 +1,60 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.graphics.Texture;
+import official.sketchBook.benchmarks.support.BenchGameObject;
+import official.sketchBook.benchmarks.support.BenchWorldDataManager;
+import official.sketchBook.benchmarks.support.HeadlessGdx;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.FIXED_TIMESTAMP;
+
+/// Um passo fixo completo do manager (BaseWorldDataManager.update) com N objetos
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldUpdateBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int objectCount;
+
+    private Texture sheet;
+    private BenchWorldDataManager manager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sheet = HeadlessGdx.createTexture(128, 32);
+        BenchGameObject.sheet = sheet;
+
+        manager = new BenchWorldDataManager();
+        Random random = new Random(42);
+        for (int i = 0; i < objectCount; i++) {
+            new BenchGameObject(
+                random.nextFloat() * BenchGameObject.AREA_SIZE,
+                random.nextFloat() * BenchGameObject.AREA_SIZE,
+                random.nextInt(8),
+                manager
+            );
+        }
+
+        // Integra os objetos antes da medição
+        manager.beginUpdate();
+    }
+
+    @Benchmark
+    public void update() {
+        manager.update(FIXED_TIMESTAMP);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.dispose();
+        sheet.dispose();
+        BenchGameObject.sheet = null;
+    }
+}
@@ -0,0 +1,87 @@
+package official.sketchBook.benchmarks.support;
+
+import com.badlogic.gdx.graphics.Texture;
+import official.sketchBook.engine.animation_related.ObjectAnimationPlayer;
+import official.sketchBook.engine.animation_related.Sprite;
+import official.sketchBook.engine.animation_related.SpriteSheetDataHandler;
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.gameObject_related.RenderableGameObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Objeto renderizável típico: um sprite handler, uma animação de 4 quadros e movimento linear que quica
+ * nas bordas de uma área fixa.
+ */
+public class BenchGameObject extends RenderableGameObject {
+
+    /// Largura da área em que os objetos se movem
+    public static final float AREA_SIZE = 4096f;
+
+    /// Sheet 4x1 compartilhada, definida pelo benchmark antes de criar os objetos
+    public static Texture sheet;
+
+    private float velocityX = 60f, velocityY = 35f;
+
+    public BenchGameObject(float x, float y, float z, BaseWorldDataManager worldDataManager) {
+        super(x, y, z, 32, 32, false, false, worldDataManager);
+    }
+
+    @Override
+    protected void initObject() {
+        if (sheet == null) {
+            throw new IllegalStateException("BenchGameObject.sheet deve ser definida antes de criar objetos");
+        }
+
+        this.spriteHandlerList = new ArrayList<>();
+        this.animationPlayerList = new ArrayList<>();
+
+        spriteHandlerList.add(new SpriteSheetDataHandler(
+            transformC.getX(),
+            transformC.getY(),
+            0,
+            0,
+            4,
+            1,
+            false,
+            false,
+            sheet
+        ));
+
+        ObjectAnimationPlayer animationPlayer = new ObjectAnimationPlayer();
+        animationPlayer.addAnimation("idle", Arrays.asList(
+            new Sprite(0, 0, 0.1f),
+            new Sprite(1, 0, 0.1f),
+            new Sprite(2, 0, 0.1f),
+            new Sprite(3, 0, 0.1f)
+        ));
+        animationPlayer.playAnimation("idle");
+        animationPlayerList.add(animationPlayer);
+    }
+
+    @Override
+    public void update(float delta) {
+        super.update(delta);
+
+        float x = transformC.getX() + velocityX * delta;
+        float y = transformC.getY() + velocityY * delta;
+
+        if (x < 0 || x > AREA_SIZE) velocityX = -velocityX;
+        if (y < 0 || y > AREA_SIZE) velocityY = -velocityY;
+
+        transformC.setX(x);
+        transformC.setY(y);
+        transformC.setxAxisInverted(velocityX < 0);
+    }
+
+    @Override
+    protected void onObjectDestruction() {
+
+    }
+
+    @Override
+    protected void disposeData() {
+
+    }
+}
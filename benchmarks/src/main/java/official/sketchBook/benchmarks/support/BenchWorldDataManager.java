@@ -0,0 +1,23 @@
+package official.sketchBook.benchmarks.support;
+
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.*;
+
+/// Manager sem mundo físico, para medir apenas o custo do próprio manager e dos objetos
+public class BenchWorldDataManager extends BaseWorldDataManager {
+
+    public BenchWorldDataManager() {
+        super(null, FIXED_TIMESTAMP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+    }
+
+    @Override
+    protected void setupSystems() {
+
+    }
+
+    @Override
+    protected void onManagerDestruction() {
+
+    }
+}
@@ -0,0 +1,99 @@
+package official.sketchBook.benchmarks.support;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * Ambiente libGDX mínimo para os benchmarks, sem janela nem contexto GL.
+ * <p>
+ * Gdx.gl, Gdx.app e Gdx.graphics são proxies que não fazem nada e retornam valores padrão, o que basta
+ * para criar texturas a partir de pixmaps. Gdx.input é um {@link ScriptedInput} controlado pelo benchmark.
+ */
+public final class HeadlessGdx {
+
+    private static ScriptedInput input;
+
+    private HeadlessGdx() {
+    }
+
+    /// Prepara o ambiente uma única vez por JVM
+    public static synchronized void init() {
+        if (input != null) return;
+
+        GdxNativesLoader.load();
+
+        Gdx.gl = Gdx.gl20 = noOp(GL20.class);
+        Gdx.app = noOp(Application.class);
+        Gdx.graphics = noOp(Graphics.class);
+
+        input = new ScriptedInput();
+        Gdx.input = input.asInput();
+    }
+
+    /// Input controlado pelo benchmark
+    public static ScriptedInput input() {
+        init();
+        return input;
+    }
+
+    /// Cria uma textura sólida, sem enviar nada para a GPU
+    public static Texture createTexture(int width, int height) {
+        init();
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+
+    /// Implementação da interface em que todo método retorna o valor padrão do seu tipo
+    @SuppressWarnings("unchecked")
+    static <T> T noOp(Class<T> type) {
+        InvocationHandler handler = (proxy, method, args) -> defaultValue(method.getReturnType());
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        return 0d;
+    }
+
+    /// Estado de teclas definido pelo benchmark, exposto como Gdx.input
+    public static final class ScriptedInput {
+        private final boolean[] pressed = new boolean[Input.Keys.MAX_KEYCODE + 1];
+
+        public void setPressed(int keycode, boolean isPressed) {
+            pressed[keycode] = isPressed;
+        }
+
+        public void releaseAll() {
+            java.util.Arrays.fill(pressed, false);
+        }
+
+        private Input asInput() {
+            InvocationHandler handler = (proxy, method, args) -> {
+                if (method.getName().equals("isKeyPressed")) {
+                    int keycode = (Integer) args[0];
+                    return keycode >= 0 && keycode < pressed.length && pressed[keycode];
+                }
+                return defaultValue(method.getReturnType());
+            };
+            return (Input) Proxy.newProxyInstance(Input.class.getClassLoader(), new Class<?>[]{Input.class}, handler);
+        }
+    }
+}
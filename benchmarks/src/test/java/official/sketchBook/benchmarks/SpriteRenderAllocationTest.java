@@ -0,0 +1,104 @@
+package official.sketchBook.benchmarks;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.sun.management.ThreadMXBean;
+import official.sketchBook.benchmarks.support.HeadlessGdx;
+import official.sketchBook.benchmarks.support.RecordingBatch;
+import official.sketchBook.engine.animation_related.Sprite;
+import official.sketchBook.engine.animation_related.SpriteSheetDataHandler;
+import official.sketchBook.engine.util_related.texture.TextureUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/// O caminho de renderização com o cache de regiões não deve alocar nada depois do primeiro uso da sheet
+public class SpriteRenderAllocationTest {
+
+    private static final int COLUMNS = 8, ROWS = 4, CANVAS_SIZE = 32;
+    private static final int RENDER_CALLS = 10_000;
+
+    /// Folga para alocações da própria medição, muito abaixo de uma TextureRegion por chamada
+    private static final long ALLOCATION_TOLERANCE_BYTES = 1024;
+
+    private ThreadMXBean threads;
+    private Texture sheet;
+    private Sprite[] sprites;
+    private SpriteSheetDataHandler handler;
+    private RecordingBatch batch;
+
+    @Before
+    public void setup() {
+        threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue("A JVM não mede alocação por thread", threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        sheet = HeadlessGdx.createTexture(COLUMNS * CANVAS_SIZE, ROWS * CANVAS_SIZE);
+
+        sprites = new Sprite[COLUMNS * ROWS];
+        for (int i = 0; i < sprites.length; i++) {
+            sprites[i] = new Sprite(i % COLUMNS, i / COLUMNS, 0.1f);
+        }
+
+        handler = new SpriteSheetDataHandler(0, 0, 0, 0, COLUMNS, ROWS, false, false, sheet);
+        batch = new RecordingBatch();
+        batch.begin();
+    }
+
+    @After
+    public void tearDown() {
+        if (sheet == null) return;
+        batch.end();
+        TextureUtils.disposeSpriteSheetRegionCache(sheet);
+        sheet.dispose();
+    }
+
+    @Test
+    public void renderSpriteDoesNotAllocate() {
+        renderSprites(RENDER_CALLS);                        //Monta o cache e carrega as classes antes de medir
+        batch.reset();
+
+        long allocated = measureAllocatedBytes(() -> renderSprites(RENDER_CALLS));
+
+        assertEquals(RENDER_CALLS, batch.getDrawCalls());
+        assertTrue(
+            "renderSprite alocou " + allocated + " bytes em " + RENDER_CALLS + " chamadas",
+            allocated <= ALLOCATION_TOLERANCE_BYTES
+        );
+    }
+
+    /// Garante que a medição enxerga alocações, usando o caminho antigo que cria uma região por chamada
+    @Test
+    public void obtainCurrentSpriteImageAllocatesPerCall() {
+        long allocated = measureAllocatedBytes(() -> {
+            for (int i = 0; i < RENDER_CALLS; i++) {
+                Sprite sprite = sprites[i % sprites.length];
+                batch.draw(TextureUtils.obtainCurrentSpriteImage(sprite, CANVAS_SIZE, CANVAS_SIZE, sheet, (i & 1) == 0, false), 0, 0);
+            }
+        });
+
+        assertTrue(
+            "obtainCurrentSpriteImage deveria alocar, mediu " + allocated + " bytes",
+            allocated > ALLOCATION_TOLERANCE_BYTES
+        );
+    }
+
+    private void renderSprites(int calls) {
+        for (int i = 0; i < calls; i++) {
+            handler.setxAxisInvert((i & 1) == 0);
+            handler.renderSprite(batch, sprites[i % sprites.length]);
+        }
+    }
+
+    private long measureAllocatedBytes(Runnable work) {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        work.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+}
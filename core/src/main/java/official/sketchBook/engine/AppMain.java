@@ -1,7 +1,10 @@
 package official.sketchBook.engine;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import official.sketchBook.engine.resource_related.ResourceRegistry;
+import official.sketchBook.engine.screen_related.BaseScreen;
 import official.sketchBook.game.screen_related.MenuScreen;
 import official.sketchBook.game.screen_related.PlayScreen;
 
@@ -10,9 +13,15 @@ import official.sketchBook.game.screen_related.PlayScreen;
  */
 public class AppMain extends Game {
 
+    /// Tempo máximo por frame gasto na thread do libGDX finalizando recursos carregados em segundo plano
+    private static final int RESOURCE_UPLOAD_BUDGET_MS = 4;
+
     public SpriteBatch gameBatch;
     public SpriteBatch uiBatch;
 
+    /// Recursos compartilhados entre as screens, mantidos enquanto alguma screen os referencia
+    public ResourceRegistry resourceRegistry;
+
     private MenuScreen menuScreen;
     private PlayScreen playScreen;
 
@@ -20,18 +29,36 @@ public class AppMain extends Game {
     public void create() {
         gameBatch = new SpriteBatch();
         uiBatch = new SpriteBatch();
+        resourceRegistry = new ResourceRegistry();
 
+        // A PlayScreen é criada quando o menu termina de carregar os recursos dela
         menuScreen = new MenuScreen(this);
-        playScreen = new PlayScreen(this);
 
         this.setScreen(menuScreen);
     }
 
     @Override
     public void render() {
+        resourceRegistry.update(RESOURCE_UPLOAD_BUDGET_MS);
         super.render();
     }
 
+    /// Adquire os recursos da nova screen antes de liberar os da anterior, para não descarregar os compartilhados
+    @Override
+    public void setScreen(Screen screen) {
+        Screen previous = this.screen;
+
+        if (screen instanceof BaseScreen) {
+            resourceRegistry.acquire(((BaseScreen) screen).getResourceManifest());
+        }
+
+        super.setScreen(screen);
+
+        if (previous instanceof BaseScreen) {
+            resourceRegistry.release(((BaseScreen) previous).getResourceManifest());
+        }
+    }
+
     @Override
     public void dispose() {
         gameBatch.dispose();
@@ -40,6 +67,13 @@ public class AppMain extends Game {
         if (screen != null) {
             screen.dispose();
         }
+
+        // Solta os recursos da screen atual, os demais já foram liberados nas trocas de screen
+        if (screen instanceof BaseScreen) {
+            resourceRegistry.release(((BaseScreen) screen).getResourceManifest());
+        }
+
+        resourceRegistry.dispose();
     }
 
     public MenuScreen getMenuScreen() {
@@ -47,6 +81,9 @@ public class AppMain extends Game {
     }
 
     public PlayScreen getPlayScreen() {
+        if (playScreen == null) {
+            playScreen = new PlayScreen(this);
+        }
         return playScreen;
     }
 }
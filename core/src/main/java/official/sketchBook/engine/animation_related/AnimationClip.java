@@ -0,0 +1,102 @@
+package official.sketchBook.engine.animation_related;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Animação pré-compilada e imutável.
+ * <p>
+ * Guarda os quadros em arrays primitivos (células da sprite sheet e durações) para que
+ * o {@link ObjectAnimationPlayer} avance os quadros sem lookups em mapas nem boxing.
+ * Como não possui estado de reprodução, uma mesma instância pode ser compartilhada
+ * por quantos players forem necessários.
+ */
+public final class AnimationClip {
+
+    /// Sprites originais, usados pelo caminho de renderização
+    private final Sprite[] frames;
+
+    /// Visão somente leitura dos sprites, para a API baseada em listas
+    private final List<Sprite> frameList;
+
+    /// Coluna de cada quadro na sprite sheet
+    private final int[] frameIndexX;
+
+    /// Linha de cada quadro na sprite sheet
+    private final int[] frameIndexY;
+
+    /// Duração declarada de cada quadro em segundos (<= 0 mantém a duração do quadro anterior)
+    private final float[] frameDurations;
+
+    /// Soma de todas as durações positivas
+    private final float totalDuration;
+
+    public AnimationClip(List<Sprite> sprites) {
+        this(sprites == null ? null : sprites.toArray(new Sprite[0]));
+    }
+
+    public AnimationClip(Sprite... sprites) {
+        if (sprites == null || sprites.length == 0) {
+            throw new IllegalArgumentException("Um clip precisa de pelo menos um quadro");
+        }
+
+        int size = sprites.length;
+        this.frames = Arrays.copyOf(sprites, size);
+        this.frameList = Collections.unmodifiableList(Arrays.asList(frames));
+        this.frameIndexX = new int[size];
+        this.frameIndexY = new int[size];
+        this.frameDurations = new float[size];
+
+        float accumulated = 0;
+        for (int i = 0; i < size; i++) {
+            Sprite sprite = frames[i];
+            if (sprite == null) {
+                throw new IllegalArgumentException("Quadro " + i + " do clip é null");
+            }
+
+            frameIndexX[i] = sprite.getIndexX();
+            frameIndexY[i] = sprite.getIndexY();
+            frameDurations[i] = sprite.getDuration();
+
+            accumulated += sprite.getDuration() > 0 ? sprite.getDuration() : 0;
+        }
+
+        this.totalDuration = accumulated;
+    }
+
+    /// Quantidade de quadros do clip
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    /// Sprite de um quadro
+    public Sprite getFrame(int frameIndex) {
+        return frames[frameIndex];
+    }
+
+    /// Coluna do quadro na sprite sheet
+    public int getFrameIndexX(int frameIndex) {
+        return frameIndexX[frameIndex];
+    }
+
+    /// Linha do quadro na sprite sheet
+    public int getFrameIndexY(int frameIndex) {
+        return frameIndexY[frameIndex];
+    }
+
+    /// Duração declarada do quadro em segundos
+    public float getFrameDuration(int frameIndex) {
+        return frameDurations[frameIndex];
+    }
+
+    /// Soma das durações positivas de todos os quadros
+    public float getTotalDuration() {
+        return totalDuration;
+    }
+
+    /// Visão somente leitura dos sprites do clip
+    public List<Sprite> getFrames() {
+        return frameList;
+    }
+}
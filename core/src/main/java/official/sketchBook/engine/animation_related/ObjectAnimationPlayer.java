@@ -5,10 +5,17 @@ import java.util.*;
 /**
  * Gerencia a reprodução de animações com suporte a eventos por frame.
  * Permite adicionar múltiplas animações, controlar velocidade, looping e disparar callbacks em frames específicos.
+ * <p>
+ * As animações ficam numa tabela de {@link AnimationClip} indexada por id inteiro.
+ * A API por nome continua disponível, mas {@link #play(int)} e {@link #update(float)}
+ * não fazem lookups em mapas nem boxing.
  */
 public class ObjectAnimationPlayer {
-    /// Animação atualmente em reprodução
-    private List<Sprite> currentAnimation;
+    /// Clip atualmente em reprodução
+    private AnimationClip currentClip;
+
+    /// Id do clip atual na tabela (-1 para animações dinâmicas ou nenhuma animação)
+    private int currentClipId = -1;
 
     /// Sprite atual baseado no índice da animação (aniTick)
     private Sprite currentSprite;
@@ -16,8 +23,20 @@ public class ObjectAnimationPlayer {
     /// Chave/nome da animação atualmente em reprodução
     private String currentAnimationKey;
 
-    /// Mapa contendo todas as animações registradas (chave -> lista de sprites)
-    private final Map<String, List<Sprite>> animations;
+    /// Tabela de clips registrados, o índice é o id do clip
+    private final List<AnimationClip> clips;
+
+    /// Nome de cada clip registrado, alinhado com a tabela de clips
+    private final List<String> clipKeys;
+
+    /// Mapa de nome para id, usado apenas pela API baseada em strings
+    private final Map<String, Integer> clipIdsByKey;
+
+    /// Eventos registrados para cada clip, alinhado com a tabela de clips
+    private final List<List<AnimationFrameEvent>> frameEvents;
+
+    /// Eventos do clip atual (null quando a animação é dinâmica)
+    private List<AnimationFrameEvent> currentFrameEvents;
 
     /// Índice do frame atual na animação
     private int aniTick;
@@ -25,6 +44,9 @@ public class ObjectAnimationPlayer {
     /// Duração do frame atual em segundos
     private float frameDuration;
 
+    /// Duração do frame atual já ajustada pela velocidade, recalculada apenas quando muda
+    private float scaledFrameDuration;
+
     /// Tempo acumulado desde a última transição de frame
     private float elapsedTime;
 
@@ -37,9 +59,6 @@ public class ObjectAnimationPlayer {
     /// Define se a animação deve repetir ao atingir o último frame
     private boolean animationLooping = true;
 
-    /// Mapa contendo eventos registrados para cada animação (animationKey -> lista de eventos)
-    private final Map<String, List<AnimationFrameEvent>> frameEvents;
-
     /// Rastreia quais eventos já foram disparados nesta sessão para evitar repetições indevidas
     private final BitSet triggeredFrames;
 
@@ -59,19 +78,50 @@ public class ObjectAnimationPlayer {
     }
 
     public ObjectAnimationPlayer() {
-        this.animations = new HashMap<>();
-        this.frameEvents = new HashMap<>();
+        this.clips = new ArrayList<>();
+        this.clipKeys = new ArrayList<>();
+        this.clipIdsByKey = new HashMap<>();
+        this.frameEvents = new ArrayList<>();
         this.triggeredFrames = new BitSet();
         this.autoUpdateAni = true;
         this.animationSpeed = 1.0;
     }
 
-    public void addAnimation(String animationTitle, List<Sprite> animation) {
+    /**
+     * Compila e registra uma animação a partir de uma lista de sprites.
+     *
+     * @return Id do clip, para uso com {@link #play(int)}
+     */
+    public int addAnimation(String animationTitle, List<Sprite> animation) {
         if (animationTitle == null || animation == null || animation.isEmpty()) {
             throw new IllegalArgumentException("Animation title e lista não podem ser null ou vazios");
         }
-        animations.put(animationTitle, animation);
-        frameEvents.putIfAbsent(animationTitle, new ArrayList<>());
+        return addAnimation(animationTitle, new AnimationClip(animation));
+    }
+
+    /**
+     * Registra um clip já compilado, que pode ser compartilhado com outros players.
+     * Registrar novamente um nome existente substitui o clip e mantém o mesmo id e eventos.
+     *
+     * @return Id do clip, para uso com {@link #play(int)}
+     */
+    public int addAnimation(String animationTitle, AnimationClip clip) {
+        if (animationTitle == null || clip == null) {
+            throw new IllegalArgumentException("Animation title e clip não podem ser null");
+        }
+
+        Integer existingId = clipIdsByKey.get(animationTitle);
+        if (existingId != null) {
+            clips.set(existingId, clip);
+            return existingId;
+        }
+
+        int clipId = clips.size();
+        clips.add(clip);
+        clipKeys.add(animationTitle);
+        frameEvents.add(new ArrayList<AnimationFrameEvent>());
+        clipIdsByKey.put(animationTitle, clipId);
+        return clipId;
     }
 
     /**
@@ -86,24 +136,34 @@ public class ObjectAnimationPlayer {
             throw new IllegalArgumentException("Animation key e callback não podem ser null");
         }
 
-        if (!animations.containsKey(animationKey)) {
+        if (!clipIdsByKey.containsKey(animationKey)) {
             throw new IllegalArgumentException("Animação '" + animationKey + "' não existe");
         }
 
-        List<Sprite> animation = animations.get(animationKey);
-        if (frameIndex < 0 || frameIndex >= animation.size()) {
-            throw new IllegalArgumentException("Frame index " + frameIndex + " fora do intervalo [0, " + (animation.size() - 1) + "]");
+        addFrameEvent(clipIdsByKey.get(animationKey), frameIndex, callback);
+    }
+
+    /// Adiciona um evento de frame usando o id do clip
+    public void addFrameEvent(int clipId, int frameIndex, AnimationEventCallback callback) {
+        if (callback == null) {
+            throw new IllegalArgumentException("Callback não pode ser null");
+        }
+
+        AnimationClip clip = getClip(clipId);
+        if (frameIndex < 0 || frameIndex >= clip.getFrameCount()) {
+            throw new IllegalArgumentException("Frame index " + frameIndex + " fora do intervalo [0, " + (clip.getFrameCount() - 1) + "]");
         }
 
-        frameEvents.get(animationKey).add(new AnimationFrameEvent(frameIndex, callback));
+        frameEvents.get(clipId).add(new AnimationFrameEvent(frameIndex, callback));
     }
 
     /**
      * Remove um evento específico
      */
     public void removeFrameEvent(String animationKey, int frameIndex) {
-        if (frameEvents.containsKey(animationKey)) {
-            frameEvents.get(animationKey).removeIf(e -> e.frameIndex == frameIndex);
+        Integer clipId = clipIdsByKey.get(animationKey);
+        if (clipId != null) {
+            frameEvents.get(clipId).removeIf(e -> e.frameIndex == frameIndex);
         }
     }
 
@@ -111,8 +171,9 @@ public class ObjectAnimationPlayer {
      * Remove todos os eventos de uma animação
      */
     public void clearAnimationEvents(String animationKey) {
-        if (frameEvents.containsKey(animationKey)) {
-            frameEvents.get(animationKey).clear();
+        Integer clipId = clipIdsByKey.get(animationKey);
+        if (clipId != null) {
+            frameEvents.get(clipId).clear();
         }
     }
 
@@ -120,13 +181,12 @@ public class ObjectAnimationPlayer {
      * Verifica e dispara eventos para o frame atual
      */
     private void checkAndTriggerFrameEvents() {
-        if (currentAnimationKey == null || !frameEvents.containsKey(currentAnimationKey)) {
+        if (currentFrameEvents == null || currentFrameEvents.isEmpty()) {
             return;
         }
 
-        List<AnimationFrameEvent> events = frameEvents.get(currentAnimationKey);
-
-        for (AnimationFrameEvent event : events) {
+        for (int i = 0; i < currentFrameEvents.size(); i++) {
+            AnimationFrameEvent event = currentFrameEvents.get(i);
             if (event.frameIndex == aniTick && !triggeredFrames.get(aniTick)) {
                 event.callback.onEvent(currentAnimationKey, aniTick);
                 triggeredFrames.set(aniTick);
@@ -142,33 +202,40 @@ public class ObjectAnimationPlayer {
         triggeredFrames.clear();
     }
 
+    /// Atualiza a duração do frame atual a partir do clip
+    /// Quadros sem duração positiva mantêm a duração do quadro anterior
+    private void refreshFrameDuration() {
+        float duration = currentClip.getFrameDuration(aniTick);
+        if (duration > 0) {
+            frameDuration = duration;
+        }
+        scaledFrameDuration = (float) (frameDuration / animationSpeed);
+    }
+
     /// Atualiza a animação atual baseado no tempo decorrido
     /// Gerencia transição de frames, looping e disparo de eventos
     public void update(float deltaTime) {
-        if (currentAnimation == null || currentAnimation.isEmpty() || !autoUpdateAni) return;
+        if (currentClip == null || !autoUpdateAni) return;
 
         elapsedTime += deltaTime;
-        currentSprite = getCurrentSprite();
 
-        if (currentSprite.getDuration() > 0) {
-            frameDuration = currentSprite.getDuration();
-        }
-
-        if (elapsedTime >= (float) (frameDuration / animationSpeed)) {
+        if (elapsedTime >= scaledFrameDuration) {
 
             aniTick++;
-            elapsedTime -= (float) (frameDuration / animationSpeed);
+            elapsedTime -= scaledFrameDuration;
 
-            if (aniTick >= currentAnimation.size()) {
+            if (aniTick >= currentClip.getFrameCount()) {
                 if (animationLooping) {
                     aniTick = 0;
                     clearTriggeredEvents();
                 } else {
-                    aniTick = currentAnimation.size() - 1;
+                    aniTick = currentClip.getFrameCount() - 1;
                     autoUpdateAni = false;
                 }
             }
 
+            refreshFrameDuration();
+
             // Verifica eventos apenas se não chegou ao fim
             checkAndTriggerFrameEvents();
 
@@ -186,34 +253,46 @@ public class ObjectAnimationPlayer {
 
     /// Ajusta a velocidade da animação para que ela termine em um tempo específico em segundos
     public void setAnimationSpeedToTargetDuration(float targetDuration) {
-        if (currentAnimation == null || currentAnimation.isEmpty() || targetDuration == 0) return;
+        if (currentClip == null || targetDuration == 0) return;
 
-        float totalAnimationTime = getTotalAnimationTime(currentAnimation);
+        float totalAnimationTime = currentClip.getTotalDuration();
 
         if (totalAnimationTime == 0) return;
 
         animationSpeed = totalAnimationTime / targetDuration;
+        refreshFrameDuration();
     }
 
     /// Reseta a velocidade da animação para o padrão (1.0)
     public void resetAnimationSpeed() {
         animationSpeed = 1;
+        if (currentClip != null) {
+            refreshFrameDuration();
+        }
     }
 
     /// Define a animação atual sem usar a chave (para animações dinâmicas)
     public void setCurrentAnimation(List<Sprite> animation) {
         if (animation != null && !animation.isEmpty()) {
-            this.currentAnimation = animation;
-            this.aniTick = 0;
-            this.elapsedTime = 0;
-            this.currentAnimationKey = null;
-            clearTriggeredEvents();
+            startClip(new AnimationClip(animation), -1);
+        }
+    }
+
+    /// Define um clip como animação atual sem registrá-lo (para animações dinâmicas)
+    public void setCurrentAnimation(AnimationClip clip) {
+        if (clip != null) {
+            startClip(clip, -1);
         }
     }
 
     /// Verifica se uma animação específica está sendo reproduzida
     public boolean isPlaying(String animationTitle) {
-        return currentAnimation != null && currentAnimationKey != null && currentAnimationKey.equals(animationTitle);
+        return currentClip != null && currentAnimationKey != null && currentAnimationKey.equals(animationTitle);
+    }
+
+    /// Verifica se um clip específico está sendo reproduzido
+    public boolean isPlaying(int clipId) {
+        return currentClip != null && currentClipId == clipId;
     }
 
     /// Começa a reproduzir uma animação registrada pelo seu nome/chave
@@ -222,30 +301,53 @@ public class ObjectAnimationPlayer {
             throw new IllegalArgumentException("Animation title não pode ser null");
         }
 
-        List<Sprite> newAnimation = animations.get(title);
+        Integer clipId = clipIdsByKey.get(title);
 
-        if (newAnimation == null) {
+        if (clipId == null) {
             throw new IllegalArgumentException("Animação '" + title + "' não encontrada");
         }
 
-        if (!newAnimation.isEmpty() && currentAnimation != newAnimation) {
-            currentAnimation = newAnimation;
-            currentAnimationKey = title;
+        play(clipId);
+    }
+
+    /// Começa a reproduzir um clip registrado pelo seu id, sem lookups em mapas
+    public void play(int clipId) {
+        AnimationClip newClip = getClip(clipId);
+
+        if (currentClip != newClip) {
+            startClip(newClip, clipId);
             animationLooping = true;
-            aniTick = 0;
-            elapsedTime = 0;
-            clearTriggeredEvents();
             checkAndTriggerFrameEvents();
         }
     }
 
+    /// Volta a animação atual para o primeiro quadro, usado ao reaproveitar objetos de um pool
+    public void restart() {
+        if (currentClip == null) return;
+        startClip(currentClip, currentClipId);
+        animationLooping = true;
+        checkAndTriggerFrameEvents();
+    }
+
+    /// Reinicia o estado de reprodução para um novo clip
+    private void startClip(AnimationClip clip, int clipId) {
+        this.currentClip = clip;
+        this.currentClipId = clipId;
+        this.currentAnimationKey = clipId >= 0 ? clipKeys.get(clipId) : null;
+        this.currentFrameEvents = clipId >= 0 ? frameEvents.get(clipId) : null;
+        this.aniTick = 0;
+        this.elapsedTime = 0;
+        clearTriggeredEvents();
+        refreshFrameDuration();
+    }
+
     /// Verifica se a animação atual terminou (chegou ao último frame e não está em loop)
     public boolean isAnimationFinished() {
-        if (currentAnimation == null || currentAnimation.isEmpty()) {
+        if (currentClip == null) {
             return false;
         }
         return !animationLooping
-            && aniTick == currentAnimation.size() - 1
+            && aniTick == currentClip.getFrameCount() - 1
             && !autoUpdateAni;
     }
 
@@ -263,15 +365,25 @@ public class ObjectAnimationPlayer {
 
     /// Retorna o sprite do frame atual
     public Sprite getCurrentSprite() {
-        if (currentAnimation == null || currentAnimation.isEmpty()) {
+        if (currentClip == null) {
             throw new IllegalStateException("Nenhuma animacao esta sendo tocada");
         }
-        return currentAnimation.get(aniTick);
+        return currentClip.getFrame(aniTick);
     }
 
     /// Retorna a lista de sprites da animação atual
     public List<Sprite> getCurrentAnimation() {
-        return currentAnimation;
+        return currentClip == null ? null : currentClip.getFrames();
+    }
+
+    /// Retorna o clip atualmente em reprodução
+    public AnimationClip getCurrentClip() {
+        return currentClip;
+    }
+
+    /// Retorna o id do clip atual (-1 para animações dinâmicas ou nenhuma animação)
+    public int getCurrentClipId() {
+        return currentClipId;
     }
 
     /// Verifica se a animação está sendo atualizada automaticamente
@@ -293,11 +405,12 @@ public class ObjectAnimationPlayer {
 
     /// Define o frame atual (aniTick) e dispara eventos se existirem para esse frame
     public void setAniTick(int aniTick) {
-        if (currentAnimation == null || currentAnimation.isEmpty()) {
+        if (currentClip == null) {
             throw new IllegalStateException("Nenhuma animação está sendo tocada");
         }
-        if (aniTick >= 0 && aniTick < currentAnimation.size()) {
+        if (aniTick >= 0 && aniTick < currentClip.getFrameCount()) {
             this.aniTick = aniTick;
+            refreshFrameDuration();
             clearTriggeredEvents();
             checkAndTriggerFrameEvents();
         }
@@ -319,10 +432,28 @@ public class ObjectAnimationPlayer {
             throw new IllegalArgumentException("Animation speed deve ser maior que 0");
         }
         this.animationSpeed = animationSpeed;
+        if (currentClip != null) {
+            refreshFrameDuration();
+        }
     }
 
     /// Retorna a lista de sprites de uma animação pela sua chave
     public List<Sprite> getAnimationByKey(String key) {
-        return animations.get(key);
+        Integer clipId = clipIdsByKey.get(key);
+        return clipId == null ? null : clips.get(clipId).getFrames();
+    }
+
+    /// Retorna o id de um clip pelo seu nome, ou -1 se não existir
+    public int getClipId(String key) {
+        Integer clipId = clipIdsByKey.get(key);
+        return clipId == null ? -1 : clipId;
+    }
+
+    /// Retorna um clip registrado pelo seu id
+    public AnimationClip getClip(int clipId) {
+        if (clipId < 0 || clipId >= clips.size()) {
+            throw new IllegalArgumentException("Clip " + clipId + " não encontrado");
+        }
+        return clips.get(clipId);
     }
 }
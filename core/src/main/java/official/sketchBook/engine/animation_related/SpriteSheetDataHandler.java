@@ -1,15 +1,21 @@
 package official.sketchBook.engine.animation_related;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import official.sketchBook.engine.util_related.texture.SpriteSheetRegionCache;
 
-import static official.sketchBook.engine.util_related.texture.TextureUtils.obtainCurrentSpriteImage;
+import static official.sketchBook.engine.util_related.texture.TextureUtils.obtainSpriteSheetRegionCache;
 
 /**
  * Gerencia dados e operações relacionados a uma sprite sheet,
  * incluindo posicionamento, rotação, escala e renderização de sprites.
  * <p>
- * IMPORTANTE: A textura NÃO é disposada aqui - é gerenciada estaticamente por classe.
+ * A sheet pode ser uma textura avulsa ou uma região de um
+ * {@link official.sketchBook.engine.util_related.texture.SpriteSheetAtlas}, que permite ao batch agrupar
+ * os draws de objetos diferentes.
+ * <p>
+ * IMPORTANTE: A textura NÃO é disposada aqui - é gerenciada pela classe do objeto ou pelo atlas.
  * Cada GameObject tem sua própria instância desta classe.
  * <p>
  * Ordem de transformação esperada:
@@ -46,9 +52,12 @@ public class SpriteSheetDataHandler {
     /// Define se o sprite está espelhado verticalmente
     private boolean yAxisInvert;
 
-    /// Textura contendo a sprite sheet (não owned, gerenciada pelo AssetManager)
+    /// Textura contendo a sprite sheet (não owned), a página do atlas quando a sheet é uma região
     private final Texture spriteSheet;
 
+    /// Quadros pré-construídos da sprite sheet, compartilhados com outros handlers da mesma sheet
+    private final SpriteSheetRegionCache regionCache;
+
     /**
      * Construtor da classe responsável por inicializar os dados da sprite sheet.
      *
@@ -74,13 +83,55 @@ public class SpriteSheetDataHandler {
         boolean yAxisInvert,
         Texture spriteSheet
     ) {
-        if (spriteSheet == null) {
-            throw new IllegalArgumentException("Texture não pode ser null");
-        }
-        if (spriteQuantityX <= 0 || spriteQuantityY <= 0) {
-            throw new IllegalArgumentException("Quantidades de sprites devem ser maiores que 0");
-        }
+        this(
+            x,
+            y,
+            drawOffSetX,
+            drawOffSetY,
+            xAxisInvert,
+            yAxisInvert,
+            obtainRegionCache(spriteSheet, spriteQuantityX, spriteQuantityY)
+        );
+    }
 
+    /**
+     * Construtor para uma sprite sheet guardada numa região de atlas.
+     *
+     * @param spriteSheetRegion Região da sheet dentro da página do atlas (não será disposed aqui).
+     * @throws IllegalArgumentException Se spriteSheetRegion for null ou quantidades forem <= 0.
+     * @see #SpriteSheetDataHandler(float, float, float, float, int, int, boolean, boolean, Texture)
+     */
+    public SpriteSheetDataHandler(
+        float x,
+        float y,
+        float drawOffSetX,
+        float drawOffSetY,
+        int spriteQuantityX,
+        int spriteQuantityY,
+        boolean xAxisInvert,
+        boolean yAxisInvert,
+        TextureRegion spriteSheetRegion
+    ) {
+        this(
+            x,
+            y,
+            drawOffSetX,
+            drawOffSetY,
+            xAxisInvert,
+            yAxisInvert,
+            obtainRegionCache(spriteSheetRegion, spriteQuantityX, spriteQuantityY)
+        );
+    }
+
+    private SpriteSheetDataHandler(
+        float x,
+        float y,
+        float drawOffSetX,
+        float drawOffSetY,
+        boolean xAxisInvert,
+        boolean yAxisInvert,
+        SpriteSheetRegionCache regionCache
+    ) {
         this.x = x;
         this.y = y;
         this.drawOffSetX = drawOffSetX;
@@ -89,14 +140,47 @@ public class SpriteSheetDataHandler {
         this.xAxisInvert = xAxisInvert;
         this.yAxisInvert = yAxisInvert;
 
-        this.spriteSheet = spriteSheet;
-        this.canvasWidth = spriteSheet.getWidth() / spriteQuantityX;
-        this.canvasHeight = spriteSheet.getHeight() / spriteQuantityY;
+        this.regionCache = regionCache;
+        this.spriteSheet = regionCache.getSpriteSheet();
+        this.canvasWidth = regionCache.getCanvasWidth();
+        this.canvasHeight = regionCache.getCanvasHeight();
 
         updateRenderDimensions();
         updateRotationOriginToCenter();
     }
 
+    private static SpriteSheetRegionCache obtainRegionCache(Texture spriteSheet, int spriteQuantityX, int spriteQuantityY) {
+        if (spriteSheet == null) {
+            throw new IllegalArgumentException("Texture não pode ser null");
+        }
+        checkSpriteQuantities(spriteQuantityX, spriteQuantityY);
+
+        return obtainSpriteSheetRegionCache(
+            spriteSheet,
+            spriteSheet.getWidth() / spriteQuantityX,
+            spriteSheet.getHeight() / spriteQuantityY
+        );
+    }
+
+    private static SpriteSheetRegionCache obtainRegionCache(TextureRegion spriteSheetRegion, int spriteQuantityX, int spriteQuantityY) {
+        if (spriteSheetRegion == null) {
+            throw new IllegalArgumentException("Região da sprite sheet não pode ser null");
+        }
+        checkSpriteQuantities(spriteQuantityX, spriteQuantityY);
+
+        return obtainSpriteSheetRegionCache(
+            spriteSheetRegion,
+            spriteSheetRegion.getRegionWidth() / spriteQuantityX,
+            spriteSheetRegion.getRegionHeight() / spriteQuantityY
+        );
+    }
+
+    private static void checkSpriteQuantities(int spriteQuantityX, int spriteQuantityY) {
+        if (spriteQuantityX <= 0 || spriteQuantityY <= 0) {
+            throw new IllegalArgumentException("Quantidades de sprites devem ser maiores que 0");
+        }
+    }
+
     /// Calcula as dimensões reais de renderização com base na escala atual
     /// Usa apenas multiplicação: renderWidth = canvasWidth * scaleX
     private void updateRenderDimensions() {
@@ -165,20 +249,14 @@ public class SpriteSheetDataHandler {
     /**
      * Renderiza o sprite atual com base no estado interno da classe.
      * A textura NÃO é disposada aqui, pois é gerenciada estaticamente por classe.
+     * O quadro é obtido do cache da sheet, então a renderização não aloca.
      *
-     * @param batch         SpriteBatch usado para desenhar o sprite.
+     * @param batch         Batch usado para desenhar o sprite.
      * @param currentSprite Instância de Sprite contendo as informações do frame atual.
      */
-    public void renderSprite(SpriteBatch batch, Sprite currentSprite) {
+    public void renderSprite(Batch batch, Sprite currentSprite) {
         batch.draw(
-            obtainCurrentSpriteImage(
-                currentSprite,
-                canvasWidth,
-                canvasHeight,
-                spriteSheet,
-                xAxisInvert,
-                yAxisInvert
-            ),
+            getRegion(currentSprite),
             x,
             y,
             originX,
@@ -191,6 +269,16 @@ public class SpriteSheetDataHandler {
         );
     }
 
+    /// Quadro do sprite já espelhado conforme o estado atual, compartilhado pelo cache da sheet e nunca modificado
+    public TextureRegion getRegion(Sprite currentSprite) {
+        return regionCache.getRegion(
+            currentSprite.getIndexX(),
+            currentSprite.getIndexY(),
+            xAxisInvert,
+            yAxisInvert
+        );
+    }
+
     /// Define o offset X da renderização (em pixels, não escala com a imagem)
     public void setDrawOffSetX(float drawOffSetX) {
         this.drawOffSetX = drawOffSetX;
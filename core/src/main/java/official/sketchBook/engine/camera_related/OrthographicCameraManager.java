@@ -122,6 +122,28 @@ public class OrthographicCameraManager {
         viewport.update(width, height, true);
     }
 
+    // --- LIMITES VISÍVEIS (usados pelo culling) ---
+
+    /// Borda esquerda da área visível, em unidades do mundo
+    public float getViewLeft() {
+        return camera.position.x - (camera.viewportWidth * camera.zoom) / 2f;
+    }
+
+    /// Borda direita da área visível, em unidades do mundo
+    public float getViewRight() {
+        return camera.position.x + (camera.viewportWidth * camera.zoom) / 2f;
+    }
+
+    /// Borda inferior da área visível, em unidades do mundo
+    public float getViewBottom() {
+        return camera.position.y - (camera.viewportHeight * camera.zoom) / 2f;
+    }
+
+    /// Borda superior da área visível, em unidades do mundo
+    public float getViewTop() {
+        return camera.position.y + (camera.viewportHeight * camera.zoom) / 2f;
+    }
+
     public OrthographicCamera getCamera() { return camera; }
     public Viewport getViewport() { return viewport; }
 }
@@ -1,46 +1,123 @@
 package official.sketchBook.engine.components_related.base_components;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.KeyAction;
+import official.sketchBook.engine.input_related.InputSnapshot;
+import official.sketchBook.engine.input_related.KeyEventDispatcher;
+
+import java.util.Arrays;
+
+/**
+ * Componente que liga teclas a ações.
+ * <p>
+ * As ligações e o estado de cada tecla ficam em arrays indexados pelo keycode, sem boxing nem mapas.
+ * As teclas são lidas, em ordem de preferência, do {@link InputSnapshot} do update system (capturado uma
+ * vez por passo fixo para todos os controllers), dos eventos de um {@link KeyEventDispatcher} ou, sem
+ * nenhum dos dois, por polling de {@code Gdx.input.isKeyPressed} nas teclas ligadas.
+ */
+public abstract class KeyBoundControllerComponent implements Component {
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Consumer;
+    private static final int KEY_TABLE_SIZE = Input.Keys.MAX_KEYCODE + 1;
 
-public abstract class KeyBoundControllerComponent implements Component {
+    /// Ação de cada keycode, null se a tecla não estiver ligada
+    protected final KeyAction[] keyBindings = new KeyAction[KEY_TABLE_SIZE];
+    /// Se cada keycode está pressionado, segundo o último evento processado
+    protected final boolean[] keyStates = new boolean[KEY_TABLE_SIZE];
+
+    /// Lista densa das teclas ligadas, usada no polling e na ressincronização
+    protected int[] boundKeys = new int[8];
+    protected int boundKeyCount;
+
+    /// Estado das teclas compartilhado, capturado pelo update system
+    private InputSnapshot inputSnapshot;
+
+    /// Fonte de eventos, null para usar polling
+    private KeyEventDispatcher dispatcher;
+    /// Sequência do próximo evento do dispatcher a processar
+    private long dispatcherCursor;
+
+    protected boolean disposed = false;
 
-    protected final Map<Integer, Consumer<Boolean>> keyBindings;
-    protected final Map<Integer, Boolean> keyStates;
+    public void bindKey(int key, KeyAction action) {
+        checkKeycode(key);
 
-    protected Boolean disposed = false;
+        if (keyBindings[key] == null) {
+            if (boundKeyCount == boundKeys.length) {
+                boundKeys = Arrays.copyOf(boundKeys, boundKeyCount * 2);
+            }
+            boundKeys[boundKeyCount++] = key;
+        }
+
+        keyBindings[key] = action;
+        keyStates[key] = false; // Inicializa como solto
 
-    public KeyBoundControllerComponent() {
-        this.keyBindings = new HashMap<>();
-        this.keyStates = new HashMap<>();
+        if (inputSnapshot != null) {
+            inputSnapshot.track(key);
+        }
     }
 
-    public void bindKey(int key, Consumer<Boolean> action) {
-        keyBindings.put(key, action);
-        keyStates.put(key, false); // Inicializa como solto
+    public void unbindKey(int key) {
+        checkKeycode(key);
+        if (keyBindings[key] == null) return;
+
+        keyBindings[key] = null;
+        keyStates[key] = false;
+
+        for (int i = 0; i < boundKeyCount; i++) {
+            if (boundKeys[i] == key) {
+                boundKeys[i] = boundKeys[--boundKeyCount];
+                break;
+            }
+        }
     }
 
+    /// Keycodes fora da tabela (ex.: Input.Keys.ANY_KEY) são ignorados, como no KeyEventDispatcher
     public void handleKeyDown(int keycode) {
-        if (keyBindings.containsKey(keycode) && !keyStates.get(keycode)) {
-            keyStates.put(keycode, true);
-            keyBindings.get(keycode).accept(true);
+        if (!isInTable(keycode)) return;
+        if (keyBindings[keycode] != null && !keyStates[keycode]) {
+            keyStates[keycode] = true;
+            keyBindings[keycode].onKey(true);
         }
     }
 
     public void handleKeyUp(int keycode) {
-        if (keyBindings.containsKey(keycode) && keyStates.get(keycode)) {
-            keyStates.put(keycode, false);
-            keyBindings.get(keycode).accept(false);
+        if (!isInTable(keycode)) return;
+        if (keyBindings[keycode] != null && keyStates[keycode]) {
+            keyStates[keycode] = false;
+            keyBindings[keycode].onKey(false);
+        }
+    }
+
+    /// Passa a ler as teclas do snapshot compartilhado, registrando nele as teclas já ligadas
+    public void useInputSnapshot(InputSnapshot inputSnapshot) {
+        this.inputSnapshot = inputSnapshot;
+        if (inputSnapshot == null) return;
+
+        for (int i = 0; i < boundKeyCount; i++) {
+            inputSnapshot.track(boundKeys[i]);
         }
     }
 
+    /// Passa a receber as teclas pelos eventos do dispatcher, null volta para o polling
+    public void useEventDispatcher(KeyEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        if (dispatcher == null) return;
+
+        this.dispatcherCursor = dispatcher.getSequence();
+        syncWithDispatcher();
+    }
+
     @Override
     public void update(float delta) {
-        checkKeyStates();
+        if (inputSnapshot != null) {
+            readInputSnapshot();
+        } else if (dispatcher != null) {
+            consumeDispatcherEvents();
+        } else {
+            checkKeyStates();
+        }
     }
 
     @Override
@@ -58,16 +135,76 @@ public abstract class KeyBoundControllerComponent implements Component {
         return disposed;
     }
 
-    private void checkKeyStates() {
-        for (int key : keyBindings.keySet()) {
-            boolean isPressed = Gdx.input.isKeyPressed(key);
-            boolean wasPressed = keyStates.get(key);
+    /// Compara o estado de cada tecla ligada com o snapshot, sem depender das bordas,
+    /// para que um controller que ficou um passo sem update não perca a mudança
+    private void readInputSnapshot() {
+        for (int i = 0; i < boundKeyCount; i++) {
+            int key = boundKeys[i];
+            applyKeyState(key, inputSnapshot.isPressed(key));
+        }
+    }
+
+    private void consumeDispatcherEvents() {
+        long start = dispatcherCursor;
+        long end = dispatcher.getSequence();
+        if (start == end) return;
+
+        dispatcherCursor = end;
+
+        if (end - start > dispatcher.getCapacity()) {
+            syncWithDispatcher();
+            return;
+        }
+
+        for (long seq = start; seq < end; seq++) {
+            int event = dispatcher.getEvent(seq);
+            int key = KeyEventDispatcher.eventKeycode(event);
 
-            if (isPressed && !wasPressed) {
+            if (KeyEventDispatcher.eventPressed(event)) {
                 handleKeyDown(key);
-            } else if (!isPressed && wasPressed) {
+            } else {
                 handleKeyUp(key);
             }
         }
+
+        // O buffer pode ter dado a volta durante a leitura, nesse caso os eventos lidos não são confiáveis
+        if (dispatcher.getSequence() - start > dispatcher.getCapacity()) {
+            syncWithDispatcher();
+        }
+    }
+
+    /// Alinha o estado das teclas ligadas com a tabela do dispatcher
+    private void syncWithDispatcher() {
+        for (int i = 0; i < boundKeyCount; i++) {
+            int key = boundKeys[i];
+            applyKeyState(key, dispatcher.isKeyPressed(key));
+        }
+    }
+
+    private void checkKeyStates() {
+        for (int i = 0; i < boundKeyCount; i++) {
+            int key = boundKeys[i];
+            applyKeyState(key, Gdx.input.isKeyPressed(key));
+        }
+    }
+
+    private void applyKeyState(int key, boolean isPressed) {
+        boolean wasPressed = keyStates[key];
+
+        if (isPressed && !wasPressed) {
+            handleKeyDown(key);
+        } else if (!isPressed && wasPressed) {
+            handleKeyUp(key);
+        }
+    }
+
+    private static boolean isInTable(int key) {
+        return key >= 0 && key < KEY_TABLE_SIZE;
+    }
+
+    private static void checkKeycode(int key) {
+        if (!isInTable(key)) {
+            throw new IllegalArgumentException("Keycode fora do intervalo: " + key);
+        }
     }
 }
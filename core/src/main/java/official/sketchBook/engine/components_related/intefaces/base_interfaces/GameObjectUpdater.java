@@ -0,0 +1,14 @@
+package official.sketchBook.engine.components_related.intefaces.base_interfaces;
+
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+
+/**
+ * Substitui o laço em série do update dos gameObjects dentro de {@link BaseWorldDataManager#update(float)}.
+ * <p>
+ * Só troca a forma de percorrer os objetos: a integração, os componentes, o ECS e o step do mundo continuam
+ * com o manager, na ordem de sempre. Deve respeitar {@link BaseWorldDataManager#shouldUpdate} e a ordem de
+ * cima pra baixo da lista.
+ */
+public interface GameObjectUpdater {
+    void updateGameObjects(BaseWorldDataManager manager, float delta);
+}
@@ -0,0 +1,7 @@
+package official.sketchBook.engine.components_related.intefaces.base_interfaces;
+
+/// Ação ligada a uma tecla, recebe se a tecla foi pressionada (true) ou solta (false) sem boxing
+@FunctionalInterface
+public interface KeyAction {
+    void onKey(boolean pressed);
+}
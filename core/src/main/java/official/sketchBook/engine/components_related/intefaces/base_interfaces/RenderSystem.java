@@ -1,8 +1,16 @@
 package official.sketchBook.engine.components_related.intefaces.base_interfaces;
 
+import official.sketchBook.engine.profiler_related.FrameProfiler;
+
 public interface RenderSystem {
     void render(float delta);
 
     void updateVisuals(float delta);
 
+    /// Define a fração entre o passo fixo anterior e o atual usada para interpolar as posições
+    void setInterpolationAlpha(float alpha);
+
+    /// Define o profiler que recebe o tempo das fases de renderização, null para não medir
+    void setProfiler(FrameProfiler profiler);
+
 }
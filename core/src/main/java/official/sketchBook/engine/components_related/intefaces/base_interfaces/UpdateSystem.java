@@ -1,11 +1,23 @@
 package official.sketchBook.engine.components_related.intefaces.base_interfaces;
 
+import official.sketchBook.engine.components_related.system_utils.timing.TickMetrics;
+import official.sketchBook.engine.input_related.InputSnapshot;
+
 public interface UpdateSystem {
     void update(float delta);
     void postUpdate();
 
+    /// Fração do próximo passo fixo já acumulada (0 a 1), usada para interpolar a renderização
+    float getInterpolationAlpha();
+
     int getUpdatesMetric();
     void resetUpdateMetric();
 
+    /// Tempo dos passos fixos, estouros de orçamento e passos descartados
+    TickMetrics getTickMetrics();
+
+    /// Estado das teclas capturado no início de cada passo fixo
+    InputSnapshot getInputSnapshot();
+
     void dispose();
 }
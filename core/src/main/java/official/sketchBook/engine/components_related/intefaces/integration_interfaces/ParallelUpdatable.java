@@ -0,0 +1,17 @@
+package official.sketchBook.engine.components_related.intefaces.integration_interfaces;
+
+/**
+ * Marca um gameObject cujo update pode rodar fora da thread principal.
+ * <p>
+ * Só deve ser implementada por objetos que, durante o update, mexem apenas no próprio estado:
+ * sem chamadas ao box2d, sem Gdx.input, sem criar ou remover objetos do manager
+ * e sem escrever em outros gameObjects. Objetos sem a interface continuam sendo
+ * atualizados em série na thread principal.
+ */
+public interface ParallelUpdatable {
+
+    /// Permite desligar o paralelismo por instância, mesmo que a classe implemente a interface
+    default boolean isParallelUpdateSafe() {
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+package official.sketchBook.engine.components_related.intefaces.integration_interfaces;
+
+/**
+ * Marca um gameObject que pode ser reaproveitado por um pool do manager em vez de ser descartado.
+ * <p>
+ * Quando um objeto poolable é removido, o manager executa {@code onObjectDestruction()} e depois
+ * {@link #resetForPool()} no lugar do dispose: componentes, sprite handlers e animation players
+ * continuam alocados. Ao ser reaproveitado por {@code spawn}, o objeto recebe {@link #reactivate()}
+ * e volta ao manager como se tivesse acabado de ser construído.
+ */
+public interface Poolable {
+
+    /// Limpa o estado de instância (vida, velocidade, timers...) antes de voltar ao pool
+    void resetForPool();
+
+    /// Prepara a instância reaproveitada para voltar ao mundo, antes do setup do spawn
+    void reactivate();
+}
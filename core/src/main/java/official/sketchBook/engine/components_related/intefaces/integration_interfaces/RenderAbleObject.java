@@ -1,7 +1,10 @@
 package official.sketchBook.engine.components_related.intefaces.integration_interfaces;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.components_related.system_utils.snapshot.TransformSnapshot;
+import official.sketchBook.engine.dataManager_related.RenderQueue;
 
 public interface RenderAbleObject {
 
@@ -10,9 +13,24 @@ public interface RenderAbleObject {
 
     int getZIndex();
     void updateVisuals(float delta);
-    void render(SpriteBatch batch);
+
+    /// Atualiza os visuais interpolando a posição entre o passo fixo anterior e o atual
+    void updateVisuals(float delta, float interpolationAlpha);
+
+    void render(Batch batch);
+
+    /// Grava no snapshot os draws que o render faria com o estado atual, chamado na thread de simulação
+    /// logo depois de updateVisuals(delta). Com a simulação em outra thread só esses draws são desenhados
+    void captureDraws(TransformSnapshot snapshot);
+
+    /// Textura usada por todos os draws do objeto, para agrupar os draws do mesmo z por textura.
+    /// Null quando o objeto usa mais de uma textura ou nenhuma, nesse caso ele nunca é reordenado
+    Texture getRenderTexture();
     boolean isPendingRemoval();
 
     TransformComponent getTransformC();
 
+    /// Posição do objeto dentro da fila de renderização, gerenciada apenas pelo RenderQueue
+    RenderQueue.Slot getRenderQueueSlot();
+
 }
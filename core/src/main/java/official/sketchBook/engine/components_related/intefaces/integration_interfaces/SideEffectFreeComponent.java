@@ -0,0 +1,11 @@
+package official.sketchBook.engine.components_related.intefaces.integration_interfaces;
+
+/**
+ * Marca uma classe de componente cujo update pode rodar em paralelo com outros componentes da mesma classe.
+ * <p>
+ * Só deve ser implementada por componentes que, durante o update, mexem apenas no próprio estado:
+ * sem chamadas ao box2d, sem Gdx.input, sem criar ou remover objetos do manager e sem escrever no dono
+ * ou em outros componentes. A pós-atualização sempre roda na thread principal.
+ */
+public interface SideEffectFreeComponent {
+}
@@ -1,12 +0,0 @@
-package official.sketchBook.engine.components_related.intefaces.integration_interfaces;
-
-public interface StaticResourceDisposable {
-    /// Dispose dos recursos estáticos da classe
-    /// DEVE ser implementado como uma função STATIC nas subclasses
-    static void disposeStaticResources() {
-        throw new UnsupportedOperationException(
-            "Subclasses que implementam StaticResourceDisposable devem " +
-                "implementar disposeStaticResources() como método static"
-        );
-    }
-}
@@ -0,0 +1,26 @@
+package official.sketchBook.engine.components_related.intefaces.integration_interfaces;
+
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Marca um gameObject que pode ser estacionado pelo {@code ChunkStreamer} quando o chunk dele fica longe da câmera.
+ * <p>
+ * Estacionar serializa o estado com {@link #writeStreamState(DataOutput)} e descarta a instância sem executar
+ * {@code onObjectDestruction()}. Quando o chunk volta a ficar perto, a factory registrada para
+ * {@link #getStreamTypeId()} lê o mesmo estado e constrói um objeto novo.
+ */
+public interface Streamable {
+
+    /// Id da factory que recria o objeto
+    String getStreamTypeId();
+
+    /// Posição X em pixels que define o chunk do objeto
+    float getStreamX();
+
+    /// Posição Y em pixels que define o chunk do objeto
+    float getStreamY();
+
+    /// Escreve tudo que a factory precisa para recriar o objeto, incluindo a posição
+    void writeStreamState(DataOutput out) throws IOException;
+}
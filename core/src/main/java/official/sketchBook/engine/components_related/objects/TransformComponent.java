@@ -1,20 +1,24 @@
 package official.sketchBook.engine.components_related.objects;
 
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
-
+import official.sketchBook.engine.dataManager_related.TransformStore;
+
+/**
+ * Visão sobre um transform guardado num {@link TransformStore}.
+ * <p>
+ * Os valores não ficam no componente, e sim nos arrays do store, na posição do handle.
+ * Depois do dispose o handle volta para o store e a visão não deve mais ser usada.
+ */
 public class TransformComponent implements Component {
 
-    /// Valores da posição em seus eixos relativos em pixel
-    private float x, y, z;
-
-    /// Valores de dimensão em pixels
-    private float width, height;
-
-    /// Inversão de percepção do objeto em relação ao eixo
-    private boolean xAxisInverted, yAxisInverted;
+    /// Store que guarda os valores, normalmente o do world manager
+    private final TransformStore store;
+    /// Posição do transform dentro do store
+    private final int handle;
 
     private boolean disposed = false;
 
+    /// Cria um transform num store próprio, para uso fora de um world manager
     public TransformComponent(
         float x,
         float y,
@@ -24,13 +28,22 @@ public class TransformComponent implements Component {
         boolean xAxisInverted,
         boolean yAxisInverted
     ) {
-        this.x = x;
-        this.y = y;
-        this.z = z;
-        this.width = width;
-        this.height = height;
-        this.xAxisInverted = xAxisInverted;
-        this.yAxisInverted = yAxisInverted;
+        this(new TransformStore(1), x, y, z, width, height, xAxisInverted, yAxisInverted);
+    }
+
+    /// Cria um transform no store informado
+    public TransformComponent(
+        TransformStore store,
+        float x,
+        float y,
+        float z,
+        float width,
+        float height,
+        boolean xAxisInverted,
+        boolean yAxisInverted
+    ) {
+        this.store = store;
+        this.handle = store.allocate(x, y, z, width, height, xAxisInverted, yAxisInverted);
     }
 
     @Override
@@ -45,63 +58,107 @@ public class TransformComponent implements Component {
 
     @Override
     public void dispose() {
+        if (disposed) return;
+        store.release(handle);
         disposed = true;
     }
 
+    /// Guarda a posição atual como a do passo anterior, chamado no início de cada passo fixo
+    public void storePreviousState() {
+        store.storePreviousState(handle);
+    }
+
+    /// Move o objeto sem interpolar a partir da posição anterior (ex.: respawn, portal)
+    public void teleport(float x, float y) {
+        store.setPositionWithoutInterpolation(handle, x, y);
+    }
+
+    /// Posição X entre o passo anterior (alpha = 0) e o atual (alpha = 1)
+    public float getInterpolatedX(float alpha) {
+        float x = store.getX(handle);
+        if (alpha >= 1f) return x;
+        float previousX = store.getPreviousX(handle);
+        return previousX + (x - previousX) * alpha;
+    }
+
+    /// Posição Y entre o passo anterior (alpha = 0) e o atual (alpha = 1)
+    public float getInterpolatedY(float alpha) {
+        float y = store.getY(handle);
+        if (alpha >= 1f) return y;
+        float previousY = store.getPreviousY(handle);
+        return previousY + (y - previousY) * alpha;
+    }
+
+    public TransformStore getStore() {
+        return store;
+    }
+
+    public int getHandle() {
+        return handle;
+    }
+
+    public float getPreviousX() {
+        return store.getPreviousX(handle);
+    }
+
+    public float getPreviousY() {
+        return store.getPreviousY(handle);
+    }
+
     public float getX() {
-        return x;
+        return store.getX(handle);
     }
 
     public void setX(float x) {
-        this.x = x;
+        store.setX(handle, x);
     }
 
     public float getY() {
-        return y;
+        return store.getY(handle);
     }
 
     public void setY(float y) {
-        this.y = y;
+        store.setY(handle, y);
     }
 
     public float getZ() {
-        return z;
+        return store.getZ(handle);
     }
 
     public void setZ(float z) {
-        this.z = z;
+        store.setZ(handle, z);
     }
 
     public float getWidth() {
-        return width;
+        return store.getWidth(handle);
     }
 
     public void setWidth(float width) {
-        this.width = width;
+        store.setWidth(handle, width);
     }
 
     public float getHeight() {
-        return height;
+        return store.getHeight(handle);
     }
 
     public void setHeight(float height) {
-        this.height = height;
+        store.setHeight(handle, height);
     }
 
     public boolean isxAxisInverted() {
-        return xAxisInverted;
+        return store.isxAxisInverted(handle);
     }
 
     public void setxAxisInverted(boolean xAxisInverted) {
-        this.xAxisInverted = xAxisInverted;
+        store.setxAxisInverted(handle, xAxisInverted);
     }
 
     public boolean isyAxisInverted() {
-        return yAxisInverted;
+        return store.isyAxisInverted(handle);
     }
 
     public void setyAxisInverted(boolean yAxisInverted) {
-        this.yAxisInverted = yAxisInverted;
+        store.setyAxisInverted(handle, yAxisInverted);
     }
 
     @Override
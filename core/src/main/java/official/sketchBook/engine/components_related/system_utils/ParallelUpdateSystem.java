@@ -0,0 +1,152 @@
+package official.sketchBook.engine.components_related.system_utils;
+
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.GameObjectUpdater;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.ParallelUpdatable;
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+import official.sketchBook.engine.screen_related.BaseScreen;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sistema de atualização que distribui o update dos gameObjects entre várias threads.
+ * <p>
+ * O passo continua sendo o {@link BaseWorldDataManager#update(float)} do manager, inclusive as sobrescritas das
+ * subclasses; o sistema só se instala como {@link GameObjectUpdater} e troca o laço dos objetos:
+ * <ol>
+ *     <li>a lista é percorrida de cima pra baixo, como no laço em série</li>
+ *     <li>sequências seguidas de objetos {@link ParallelUpdatable} são divididas em blocos e atualizadas num ForkJoinPool</li>
+ *     <li>a thread principal espera todos os blocos da sequência terminarem (barreira)</li>
+ *     <li>cada objeto que precisa da thread principal é atualizado nela, na posição em que aparece na lista</li>
+ * </ol>
+ * Assim um objeto serial nunca troca de lugar com os paralelos acima ou abaixo dele.
+ * Os componentes sem efeitos colaterais dividem o mesmo pool, pelo ComponentScheduler do manager.
+ */
+public class ParallelUpdateSystem extends SingleThreadUpdateSystem implements GameObjectUpdater {
+
+    /// Tamanho mínimo padrão de um bloco, abaixo disso o custo de agendar supera o ganho
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final int minChunkSize;
+
+    /// Sequência atual de objetos seguidos que podem rodar em paralelo
+    private BaseGameObject[] parallelBatch = new BaseGameObject[64];
+    private int parallelCount;
+
+    /// Delta do passo atual, lido pelas tarefas
+    private float stepDelta;
+
+    public ParallelUpdateSystem(BaseWorldDataManager worldManager, BaseScreen screen) {
+        this(worldManager, screen, Runtime.getRuntime().availableProcessors(), DEFAULT_MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * @param worldManager Manager a ser atualizado.
+     * @param screen       Screen dona do sistema.
+     * @param parallelism  Quantidade de threads de trabalho.
+     * @param minChunkSize Quantidade mínima de objetos por bloco.
+     */
+    public ParallelUpdateSystem(BaseWorldDataManager worldManager, BaseScreen screen, int parallelism, int minChunkSize) {
+        super(worldManager, screen);
+        if (parallelism <= 0 || minChunkSize <= 0) {
+            throw new IllegalArgumentException("Paralelismo e tamanho de bloco devem ser maiores que 0");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.minChunkSize = minChunkSize;
+
+        // Grupos de componentes sem efeitos colaterais dividem o mesmo pool
+        if (worldManager != null) {
+            worldManager.getComponentScheduler().setParallelPool(pool, minChunkSize);
+            worldManager.setGameObjectUpdater(this);
+        }
+    }
+
+    @Override
+    public void updateGameObjects(BaseWorldDataManager manager, float delta) {
+        List<BaseGameObject> objects = manager.getGameObjectList();
+        ensureCapacity(objects.size());
+        stepDelta = delta;
+
+        //Itera de cima pra baixo
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            BaseGameObject object = objects.get(i);
+            if (!manager.shouldUpdate(object)) continue;
+
+            if (object instanceof ParallelUpdatable && ((ParallelUpdatable) object).isParallelUpdateSafe()) {
+                parallelBatch[parallelCount++] = object;
+                continue;
+            }
+
+            //Fecha a sequência paralela acima antes do objeto que precisa da thread principal
+            flushParallelBatch();
+            object.update(delta);
+        }
+
+        flushParallelBatch();
+    }
+
+    /// Atualiza a sequência paralela acumulada e espera todos os blocos terminarem
+    private void flushParallelBatch() {
+        if (parallelCount == 0) return;
+
+        if (parallelCount <= minChunkSize) {
+            updateRange(0, parallelCount);
+        } else {
+            pool.invoke(new UpdateChunkTask(0, parallelCount));
+        }
+
+        //Solta as referências para não segurar objetos removidos
+        Arrays.fill(parallelBatch, 0, parallelCount, null);
+        parallelCount = 0;
+    }
+
+    /// Atualiza um intervalo do bloco paralelo
+    private void updateRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            BaseGameObject object = parallelBatch[i];
+            if (object.isPendingRemoval()) continue;
+            object.update(stepDelta);
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (parallelBatch.length < size) {
+            parallelBatch = new BaseGameObject[size];
+        }
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void dispose() {
+        pool.shutdown();
+        super.dispose();
+    }
+
+    /// Divide o intervalo ao meio até atingir o tamanho mínimo de bloco
+    private final class UpdateChunkTask extends RecursiveAction {
+        private final int from, to;
+
+        private UpdateChunkTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= minChunkSize) {
+                updateRange(from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new UpdateChunkTask(from, mid), new UpdateChunkTask(mid, to));
+        }
+    }
+}
@@ -1,13 +1,31 @@
 package official.sketchBook.engine.components_related.system_utils;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.ScreenUtils;
+import official.sketchBook.engine.camera_related.OrthographicCameraManager;
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.RenderSystem;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.RenderAbleObject;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.components_related.system_utils.snapshot.TransformSnapshot;
+import official.sketchBook.engine.components_related.system_utils.snapshot.TransformSnapshotBuffer;
 import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.dataManager_related.RenderQueue;
+import official.sketchBook.engine.dataManager_related.TransformStore;
+import official.sketchBook.engine.profiler_related.FrameProfiler;
 import official.sketchBook.engine.screen_related.BaseScreen;
+import official.sketchBook.engine.spatial_related.SpatialHashGrid;
+
+import java.util.Arrays;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.FIXED_TIMESTAMP;
 
 public class SingleThreadRenderSystem implements RenderSystem {
+    /// Objetos fora da tela têm os visuais atualizados normalmente
+    public static final int OFFSCREEN_VISUALS_ALWAYS = 0;
+    /// Objetos fora da tela não têm os visuais atualizados
+    public static final int OFFSCREEN_VISUALS_SKIP = -1;
+
     private final BaseScreen screen;
     private final BaseWorldDataManager worldManager;
 
@@ -18,6 +36,53 @@ public class SingleThreadRenderSystem implements RenderSystem {
     private final boolean renderUi;
     private final boolean worldManagerExists;
 
+    /// Câmera usada para o culling, null quando o culling está desligado
+    private OrthographicCameraManager cullingCamera;
+    /// Índice espacial reconstruído a cada frame a partir dos transforms
+    private SpatialHashGrid cullingGrid;
+    /// Margem extra em volta da área visível, para sprites maiores que o transform
+    private float cullingMargin;
+
+    /// Política de atualização de visuais para objetos fora da tela
+    /// (OFFSCREEN_VISUALS_ALWAYS, OFFSCREEN_VISUALS_SKIP ou "a cada N frames")
+    private int offscreenVisualsInterval = OFFSCREEN_VISUALS_ALWAYS;
+    private int frameCounter;
+
+    /// Objetos na ordem de renderização do frame atual, o índice é o mesmo usado na grade
+    private RenderAbleObject[] renderOrder = new RenderAbleObject[64];
+    private int renderOrderCount;
+    /// Se cada objeto da ordem de renderização está visível neste frame
+    private boolean[] visible = new boolean[64];
+    /// Z de cada objeto da ordem de renderização, define os trechos em que a textura pode reordenar
+    private int[] renderLayer = new int[64];
+
+    /// Se os draws do mesmo z são agrupados por textura para reduzir os flushes do batch
+    private boolean textureSortingEnabled = true;
+    /// Índices da ordem de renderização na ordem em que serão desenhados neste frame
+    private int[] drawOrder = new int[64];
+    private int drawCount;
+    /// Chaves (textura, índice) usadas na ordenação de cada trecho
+    private long[] drawSortKeys = new long[64];
+    /// Trocas de textura entre draws consecutivos do jogo no último frame
+    private int textureSwitches;
+    /// Flushes do game batch no último frame
+    private int gameFlushes;
+
+    /// Snapshots publicados por uma simulação em outra thread, null quando a simulação roda nesta thread
+    private TransformSnapshotBuffer snapshotBuffer;
+    /// Snapshot usado no frame atual
+    private TransformSnapshot activeSnapshot;
+    /// Alpha de interpolação dos draws do snapshot neste frame
+    private float snapshotAlpha = 1f;
+
+    /// Recebe o tempo das fases de renderização, null para não medir
+    private FrameProfiler profiler;
+
+    /// Se as posições são interpoladas entre o passo fixo anterior e o atual
+    private boolean interpolationEnabled = true;
+    /// Fração entre o passo anterior e o atual informada pelo update system
+    private float interpolationAlpha = 1f;
+
     public SingleThreadRenderSystem(
         BaseScreen screen,
         BaseWorldDataManager worldManager,
@@ -34,6 +99,99 @@ public class SingleThreadRenderSystem implements RenderSystem {
         this.worldManagerExists = worldManager != null;
     }
 
+    /**
+     * Liga o culling por câmera: apenas objetos cujo transform intersecta a área visível são renderizados.
+     *
+     * @param camera   Câmera do jogo, a mesma usada na projeção do gameBatch.
+     * @param cellSize Tamanho das células da grade espacial, em unidades do mundo.
+     * @param margin   Margem extra em volta da área visível, em unidades do mundo.
+     */
+    public void enableViewCulling(OrthographicCameraManager camera, float cellSize, float margin) {
+        if (camera == null) {
+            throw new IllegalArgumentException("Camera não pode ser null");
+        }
+        this.cullingCamera = camera;
+        this.cullingGrid = new SpatialHashGrid(cellSize);
+        this.cullingMargin = margin;
+    }
+
+    /// Desliga o culling, voltando a renderizar todos os objetos
+    public void disableViewCulling() {
+        this.cullingCamera = null;
+        this.cullingGrid = null;
+    }
+
+    /**
+     * Faz o render system consumir os snapshots publicados por uma simulação em outra thread
+     * (ver ThreadedUpdateSystem) em vez de ler a fila e os transforms do manager.
+     * <p>
+     * Com um buffer os objetos não são tocados por esta thread: os visuais avançam na simulação e o desenho usa
+     * apenas os draws gravados no snapshot, então a política de visuais fora da tela não se aplica.
+     *
+     * @param snapshotBuffer Buffer da simulação, ou null para voltar a ler o manager diretamente.
+     */
+    public void setTransformSnapshotBuffer(TransformSnapshotBuffer snapshotBuffer) {
+        this.snapshotBuffer = snapshotBuffer;
+        this.activeSnapshot = null;
+        Arrays.fill(renderOrder, null);
+    }
+
+    @Override
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void setInterpolationAlpha(float alpha) {
+        this.interpolationAlpha = Math.max(0f, Math.min(1f, alpha));
+    }
+
+    /// Liga ou desliga a interpolação, sem ela os objetos são desenhados na posição do último passo
+    public void setInterpolationEnabled(boolean interpolationEnabled) {
+        this.interpolationEnabled = interpolationEnabled;
+    }
+
+    public boolean isInterpolationEnabled() {
+        return interpolationEnabled;
+    }
+
+    public boolean isViewCullingEnabled() {
+        return cullingCamera != null;
+    }
+
+    /**
+     * Define como os visuais de objetos fora da tela são atualizados quando o culling está ligado.
+     *
+     * @param interval OFFSCREEN_VISUALS_ALWAYS, OFFSCREEN_VISUALS_SKIP,
+     *                 ou N > 0 para atualizar a cada N frames com o delta acumulado.
+     */
+    public void setOffscreenVisualsInterval(int interval) {
+        this.offscreenVisualsInterval = Math.max(OFFSCREEN_VISUALS_SKIP, interval);
+    }
+
+    public int getOffscreenVisualsInterval() {
+        return offscreenVisualsInterval;
+    }
+
+    /// Liga ou desliga o agrupamento por textura dos draws do mesmo z, desligado desenha na ordem exata da fila
+    public void setTextureSortingEnabled(boolean textureSortingEnabled) {
+        this.textureSortingEnabled = textureSortingEnabled;
+    }
+
+    public boolean isTextureSortingEnabled() {
+        return textureSortingEnabled;
+    }
+
+    /// Trocas de textura entre os draws de objetos do último frame
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+
+    /// Flushes (draw calls) do game batch no último frame
+    public int getGameFlushes() {
+        return gameFlushes;
+    }
+
     @Override
     public void render(float delta) {
 
@@ -41,14 +199,55 @@ public class SingleThreadRenderSystem implements RenderSystem {
         cleanScreen();
 
         //Atualiza os visuais
+        long start = beginPhase();
         updateVisuals(delta);
+        endPhase(FrameProfiler.Phase.UPDATE_VISUALS, start);
 
         //Tenta renderizar o jogo
+        start = beginPhase();
         drawGame(gameBatch);
+        endPhase(FrameProfiler.Phase.DRAW_GAME, start);
 
         //Tenta renderizar a ui
+        start = beginPhase();
         drawUI(uiBatch);
+        endPhase(FrameProfiler.Phase.DRAW_UI, start);
+
+        recordRenderCounters();
+    }
 
+    private long beginPhase() {
+        return profiler != null ? profiler.begin() : 0L;
+    }
+
+    private void endPhase(FrameProfiler.Phase phase, long start) {
+        if (profiler != null) {
+            profiler.end(phase, start);
+        }
+    }
+
+    /// Registra as draw calls do frame e quantos objetos foram considerados e desenhados
+    private void recordRenderCounters() {
+        if (profiler == null) return;
+
+        int renderCalls = 0, totalRenderCalls = 0;
+        if (renderGame) {
+            renderCalls += gameBatch.renderCalls;
+            totalRenderCalls += gameBatch.totalRenderCalls;
+        }
+        if (renderUi) {
+            renderCalls += uiBatch.renderCalls;
+            totalRenderCalls += uiBatch.totalRenderCalls;
+        }
+
+        profiler.setCounter(FrameProfiler.Counter.RENDER_CALLS, renderCalls);
+        profiler.setCounter(FrameProfiler.Counter.TOTAL_RENDER_CALLS, totalRenderCalls);
+        profiler.setCounter(FrameProfiler.Counter.TEXTURE_SWITCHES, textureSwitches);
+        profiler.setCounter(FrameProfiler.Counter.RENDERABLES, renderOrderCount);
+        profiler.setCounter(
+            FrameProfiler.Counter.VISIBLE_RENDERABLES,
+            isViewCullingEnabled() ? cullingGrid.getQueryResultCount() : renderOrderCount
+        );
     }
 
     /// Limpa a tela com uma cor em específico
@@ -63,22 +262,125 @@ public class SingleThreadRenderSystem implements RenderSystem {
         batch.begin();
 
         if (worldManagerExists) {
-            worldManager.sortRenderables();
-            for (int i = 0; i < worldManager.getRenderAbleObjectList().size(); i++) {
-                RenderAbleObject obj = worldManager.getRenderAbleObjectList().get(i);
+            drawObjects(batch);
+        }
 
-                if (obj.isPendingRemoval()) {
-                    // Opcional: remover da lista de render aqui ou deixar o Manager limpar
-                    continue;
-                }
+        screen.drawGame(batch);
+
+        batch.end();
+
+        gameFlushes = batch.renderCalls;
+    }
 
-                obj.render(batch);
+    /**
+     * Renderiza os objetos preparados pelo updateVisuals.
+     * <p>
+     * Os draws são montados na ordem de z e, com o agrupamento por textura ligado, cada trecho do mesmo z
+     * é ordenado por textura para o batch não dar flush a cada troca. Objetos sem textura única
+     * ({@link RenderAbleObject#getRenderTexture()} null) funcionam como barreira: ficam na sua posição e só
+     * os objetos entre duas barreiras são reordenados. Empates mantêm a ordem da fila.
+     */
+    private void drawObjects(SpriteBatch batch) {
+        buildDrawOrder();
+
+        if (textureSortingEnabled) {
+            sortDrawOrderByTexture();
+        }
+
+        textureSwitches = 0;
+        Texture lastTexture = null;
+
+        for (int i = 0; i < drawCount; i++) {
+            int index = drawOrder[i];
+
+            Texture texture = textureOf(index);
+            if (texture != null && texture != lastTexture) {
+                if (lastTexture != null) textureSwitches++;
+                lastTexture = texture;
+            }
+
+            if (activeSnapshot != null) {
+                activeSnapshot.draw(batch, index, snapshotAlpha);
+            } else {
+                renderOrder[index].render(batch);
             }
         }
+    }
 
-        screen.drawGame(batch);
+    /// Textura única do item da ordem de renderização, lida do snapshot quando há um
+    private Texture textureOf(int index) {
+        return activeSnapshot != null ? activeSnapshot.getTexture(index) : renderOrder[index].getRenderTexture();
+    }
 
-        batch.end();
+    /// O snapshot só contém objetos que não estavam pendentes para remoção
+    private boolean isRemoved(int index) {
+        return activeSnapshot == null && renderOrder[index].isPendingRemoval();
+    }
+
+    /// Lista os objetos a desenhar, na ordem de z: os encontrados pela grade com o culling ligado, senão todos
+    private void buildDrawOrder() {
+        if (drawOrder.length < renderOrderCount) {
+            drawOrder = new int[Math.max(renderOrderCount, drawOrder.length * 2)];
+            drawSortKeys = new long[drawOrder.length];
+        }
+        drawCount = 0;
+
+        if (isViewCullingEnabled()) {
+            // A consulta devolve os índices em ordem crescente, que já é a ordem de z
+            int[] visibleItems = cullingGrid.getQueryResult();
+            int visibleCount = cullingGrid.getQueryResultCount();
+
+            for (int i = 0; i < visibleCount; i++) {
+                int index = visibleItems[i];
+                if (isRemoved(index)) continue;
+                drawOrder[drawCount++] = index;
+            }
+            return;
+        }
+
+        for (int i = 0; i < renderOrderCount; i++) {
+            if (isRemoved(i)) continue;
+            drawOrder[drawCount++] = i;
+        }
+    }
+
+    /// Ordena por textura cada trecho de draws com o mesmo z e sem barreiras
+    private void sortDrawOrderByTexture() {
+        int start = 0;
+        while (start < drawCount) {
+            int layer = renderLayer[drawOrder[start]];
+
+            if (textureOf(drawOrder[start]) == null) {
+                start++;
+                continue;
+            }
+
+            int end = start;
+            boolean sorted = true;
+            int lastHandle = Integer.MIN_VALUE;
+
+            while (end < drawCount && renderLayer[drawOrder[end]] == layer) {
+                Texture texture = textureOf(drawOrder[end]);
+                if (texture == null) break;
+
+                int handle = texture.getTextureObjectHandle();
+                if (handle < lastHandle) sorted = false;
+                lastHandle = handle;
+
+                // Textura nos bits altos e índice da fila nos baixos: chaves únicas, então a ordem é estável
+                drawSortKeys[end] = ((long) handle << 32) | drawOrder[end];
+                end++;
+            }
+
+            if (!sorted) {
+                Arrays.sort(drawSortKeys, start, end);
+                for (int i = start; i < end; i++) {
+                    drawOrder[i] = (int) drawSortKeys[i];
+                }
+            }
+
+            start = end;
+        }
     }
 
     /// Prepara o batch e renderiza a ui
@@ -95,9 +397,148 @@ public class SingleThreadRenderSystem implements RenderSystem {
         screen.updateVisuals(delta);
 
         if (!worldManagerExists) return;
-        for (RenderAbleObject object : worldManager.getRenderAbleObjectList()) {
-            object.updateVisuals(delta);
+
+        collectRenderOrder();
+
+        if (isViewCullingEnabled()) {
+            queryVisibleSet();
+        }
+
+        frameCounter++;
+        float alpha = resolveInterpolationAlpha();
+
+        if (snapshotBuffer != null) {
+            // Os visuais já avançaram na thread de simulação, aqui só resta escolher a interpolação
+            snapshotAlpha = alpha;
+            return;
+        }
+
+        for (int i = 0; i < renderOrderCount; i++) {
+            if (!isViewCullingEnabled() || visible[i] || offscreenVisualsInterval == OFFSCREEN_VISUALS_ALWAYS) {
+                updateObjectVisuals(i, delta, alpha);
+            } else if (offscreenVisualsInterval > 0 && (frameCounter + i) % offscreenVisualsInterval == 0) {
+                // Espalha os objetos entre os frames e compensa com o delta acumulado
+                updateObjectVisuals(i, delta * offscreenVisualsInterval, alpha);
+            }
         }
 
     }
+
+    /// Atualiza os visuais de um objeto da ordem de renderização, apenas com a simulação nesta thread
+    private void updateObjectVisuals(int index, float delta, float alpha) {
+        renderOrder[index].updateVisuals(delta, alpha);
+    }
+
+    /**
+     * Alpha usado para interpolar as posições neste frame.
+     * <p>
+     * Com snapshots a referência é o momento em que o snapshot ativo foi publicado, já que a simulação
+     * roda em outra thread e o accumulator do update system não corresponde a ele.
+     */
+    private float resolveInterpolationAlpha() {
+        if (!interpolationEnabled) return 1f;
+        if (activeSnapshot == null) return interpolationAlpha;
+
+        float elapsed = (System.nanoTime() - activeSnapshot.getPublishNanos()) / 1_000_000_000f;
+        return Math.max(0f, Math.min(1f, elapsed / FIXED_TIMESTAMP));
+    }
+
+    /**
+     * Monta a ordem de renderização do frame e, com o culling ligado, reconstrói a grade.
+     * <p>
+     * Com um buffer de snapshots a fonte é o último snapshot publicado pela simulação e a fila do manager
+     * não é tocada. Sem ele, a fonte é a fila de renderização do manager.
+     */
+    private void collectRenderOrder() {
+        if (cullingGrid != null) {
+            cullingGrid.clear();
+        }
+
+        if (snapshotBuffer != null) {
+            activeSnapshot = snapshotBuffer.hasPublished() ? snapshotBuffer.acquire() : null;
+            collectFromSnapshot(activeSnapshot);
+            return;
+        }
+
+        long sortStart = beginPhase();
+        worldManager.sortRenderables();
+        endPhase(FrameProfiler.Phase.SORT_RENDERABLES, sortStart);
+
+        RenderQueue queue = worldManager.getRenderQueue();
+
+        ensureRenderOrderCapacity(queue.size());
+        renderOrderCount = 0;
+
+        for (int b = 0; b < queue.getBucketCount(); b++) {
+            for (int i = 0; i < queue.getBucketSize(b); i++) {
+                RenderAbleObject obj = queue.get(b, i);
+                renderLayer[renderOrderCount] = queue.getBucketZIndex(b);
+                renderOrder[renderOrderCount++] = obj;
+
+                if (cullingGrid != null) {
+                    // Lê direto dos arrays do store, sem passar pela visão
+                    TransformComponent transform = obj.getTransformC();
+                    TransformStore store = transform.getStore();
+                    int handle = transform.getHandle();
+                    cullingGrid.add(
+                        store.getX(handle),
+                        store.getY(handle),
+                        store.getWidth(handle),
+                        store.getHeight(handle)
+                    );
+                }
+            }
+        }
+    }
+
+    /// Monta a ordem de renderização a partir de um snapshot, que já está em ordem de z
+    /// A ordem guarda apenas índices do snapshot, nenhum objeto é referenciado
+    private void collectFromSnapshot(TransformSnapshot snapshot) {
+        int size = snapshot == null ? 0 : snapshot.size();
+
+        ensureRenderOrderCapacity(size);
+        renderOrderCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            renderLayer[renderOrderCount++] = (int) snapshot.getZ(i);
+
+            if (cullingGrid != null) {
+                cullingGrid.add(
+                    snapshot.getX(i),
+                    snapshot.getY(i),
+                    snapshot.getWidth(i),
+                    snapshot.getHeight(i)
+                );
+            }
+        }
+    }
+
+    /// Constrói a grade e consulta a área visível da câmera
+    private void queryVisibleSet() {
+        cullingGrid.build();
+        int visibleCount = cullingGrid.query(
+            cullingCamera.getViewLeft() - cullingMargin,
+            cullingCamera.getViewBottom() - cullingMargin,
+            cullingCamera.getViewRight() + cullingMargin,
+            cullingCamera.getViewTop() + cullingMargin
+        );
+
+        Arrays.fill(visible, 0, renderOrderCount, false);
+        int[] visibleItems = cullingGrid.getQueryResult();
+        for (int i = 0; i < visibleCount; i++) {
+            visible[visibleItems[i]] = true;
+        }
+    }
+
+    private void ensureRenderOrderCapacity(int size) {
+        if (renderOrder.length < size) {
+            int newSize = Math.max(size, renderOrder.length * 2);
+            renderOrder = new RenderAbleObject[newSize];
+            visible = new boolean[newSize];
+            renderLayer = new int[newSize];
+        } else if (size < renderOrderCount) {
+            // Solta as referências do frame anterior que não serão sobrescritas
+            Arrays.fill(renderOrder, size, renderOrderCount, null);
+        }
+    }
 }
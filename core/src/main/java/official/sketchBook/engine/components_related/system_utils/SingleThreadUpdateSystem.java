@@ -1,17 +1,40 @@
 package official.sketchBook.engine.components_related.system_utils;
 
+import com.badlogic.gdx.Gdx;
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.UpdateSystem;
+import official.sketchBook.engine.components_related.system_utils.timing.AdaptiveStepPolicy;
+import official.sketchBook.engine.components_related.system_utils.timing.TickMetrics;
 import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.input_related.InputRecorder;
+import official.sketchBook.engine.input_related.InputReplay;
+import official.sketchBook.engine.input_related.InputSnapshot;
 import official.sketchBook.engine.screen_related.BaseScreen;
 
 import static official.sketchBook.game.util_related.constants.PhysicsC.FIXED_TIMESTAMP;
 import static official.sketchBook.game.util_related.constants.PhysicsC.MAX_ACCUMULATOR;
+import static official.sketchBook.game.util_related.constants.PhysicsC.MAX_SUBSTEPS_PER_FRAME;
 
 public class SingleThreadUpdateSystem implements UpdateSystem {
+    private static final String LOG_TAG = "SingleThreadUpdateSystem";
+
     private float accumulator = 0;
     private int updates = 0;
-    private final BaseWorldDataManager worldManager;
-    private final BaseScreen screen;
+    protected final BaseWorldDataManager worldManager;
+    /// Screen dona do sistema, null quando o mundo roda sem janela (ex.: simulação headless)
+    protected final BaseScreen screen;
+
+    /// Máximo de passos fixos executados em um único frame
+    private int maxSubstepsPerFrame = MAX_SUBSTEPS_PER_FRAME;
+    private final TickMetrics tickMetrics = new TickMetrics((long) (FIXED_TIMESTAMP * 1_000_000_000L));
+    /// Política que reduz o custo do passo quando o orçamento estoura, null para desligar
+    private AdaptiveStepPolicy adaptiveStepPolicy;
+    /// Teclas lidas uma vez por passo fixo e compartilhadas com os controllers do mundo
+    private final InputSnapshot inputSnapshot = new InputSnapshot();
+    /// Grava o snapshot de cada passo, null quando não está gravando
+    private InputRecorder inputRecorder;
+    /// Substitui a captura pelas teclas gravadas enquanto houver ticks, null para usar a fonte do snapshot
+    private InputReplay inputReplay;
+    private final long[] replayState = new long[InputSnapshot.WORD_COUNT];
 
     public SingleThreadUpdateSystem(
         BaseWorldDataManager worldManager,
@@ -19,25 +42,92 @@ public class SingleThreadUpdateSystem implements UpdateSystem {
     ) {
         this.worldManager = worldManager;
         this.screen = screen;
+
+        if (worldManager != null) {
+            worldManager.setInputSnapshot(inputSnapshot);
+        }
     }
+
     @Override
     public void update(float delta) {
+        if (delta > MAX_ACCUMULATOR) {
+            tickMetrics.recordClampedFrame();
+        }
         accumulator += Math.min(delta, MAX_ACCUMULATOR);
 
-        while (accumulator >= FIXED_TIMESTAMP) {
+        int steps = 0;
+        while (accumulator >= FIXED_TIMESTAMP && steps < maxSubstepsPerFrame) {
+            long tickStart = System.nanoTime();
+
+            captureInput();
+
             // Atualiza o mundo se existir
             if (worldManager != null) {
-                worldManager.update(FIXED_TIMESTAMP);
+                stepWorld(FIXED_TIMESTAMP);
             }
 
-            //Atualiza a screen
-            screen.updateScreen(delta);
+            //Atualiza a screen com o mesmo passo fixo do mundo
+            if (screen != null) {
+                screen.updateScreen(FIXED_TIMESTAMP);
+            }
+
+            onTickFinished(System.nanoTime() - tickStart);
 
             // Subtrai do acumulador
             accumulator -= FIXED_TIMESTAMP;
             updates++;
+            steps++;
+        }
+
+        // Espiral de atrasos: os passos não cabem no frame, descarta o tempo inteiro que sobrou
+        if (accumulator >= FIXED_TIMESTAMP) {
+            int dropped = (int) (accumulator / FIXED_TIMESTAMP);
+            accumulator -= dropped * FIXED_TIMESTAMP;
+            tickMetrics.recordSpiral(dropped);
+        }
+
+    }
+
+    /// Registra o tempo do tick e deixa a política adaptativa reagir a ele
+    private void onTickFinished(long tickNanos) {
+        tickMetrics.recordTick(tickNanos);
+        // Gravando ou reproduzindo, o nível fica no normal: a decisão depende do tempo de cada máquina
+        // e mudaria as iterações e os objetos atualizados entre a gravação e o replay
+        if (adaptiveStepPolicy != null && !isInputDeterministic()) {
+            adaptiveStepPolicy.onTick(tickNanos, tickMetrics);
+        }
+    }
+
+    /// Se as teclas do passo estão sendo gravadas ou vêm de uma gravação
+    public boolean isInputDeterministic() {
+        return inputRecorder != null || inputReplay != null;
+    }
+
+    /// Volta a política adaptativa ao nível normal, onde ela fica enquanto houver gravação ou replay
+    private void holdAdaptiveStepPolicy() {
+        if (adaptiveStepPolicy != null) {
+            adaptiveStepPolicy.reset();
+            tickMetrics.setDegradationLevel(AdaptiveStepPolicy.LEVEL_NORMAL);
+        }
+    }
+
+    /// Captura as teclas do passo, da gravação em reprodução ou da fonte do snapshot, e grava se necessário
+    protected void captureInput() {
+        if (inputReplay != null && inputReplay.next(replayState)) {
+            inputSnapshot.captureFrom(replayState);
+        } else {
+            inputReplay = null;
+            inputSnapshot.capture();
         }
 
+        if (inputRecorder != null) {
+            inputRecorder.record(inputSnapshot);
+        }
+    }
+
+    /// Executa um passo fixo do mundo, subclasses podem mudar como os objetos são atualizados
+    protected void stepWorld(float fixedDelta) {
+        worldManager.update(fixedDelta);
     }
 
     @Override
@@ -47,7 +137,94 @@ public class SingleThreadUpdateSystem implements UpdateSystem {
         }
 
         //Pós atualização da screen
-        screen.postScreenUpdate();
+        if (screen != null) {
+            screen.postScreenUpdate();
+        }
+    }
+
+    @Override
+    public float getInterpolationAlpha() {
+        return Math.min(1f, accumulator / FIXED_TIMESTAMP);
+    }
+
+    @Override
+    public TickMetrics getTickMetrics() {
+        return tickMetrics;
+    }
+
+    @Override
+    public InputSnapshot getInputSnapshot() {
+        return inputSnapshot;
+    }
+
+    /// Passa a gravar as teclas de cada passo fixo, fechando a gravação anterior se houver
+    public void setInputRecorder(InputRecorder inputRecorder) {
+        if (this.inputRecorder != null) {
+            this.inputRecorder.close();
+        }
+        if (inputRecorder != null) {
+            holdAdaptiveStepPolicy();
+        }
+        this.inputRecorder = inputRecorder;
+    }
+
+    public InputRecorder getInputRecorder() {
+        return inputRecorder;
+    }
+
+    /// Reproduz uma gravação a partir do próximo passo, com o snapshot partindo de todas as teclas soltas
+    public void setInputReplay(InputReplay inputReplay) {
+        if (inputReplay != null && inputReplay.getFixedTimestep() != FIXED_TIMESTAMP) {
+            String message = "Replay gravado com passo fixo " + inputReplay.getFixedTimestep()
+                + ", diferente do atual " + FIXED_TIMESTAMP + ": o resultado não será determinístico";
+            // As simulações headless rodam sem Gdx.app
+            if (Gdx.app != null) {
+                Gdx.app.error(LOG_TAG, message);
+            } else {
+                System.err.println(message);
+            }
+        }
+        if (inputReplay != null) {
+            holdAdaptiveStepPolicy();
+        }
+        inputSnapshot.reset();
+        this.inputReplay = inputReplay;
+    }
+
+    public InputReplay getInputReplay() {
+        return inputReplay;
+    }
+
+    public boolean isReplaying() {
+        return inputReplay != null;
+    }
+
+    public int getMaxSubstepsPerFrame() {
+        return maxSubstepsPerFrame;
+    }
+
+    public void setMaxSubstepsPerFrame(int maxSubstepsPerFrame) {
+        if (maxSubstepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Máximo de passos por frame deve ser maior que 0");
+        }
+        this.maxSubstepsPerFrame = maxSubstepsPerFrame;
+    }
+
+    public AdaptiveStepPolicy getAdaptiveStepPolicy() {
+        return adaptiveStepPolicy;
+    }
+
+    /// Define a política adaptativa, a anterior é desfeita antes da troca
+    public void setAdaptiveStepPolicy(AdaptiveStepPolicy adaptiveStepPolicy) {
+        if (this.adaptiveStepPolicy != null) {
+            this.adaptiveStepPolicy.reset();
+        }
+        this.adaptiveStepPolicy = adaptiveStepPolicy;
+        if (adaptiveStepPolicy == null) {
+            tickMetrics.setDegradationLevel(AdaptiveStepPolicy.LEVEL_NORMAL);
+        } else if (isInputDeterministic()) {
+            holdAdaptiveStepPolicy();
+        }
     }
 
     public BaseWorldDataManager getWorldManager() {
@@ -65,6 +242,7 @@ public class SingleThreadUpdateSystem implements UpdateSystem {
 
     @Override
     public void dispose() {
+        setInputRecorder(null);
         if(worldManager != null){
             worldManager.dispose();
         }
@@ -0,0 +1,240 @@
+package official.sketchBook.engine.components_related.system_utils;
+
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.UpdateSystem;
+import official.sketchBook.engine.components_related.system_utils.snapshot.TransformSnapshotBuffer;
+import official.sketchBook.engine.components_related.system_utils.timing.AdaptiveStepPolicy;
+import official.sketchBook.engine.components_related.system_utils.timing.TickMetrics;
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.input_related.InputSnapshot;
+import official.sketchBook.engine.screen_related.BaseScreen;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.FIXED_TIMESTAMP;
+import static official.sketchBook.game.util_related.constants.PhysicsC.MAX_ACCUMULATOR;
+
+/**
+ * Sistema de atualização que roda a simulação numa thread própria, no ritmo de PhysicsC.UPS_TARGET.
+ * <p>
+ * A cada tick a thread de simulação atualiza o manager, avança os visuais (animações) dos objetos e publica no
+ * {@link TransformSnapshotBuffer} um snapshot com os transforms e os draws de cada um, que o render system consome
+ * sem locks. Assim um tick lento não derruba frames e os dois loops escalam de forma independente.
+ * <p>
+ * Regras de thread:
+ * <ul>
+ *     <li>o manager e os gameObjects pertencem à thread de simulação enquanto ela roda, inclusive os visuais:
+ *     a thread de renderização desenha apenas o que está no snapshot e nunca toca nos objetos</li>
+ *     <li>screen.updateScreen e screen.postScreenUpdate rodam na thread de renderização, uma vez por frame</li>
+ *     <li>o {@link InputSnapshot} é capturado e lido na thread de simulação, por isso sua fonte deve poder ser
+ *     lida fora da thread do libGDX (ex.: um {@link official.sketchBook.engine.input_related.KeyEventDispatcher})</li>
+ *     <li>código da thread de renderização que precise mexer no mundo deve usar {@link #postToSimulation(Runnable)}</li>
+ * </ul>
+ */
+public class ThreadedUpdateSystem implements UpdateSystem {
+
+    private final BaseWorldDataManager worldManager;
+    /// Screen dona do sistema, pode ser null em simulações headless
+    private final BaseScreen screen;
+
+    private final TransformSnapshotBuffer snapshotBuffer = new TransformSnapshotBuffer();
+
+    /// Tarefas enviadas pela thread de renderização para rodar no início do próximo tick
+    private final Queue<Runnable> simulationTasks = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger updates = new AtomicInteger();
+    private final TickMetrics tickMetrics = new TickMetrics((long) (FIXED_TIMESTAMP * 1_000_000_000L));
+    /// Política aplicada na thread de simulação, null para desligar
+    private volatile AdaptiveStepPolicy adaptiveStepPolicy;
+    /// Teclas lidas uma vez por tick na thread de simulação
+    private final InputSnapshot inputSnapshot = new InputSnapshot();
+
+    private Thread simulationThread;
+    private volatile boolean running;
+
+    /// Falha que encerrou a thread de simulação, relançada na thread de renderização.
+    /// Inclui Errors (ex.: StackOverflowError num update), senão a thread morreria calada e o jogo congelaria
+    private volatile Throwable simulationFailure;
+
+    private long tick;
+    private volatile long lastPublishNanos;
+
+    public ThreadedUpdateSystem(
+        BaseWorldDataManager worldManager,
+        BaseScreen screen
+    ) {
+        if (worldManager == null) {
+            throw new IllegalArgumentException("ThreadedUpdateSystem precisa de um world manager");
+        }
+        this.worldManager = worldManager;
+        this.screen = screen;
+
+        worldManager.setInputSnapshot(inputSnapshot);
+    }
+
+    /// Inicia a thread de simulação, chamado automaticamente no primeiro update
+    public void start() {
+        if (running) return;
+
+        running = true;
+        simulationThread = new Thread(this::runSimulation, "simulation");
+        simulationThread.setDaemon(true);
+        simulationThread.start();
+    }
+
+    /// Para a thread de simulação e espera ela terminar o tick atual
+    public void stop() {
+        if (!running) return;
+
+        running = false;
+        LockSupport.unpark(simulationThread);
+        try {
+            simulationThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        simulationThread = null;
+    }
+
+    /// Loop de passo fixo da thread de simulação
+    private void runSimulation() {
+        final long stepNanos = (long) (FIXED_TIMESTAMP * 1_000_000_000L);
+        final long maxLagNanos = (long) (MAX_ACCUMULATOR * 1_000_000_000L);
+
+        long nextTick = System.nanoTime();
+
+        try {
+            while (running) {
+                long now = System.nanoTime();
+
+                if (now < nextTick) {
+                    LockSupport.parkNanos(nextTick - now);
+                    continue;
+                }
+
+                // Evita a espiral de atrasos descartando o tempo que não dá mais para recuperar
+                if (now - nextTick > maxLagNanos) {
+                    tickMetrics.recordSpiral((int) ((now - nextTick) / stepNanos));
+                    nextTick = now;
+                }
+
+                runSimulationTasks();
+
+                if (!worldManager.isDisposed()) {
+                    inputSnapshot.capture();
+                    worldManager.update(FIXED_TIMESTAMP);       //Já inclui a pós-atualização
+                    snapshotBuffer.publish(worldManager.getRenderQueue(), ++tick, FIXED_TIMESTAMP);
+                    lastPublishNanos = System.nanoTime();
+
+                    long tickNanos = lastPublishNanos - now;
+                    tickMetrics.recordTick(tickNanos);
+
+                    AdaptiveStepPolicy policy = adaptiveStepPolicy;
+                    if (policy != null) {
+                        policy.onTick(tickNanos, tickMetrics);
+                    }
+                }
+
+                updates.incrementAndGet();
+                nextTick += stepNanos;
+            }
+        } catch (Throwable e) {
+            simulationFailure = e;
+            running = false;
+        }
+    }
+
+    private void runSimulationTasks() {
+        Runnable task;
+        while ((task = simulationTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /// Agenda uma tarefa para rodar na thread de simulação, no início do próximo tick
+    public void postToSimulation(Runnable task) {
+        simulationTasks.add(task);
+    }
+
+    @Override
+    public void update(float delta) {
+        if (simulationFailure != null) {
+            throw new IllegalStateException("A thread de simulação falhou", simulationFailure);
+        }
+
+        start();
+
+        //Atualiza a screen uma vez por frame, na thread de renderização
+        if (screen != null) {
+            screen.updateScreen(delta);
+        }
+    }
+
+    @Override
+    public void postUpdate() {
+        //Pós atualização da screen
+        if (screen != null) {
+            screen.postScreenUpdate();
+        }
+    }
+
+    /// Fração do passo atual desde a última publicação
+    /// O render system calcula a sua própria a partir do snapshot que está usando
+    @Override
+    public float getInterpolationAlpha() {
+        long stepNanos = (long) (FIXED_TIMESTAMP * 1_000_000_000L);
+        long elapsed = System.nanoTime() - lastPublishNanos;
+        return Math.max(0f, Math.min(1f, (float) elapsed / stepNanos));
+    }
+
+    @Override
+    public TickMetrics getTickMetrics() {
+        return tickMetrics;
+    }
+
+    @Override
+    public InputSnapshot getInputSnapshot() {
+        return inputSnapshot;
+    }
+
+    /// Define a política adaptativa, que passa a rodar na thread de simulação a partir do próximo tick
+    public void setAdaptiveStepPolicy(AdaptiveStepPolicy adaptiveStepPolicy) {
+        AdaptiveStepPolicy previous = this.adaptiveStepPolicy;
+        this.adaptiveStepPolicy = adaptiveStepPolicy;
+        if (previous != null) {
+            postToSimulation(previous::reset);
+        }
+    }
+
+    /// Buffer de snapshots que deve ser entregue ao render system
+    public TransformSnapshotBuffer getSnapshotBuffer() {
+        return snapshotBuffer;
+    }
+
+    public BaseWorldDataManager getWorldManager() {
+        return worldManager;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getUpdatesMetric() {
+        return updates.get();
+    }
+
+    @Override
+    public void resetUpdateMetric() {
+        updates.set(0);
+    }
+
+    @Override
+    public void dispose() {
+        stop();
+        snapshotBuffer.clear();
+        worldManager.dispose();
+    }
+}
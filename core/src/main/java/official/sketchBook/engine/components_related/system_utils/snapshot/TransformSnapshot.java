@@ -0,0 +1,257 @@
+package official.sketchBook.engine.components_related.system_utils.snapshot;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.RenderAbleObject;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.dataManager_related.RenderQueue;
+
+import java.util.Arrays;
+
+/**
+ * Cópia de tudo o que é desenhado num tick da simulação, já em ordem de z.
+ * <p>
+ * Para cada objeto renderizável guarda os limites do transform, usados no culling, a textura usada no agrupamento
+ * e a lista de draws que o objeto gravou em {@link RenderAbleObject#captureDraws(TransformSnapshot)}: quadro,
+ * posição atual e anterior, tamanho, origem e rotação. Os quadros vêm dos caches de sprite sheet, que nunca são
+ * modificados, então a thread de renderização desenha apenas a partir destes arrays e não toca em nenhum objeto.
+ * <p>
+ * É escrito apenas pela thread de simulação e, depois de publicado por um {@link TransformSnapshotBuffer},
+ * é tratado como imutável pela thread de renderização até ser devolvido ao buffer.
+ */
+public class TransformSnapshot {
+
+    /// Tick da simulação que gerou este snapshot
+    private long tick;
+    /// Momento (System.nanoTime) em que o snapshot foi publicado
+    private long publishNanos;
+
+    /// Se o snapshot está sendo preenchido, apenas nesse período os objetos podem gravar draws
+    private boolean capturing;
+
+    private int count;
+
+    private float[] x = new float[64], y = new float[64], z = new float[64];
+    private float[] width = new float[64], height = new float[64];
+    /// Textura única de cada objeto, null quando ele usa mais de uma
+    private Texture[] textures = new Texture[64];
+    /// Primeiro draw de cada objeto, os draws do objeto i vão até o primeiro draw do objeto i + 1
+    private int[] drawStart = new int[65];
+
+    private int drawCount;
+
+    private TextureRegion[] drawRegion = new TextureRegion[64];
+    private float[] drawX = new float[64], drawY = new float[64];
+    private float[] drawPreviousX = new float[64], drawPreviousY = new float[64];
+    private float[] drawWidth = new float[64], drawHeight = new float[64];
+    private float[] drawOriginX = new float[64], drawOriginY = new float[64];
+    private float[] drawRotation = new float[64];
+
+    /**
+     * Copia o estado atual da fila de renderização, na ordem de desenho.
+     * <p>
+     * Antes da cópia os visuais de cada objeto avançam um passo, nesta mesma thread, então animações e quadros
+     * são atualizados no ritmo da simulação e nunca pela thread de renderização.
+     *
+     * @param queue        Fila de renderização do manager.
+     * @param tick         Tick da simulação.
+     * @param visualsDelta Tempo do passo, usado para avançar as animações.
+     */
+    void capture(RenderQueue queue, long tick, float visualsDelta) {
+        ensureCapacity(queue.size());
+        int previousDrawCount = drawCount;
+        count = 0;
+        drawCount = 0;
+        capturing = true;
+
+        try {
+            for (int b = 0; b < queue.getBucketCount(); b++) {
+                for (int i = 0; i < queue.getBucketSize(b); i++) {
+                    RenderAbleObject obj = queue.get(b, i);
+                    if (obj.isPendingRemoval()) continue;
+
+                    obj.updateVisuals(visualsDelta);
+
+                    TransformComponent transform = obj.getTransformC();
+                    x[count] = transform.getX();
+                    y[count] = transform.getY();
+                    z[count] = transform.getZ();
+                    width[count] = transform.getWidth();
+                    height[count] = transform.getHeight();
+                    textures[count] = obj.getRenderTexture();
+                    drawStart[count] = drawCount;
+
+                    obj.captureDraws(this);
+                    count++;
+                }
+            }
+        } finally {
+            capturing = false;
+        }
+        drawStart[count] = drawCount;
+
+        // Solta as referências que sobraram do uso anterior deste buffer
+        if (previousDrawCount > drawCount) {
+            Arrays.fill(drawRegion, drawCount, previousDrawCount, null);
+        }
+
+        this.tick = tick;
+    }
+
+    /**
+     * Grava um draw do objeto que está sendo copiado. Chamado apenas de dentro de
+     * {@link RenderAbleObject#captureDraws(TransformSnapshot)}.
+     *
+     * @param region    Quadro desenhado, que não pode ser modificado depois (ex.: vindo de um cache de sheet).
+     * @param x         Posição X atual do draw.
+     * @param y         Posição Y atual do draw.
+     * @param previousX Posição X do draw no passo anterior, para a interpolação.
+     * @param previousY Posição Y do draw no passo anterior, para a interpolação.
+     * @param width     Largura desenhada, negativa para espelhar a partir da borda oposta.
+     * @param height    Altura desenhada, negativa para espelhar a partir da borda oposta.
+     * @param originX   Origem da rotação no eixo X.
+     * @param originY   Origem da rotação no eixo Y.
+     * @param rotation  Rotação em graus.
+     */
+    public void recordDraw(
+        TextureRegion region,
+        float x,
+        float y,
+        float previousX,
+        float previousY,
+        float width,
+        float height,
+        float originX,
+        float originY,
+        float rotation
+    ) {
+        if (!capturing) {
+            throw new IllegalStateException("Draws só podem ser gravados durante a captura do snapshot");
+        }
+        if (region == null) {
+            throw new IllegalArgumentException("region não pode ser null");
+        }
+
+        ensureDrawCapacity(drawCount + 1);
+        drawRegion[drawCount] = region;
+        drawX[drawCount] = x;
+        drawY[drawCount] = y;
+        drawPreviousX[drawCount] = previousX;
+        drawPreviousY[drawCount] = previousY;
+        drawWidth[drawCount] = width;
+        drawHeight[drawCount] = height;
+        drawOriginX[drawCount] = originX;
+        drawOriginY[drawCount] = originY;
+        drawRotation[drawCount] = rotation;
+        drawCount++;
+    }
+
+    /// Desenha os draws gravados pelo objeto, interpolando entre o passo anterior (alpha = 0) e este (alpha = 1)
+    public void draw(Batch batch, int index, float alpha) {
+        for (int d = drawStart[index], end = drawStart[index + 1]; d < end; d++) {
+            float drawAtX = alpha >= 1f ? drawX[d] : drawPreviousX[d] + (drawX[d] - drawPreviousX[d]) * alpha;
+            float drawAtY = alpha >= 1f ? drawY[d] : drawPreviousY[d] + (drawY[d] - drawPreviousY[d]) * alpha;
+
+            batch.draw(
+                drawRegion[d],
+                drawAtX,
+                drawAtY,
+                drawOriginX[d],
+                drawOriginY[d],
+                drawWidth[d],
+                drawHeight[d],
+                1f,
+                1f,
+                drawRotation[d]
+            );
+        }
+    }
+
+    void markPublished(long publishNanos) {
+        this.publishNanos = publishNanos;
+    }
+
+    /// Esvazia o snapshot, soltando as referências aos quadros e texturas
+    void clear() {
+        Arrays.fill(textures, 0, count, null);
+        Arrays.fill(drawRegion, 0, drawCount, null);
+        count = 0;
+        drawCount = 0;
+        drawStart[0] = 0;
+    }
+
+    private void ensureCapacity(int size) {
+        if (x.length >= size) {
+            Arrays.fill(textures, size, textures.length, null);
+            return;
+        }
+
+        int newSize = Math.max(size, x.length * 2);
+        x = Arrays.copyOf(x, newSize);
+        y = Arrays.copyOf(y, newSize);
+        z = Arrays.copyOf(z, newSize);
+        width = Arrays.copyOf(width, newSize);
+        height = Arrays.copyOf(height, newSize);
+        textures = new Texture[newSize];
+        drawStart = new int[newSize + 1];
+    }
+
+    private void ensureDrawCapacity(int size) {
+        if (drawRegion.length >= size) return;
+
+        int newSize = Math.max(size, drawRegion.length * 2);
+        drawRegion = Arrays.copyOf(drawRegion, newSize);
+        drawX = Arrays.copyOf(drawX, newSize);
+        drawY = Arrays.copyOf(drawY, newSize);
+        drawPreviousX = Arrays.copyOf(drawPreviousX, newSize);
+        drawPreviousY = Arrays.copyOf(drawPreviousY, newSize);
+        drawWidth = Arrays.copyOf(drawWidth, newSize);
+        drawHeight = Arrays.copyOf(drawHeight, newSize);
+        drawOriginX = Arrays.copyOf(drawOriginX, newSize);
+        drawOriginY = Arrays.copyOf(drawOriginY, newSize);
+        drawRotation = Arrays.copyOf(drawRotation, newSize);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /// Quantidade total de draws gravados
+    public int getDrawCount() {
+        return drawCount;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getPublishNanos() {
+        return publishNanos;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public float getZ(int index) {
+        return z[index];
+    }
+
+    public float getWidth(int index) {
+        return width[index];
+    }
+
+    public float getHeight(int index) {
+        return height[index];
+    }
+
+    /// Textura única do objeto, null se ele desenha com mais de uma
+    public Texture getTexture(int index) {
+        return textures[index];
+    }
+}
@@ -0,0 +1,77 @@
+package official.sketchBook.engine.components_related.system_utils.snapshot;
+
+import official.sketchBook.engine.dataManager_related.RenderQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Troca de snapshots de renderização entre a thread de simulação (escritora) e a de renderização (leitora) sem locks.
+ * <p>
+ * A escritora e a leitora têm cada uma o seu buffer exclusivo, e um terceiro buffer fica no meio
+ * guardando o último snapshot publicado. Publicar e consumir são uma única troca atômica com o buffer do meio,
+ * então nenhuma das threads espera a outra e a leitora nunca vê um snapshot pela metade.
+ * Se a simulação publicar mais de uma vez entre dois frames, a leitora recebe apenas o mais recente.
+ */
+public class TransformSnapshotBuffer {
+
+    /// Bit que indica que o buffer do meio tem um snapshot ainda não consumido
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final TransformSnapshot[] snapshots = {
+        new TransformSnapshot(),
+        new TransformSnapshot(),
+        new TransformSnapshot()
+    };
+
+    /// Índice do buffer do meio, com o bit FRESH
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    /// Buffer exclusivo da escritora
+    private int writeIndex = 0;
+    /// Buffer exclusivo da leitora
+    private int readIndex = 2;
+
+    /// Se algum snapshot já foi publicado
+    private volatile boolean hasPublished;
+
+    /**
+     * Avança os visuais dos objetos, copia a fila de renderização e publica o resultado.
+     * Chamado apenas pela thread de simulação.
+     *
+     * @param queue        Fila de renderização do manager.
+     * @param tick         Tick da simulação que está sendo publicado.
+     * @param visualsDelta Tempo do passo, usado para avançar as animações.
+     */
+    public void publish(RenderQueue queue, long tick, float visualsDelta) {
+        TransformSnapshot snapshot = snapshots[writeIndex];
+        snapshot.capture(queue, tick, visualsDelta);
+        snapshot.markPublished(System.nanoTime());
+
+        writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+        hasPublished = true;
+    }
+
+    /**
+     * Obtém o snapshot mais recente. Chamado apenas pela thread de renderização.
+     * Se nada novo foi publicado desde a última chamada, devolve o mesmo snapshot da vez anterior.
+     */
+    public TransformSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return snapshots[readIndex];
+    }
+
+    public boolean hasPublished() {
+        return hasPublished;
+    }
+
+    /// Solta as referências de todos os buffers, só deve ser chamado com a simulação parada
+    public void clear() {
+        for (TransformSnapshot snapshot : snapshots) {
+            snapshot.clear();
+        }
+        hasPublished = false;
+    }
+}
@@ -0,0 +1,111 @@
+package official.sketchBook.engine.components_related.system_utils.timing;
+
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+
+/**
+ * Política que reduz o custo do passo fixo quando os ticks passam do orçamento e o restaura quando sobra folga.
+ * <p>
+ * Os níveis são aplicados em ordem:
+ * <ol>
+ *     <li>{@link #LEVEL_NORMAL}: iterações originais do box2d e todos os objetos atualizados</li>
+ *     <li>{@link #LEVEL_REDUCED_ITERATIONS}: metade das iterações de velocidade e posição do box2d</li>
+ *     <li>{@link #LEVEL_SKIP_NON_CRITICAL}: além disso, objetos não críticos deixam de ser atualizados</li>
+ * </ol>
+ * Degrada um nível após {@code overrunsToDegrade} ticks seguidos acima do orçamento e recupera um nível após
+ * {@code ticksToRecover} ticks seguidos abaixo de {@code recoverRatio} do orçamento.
+ */
+public class AdaptiveStepPolicy {
+
+    public static final int LEVEL_NORMAL = 0;
+    public static final int LEVEL_REDUCED_ITERATIONS = 1;
+    public static final int LEVEL_SKIP_NON_CRITICAL = 2;
+
+    private final BaseWorldDataManager worldManager;
+
+    /// Iterações originais do manager, restauradas no nível normal
+    private final int baseVelIterations;
+    private final int basePosIterations;
+
+    private final int overrunsToDegrade;
+    private final int ticksToRecover;
+    private final float recoverRatio;
+
+    private int level = LEVEL_NORMAL;
+    private int consecutiveOverruns;
+    private int consecutiveUnderBudget;
+
+    public AdaptiveStepPolicy(BaseWorldDataManager worldManager) {
+        this(worldManager, 3, 120, 0.6f);
+    }
+
+    /**
+     * @param worldManager      Manager cujas iterações e atualizações serão ajustadas.
+     * @param overrunsToDegrade Ticks seguidos acima do orçamento para descer um nível.
+     * @param ticksToRecover    Ticks seguidos com folga para subir um nível.
+     * @param recoverRatio      Fração do orçamento abaixo da qual um tick conta como folga.
+     */
+    public AdaptiveStepPolicy(BaseWorldDataManager worldManager, int overrunsToDegrade, int ticksToRecover, float recoverRatio) {
+        if (worldManager == null) {
+            throw new IllegalArgumentException("AdaptiveStepPolicy precisa de um world manager");
+        }
+        if (overrunsToDegrade <= 0 || ticksToRecover <= 0 || recoverRatio <= 0 || recoverRatio >= 1) {
+            throw new IllegalArgumentException("Parâmetros inválidos para a política adaptativa");
+        }
+        this.worldManager = worldManager;
+        this.baseVelIterations = worldManager.getVelIterations();
+        this.basePosIterations = worldManager.getPosIterations();
+        this.overrunsToDegrade = overrunsToDegrade;
+        this.ticksToRecover = ticksToRecover;
+        this.recoverRatio = recoverRatio;
+    }
+
+    /// Avalia a duração de um tick e muda de nível se necessário, registrando o nível nas métricas
+    public void onTick(long tickNanos, TickMetrics metrics) {
+        long budget = metrics.getTickBudgetNanos();
+
+        if (tickNanos > budget) {
+            consecutiveUnderBudget = 0;
+            if (++consecutiveOverruns >= overrunsToDegrade && level < LEVEL_SKIP_NON_CRITICAL) {
+                applyLevel(level + 1);
+                consecutiveOverruns = 0;
+            }
+        } else {
+            consecutiveOverruns = 0;
+            if (tickNanos < budget * recoverRatio) {
+                if (++consecutiveUnderBudget >= ticksToRecover && level > LEVEL_NORMAL) {
+                    applyLevel(level - 1);
+                    consecutiveUnderBudget = 0;
+                }
+            } else {
+                consecutiveUnderBudget = 0;
+            }
+        }
+
+        metrics.setDegradationLevel(level);
+    }
+
+    /// Volta ao nível normal restaurando o estado original do manager
+    public void reset() {
+        applyLevel(LEVEL_NORMAL);
+        consecutiveOverruns = 0;
+        consecutiveUnderBudget = 0;
+    }
+
+    private void applyLevel(int newLevel) {
+        this.level = newLevel;
+
+        if (newLevel >= LEVEL_REDUCED_ITERATIONS) {
+            worldManager.setVelIterations(Math.max(1, baseVelIterations / 2));
+            worldManager.setPosIterations(Math.max(1, basePosIterations / 2));
+        } else {
+            worldManager.setVelIterations(baseVelIterations);
+            worldManager.setPosIterations(basePosIterations);
+        }
+
+        worldManager.setSkipNonCriticalUpdates(newLevel >= LEVEL_SKIP_NON_CRITICAL);
+    }
+
+    public int getLevel() {
+        return level;
+    }
+}
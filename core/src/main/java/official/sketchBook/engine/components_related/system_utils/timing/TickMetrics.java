@@ -0,0 +1,126 @@
+package official.sketchBook.engine.components_related.system_utils.timing;
+
+/**
+ * Métricas de tempo dos passos fixos de um update system.
+ * <p>
+ * Escrito apenas pela thread que roda a simulação e lido por qualquer thread (ex.: overlay de debug),
+ * por isso os campos são voláteis. Os contadores acumulam até {@link #reset()}, o nível de degradação não.
+ */
+public class TickMetrics {
+
+    /// Peso da amostra mais recente na média móvel
+    private static final double AVERAGE_WEIGHT = 0.1;
+
+    /// Tempo máximo que um tick pode levar sem ser considerado estouro
+    private final long tickBudgetNanos;
+
+    private volatile long lastTickNanos;
+    private volatile long maxTickNanos;
+    private volatile double averageTickNanos;
+
+    private volatile int ticks;
+    /// Ticks que passaram do orçamento
+    private volatile int overrunTicks;
+
+    /// Frames em que o delta passou de MAX_ACCUMULATOR e foi cortado
+    private volatile int clampedFrames;
+    /// Frames que atingiram o limite de passos e ainda tinham tempo acumulado (espiral de atrasos)
+    private volatile int spiralFrames;
+    /// Passos descartados para sair da espiral de atrasos
+    private volatile int droppedSteps;
+
+    /// Nível atual da política adaptativa (0 quando não há degradação)
+    private volatile int degradationLevel;
+
+    public TickMetrics(long tickBudgetNanos) {
+        if (tickBudgetNanos <= 0) {
+            throw new IllegalArgumentException("Orçamento do tick deve ser maior que 0");
+        }
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+
+    /// Registra a duração de um tick, retornando se ele passou do orçamento
+    public boolean recordTick(long tickNanos) {
+        lastTickNanos = tickNanos;
+        if (tickNanos > maxTickNanos) maxTickNanos = tickNanos;
+
+        averageTickNanos = ticks == 0 && averageTickNanos == 0
+            ? tickNanos
+            : averageTickNanos + (tickNanos - averageTickNanos) * AVERAGE_WEIGHT;
+
+        ticks++;
+
+        boolean overrun = tickNanos > tickBudgetNanos;
+        if (overrun) overrunTicks++;
+        return overrun;
+    }
+
+    public void recordClampedFrame() {
+        clampedFrames++;
+    }
+
+    /// Registra um frame que atingiu o limite de passos e os passos descartados por ele
+    public void recordSpiral(int dropped) {
+        spiralFrames++;
+        droppedSteps += dropped;
+    }
+
+    public void setDegradationLevel(int degradationLevel) {
+        this.degradationLevel = degradationLevel;
+    }
+
+    /// Zera os contadores e o máximo, mantendo a média e o nível de degradação
+    public void reset() {
+        maxTickNanos = 0;
+        ticks = 0;
+        overrunTicks = 0;
+        clampedFrames = 0;
+        spiralFrames = 0;
+        droppedSteps = 0;
+    }
+
+    public long getTickBudgetNanos() {
+        return tickBudgetNanos;
+    }
+
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    public double getAverageTickNanos() {
+        return averageTickNanos;
+    }
+
+    /// Média dos ticks como fração do orçamento (1 = orçamento inteiro)
+    public float getBudgetUsage() {
+        return (float) (averageTickNanos / tickBudgetNanos);
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public int getOverrunTicks() {
+        return overrunTicks;
+    }
+
+    public int getClampedFrames() {
+        return clampedFrames;
+    }
+
+    public int getSpiralFrames() {
+        return spiralFrames;
+    }
+
+    public int getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    public int getDegradationLevel() {
+        return degradationLevel;
+    }
+}
@@ -2,15 +2,25 @@ package official.sketchBook.engine.dataManager_related;
 
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Disposable;
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.GameObjectUpdater;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.Poolable;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.RenderAbleObject;
-import official.sketchBook.engine.components_related.intefaces.integration_interfaces.StaticResourceDisposable;
+import official.sketchBook.engine.ecs_related.EcsWorld;
 import official.sketchBook.engine.gameObject_related.BaseGameObject;
+import official.sketchBook.engine.input_related.InputSnapshot;
+import official.sketchBook.engine.profiler_related.FrameProfiler;
+import official.sketchBook.engine.resource_related.ResourceRegistry;
+import official.sketchBook.engine.streaming_related.ChunkStreamer;
 
-import java.lang.reflect.Method;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public abstract class BaseWorldDataManager implements Disposable {
 
+    /// Quantidade padrão de instâncias livres guardadas por pool
+    public static final int DEFAULT_POOL_SIZE = 256;
+
     protected float timeStep;
     protected int velIterations;
     protected int posIterations;
@@ -19,22 +29,59 @@ public abstract class BaseWorldDataManager implements Disposable {
     protected boolean physicsWorldExists;
     /// Se o manager foi limpo
     protected boolean disposed = false;
-    /// Se as camadas de rendering precisam ter suas ordens atualizadas
+    /// Se algum z pode ter mudado sem aviso individual, exige uma verificação de todos os objetos
     protected boolean renderingNeedsSorting = false;
+    /// Se objetos não críticos devem ter o update pulado, usado quando o passo fixo está sobrecarregado
+    protected boolean skipNonCriticalUpdates = false;
 
     /// Mundo físico para usar o box2d. Não é obrigatório
     protected World physicsWorld;
 
+    /// Recebe o tempo do step do mundo e a contagem de objetos, null para não medir
+    protected FrameProfiler profiler;
+
+    /// Teclas do passo atual, definido pelo update system, null para que os controllers usem polling
+    protected InputSnapshot inputSnapshot;
+
+    /// Recursos compartilhados (texturas, atlas...) adquiridos pela screen, os objetos só os usam
+    protected ResourceRegistry resourceRegistry;
+
+    /// Estaciona os objetos longe da câmera e recria os que voltam a ficar perto, null para manter tudo vivo
+    protected ChunkStreamer chunkStreamer;
+
     /// Lista de gameObjects base ativos
     protected final List<BaseGameObject> gameObjectList = new ArrayList<>();
     /// Lista de gameObjects a serem adicionados
     protected final List<BaseGameObject> gameObjectToAddList = new ArrayList<>();
+    /// Objetos tirados da lista na compactação atual, reaproveitada entre os passos
+    private final List<BaseGameObject> removedGameObjects = new ArrayList<>();
+
+    /// Fila de objects que precisam de rendering, dividida em buckets de z
+    protected final RenderQueue renderQueue = new RenderQueue();
+    /// Objects renderizáveis ainda em construção, entram na fila no próximo flush
+    protected final List<RenderAbleObject> renderAbleObjectToAddList = new ArrayList<>();
+
+    /// Spawns, remoções e mudanças de z pedidos por qualquer thread, executados no começo de cada atualização
+    protected final WorldCommandBuffer commandBuffer = new WorldCommandBuffer();
+
+    /// Handles geracionais dos objetos do manager, para referências que não seguram objetos removidos
+    protected final GameObjectHandleTable handleTable = new GameObjectHandleTable();
+
+    /// Substitui o laço em série do update dos objetos, null usa o laço padrão
+    protected GameObjectUpdater gameObjectUpdater;
+
+    /// Componentes dos objetos ativos, atualizados em grupos por classe
+    protected final ComponentScheduler componentScheduler = new ComponentScheduler(this);
+
+    /// Entidades orientadas a dados atualizadas junto com os objetos, null quando a cena não usa o ECS
+    protected EcsWorld ecsWorld;
 
-    /// Lista de objects que precisam de rendering
-    protected final List<RenderAbleObject> renderAbleObjectList = new ArrayList<>();
+    /// Transforms de todos os objetos do manager, em arrays densos
+    protected final TransformStore transformStore = new TransformStore();
+
+    /// Pools de objetos poolable, um por classe
+    protected final Map<Class<? extends BaseGameObject>, GameObjectPool<?>> pools = new HashMap<>();
 
-    /// Rastreamento de todas as classes que passaram pelo manager
-    protected final Set<Class<? extends BaseGameObject>> registeredClasses = new HashSet<>();
 
     public BaseWorldDataManager(
         World physicsWorld,
@@ -58,10 +105,19 @@ public abstract class BaseWorldDataManager implements Disposable {
     /// Atualização do manager
     public void update(float delta) {
 
-        //Tenta adicionar os objetos novos
-        if (!gameObjectToAddList.isEmpty()) {
-            gameObjectList.addAll(gameObjectToAddList);
-            gameObjectToAddList.clear();
+        this.beginUpdate();                                     //Adiciona os novos e remove os pendentes
+        this.updateComponents(delta);                           //Componentes agrupados por classe
+        this.updateGameObjects(delta);                          //Update dos objetos
+        this.updateEcs(delta);                                  //Sistemas do ECS
+        this.endUpdate();                                       //Step do mundo e pós-atualização
+
+    }
+
+    /// Atualiza os objetos ativos, pelo updater instalado ou em série de cima pra baixo
+    protected void updateGameObjects(float delta) {
+        if (gameObjectUpdater != null) {
+            gameObjectUpdater.updateGameObjects(this, delta);
+            return;
         }
 
         //Itera de cima pra baixo
@@ -69,38 +125,230 @@ public abstract class BaseWorldDataManager implements Disposable {
             //Obtém uma referencia
             BaseGameObject object = gameObjectList.get(i);
 
+            if (!shouldUpdate(object)) continue;                //Pendente para remoção ou pulado por sobrecarga
+
+            object.update(delta);                               //Atualização padrão
+        }
+    }
+
+    /**
+     * Primeira fase da atualização: integra os objetos novos e executa a sequência de destruição dos pendentes.
+     * <p>
+     * Deve rodar na thread principal, pois mexe nas listas do manager e no mundo físico.
+     */
+    public void beginUpdate() {
+
+        //Ponto de sincronização dos comandos pedidos por outras threads desde o último passo
+        commandBuffer.drain(this);
+
+        //Estaciona e recria objetos antes da integração, assim os recriados já entram neste passo
+        if (chunkStreamer != null) {
+            chunkStreamer.update();
+        }
+
+        //Tenta adicionar os objetos novos
+        if (!gameObjectToAddList.isEmpty()) {
+            for (int i = 0; i < gameObjectToAddList.size(); i++) {
+                BaseGameObject object = gameObjectToAddList.get(i);
+                object.setManagerIndex(gameObjectList.size() + i);
+                componentScheduler.register(object);
+            }
+            gameObjectList.addAll(gameObjectToAddList);
+            gameObjectToAddList.clear();
+        }
+        flushRenderAbleObjects();
+        storePreviousTransforms();
+
+        removePendingGameObjects();
+    }
+
+    /**
+     * Tira da lista os objetos pendentes para remoção numa única passada.
+     * <p>
+     * A lista é compactada em ordem, movendo cada sobrevivente para a próxima posição livre e atualizando a
+     * posição guardada nele, então o custo é O(n) mesmo quando milhares de objetos morrem no mesmo passo.
+     * Os removidos só são destruídos depois da compactação, do último para o primeiro, como antes.
+     */
+    protected void removePendingGameObjects() {
+        int size = gameObjectList.size();
+        int write = 0;
+
+        for (int read = 0; read < size; read++) {
+            BaseGameObject object = gameObjectList.get(read);
+
             if (object.isPendingRemoval()) {                    //Se estiver pendente para remoção
-                gameObjectList.remove(i);                       //Remove da lista de objetos ativos
+                removedGameObjects.add(object);
+                continue;
+            }
+
+            if (write != read) {
+                gameObjectList.set(write, object);
+                object.setManagerIndex(write);
+            }
+            write++;
+        }
 
-                if(object instanceof RenderAbleObject){
-                    renderAbleObjectList.remove((RenderAbleObject) object);
+        if (removedGameObjects.isEmpty()) return;
+
+        gameObjectList.subList(write, size).clear();            //Corta a cauda de uma vez
+
+        // A lista já foi compactada, então o buffer é esvaziado mesmo que a liberação de um objeto falhe,
+        // senão os mesmos objetos seriam liberados de novo no próximo passo
+        try {
+            for (int i = removedGameObjects.size() - 1; i >= 0; i--) {
+                BaseGameObject object = removedGameObjects.get(i);
+                object.setManagerIndex(-1);
+                handleTable.release(object.getHandle());        //Handles guardados passam a resolver para null
+                object.setHandle(GameObjectHandleTable.NULL_HANDLE);
+                componentScheduler.unregister(object);
+
+                if (object instanceof RenderAbleObject) {
+                    removeRenderAbleObject((RenderAbleObject) object);
                 }
 
-                object.destroy();                               //Executa a pipeline contendo a sequencia de destruição
-                continue;                                       //Passa pro próximo objeto
+                releaseGameObject(object);                      //Destrói ou devolve ao pool
             }
+        } finally {
+            removedGameObjects.clear();
+        }
+    }
 
-            object.update(delta);                               //Atualização padrão
+    /// Devolve objetos poolable ao pool da sua classe, os demais passam pela sequência de destruição
+    protected void releaseGameObject(BaseGameObject object) {
+        if (object.isParked()) {
+            object.dispose();                                   //O estado já foi serializado, não é uma destruição
+            return;
+        }
+
+        GameObjectPool<?> pool = object instanceof Poolable ? pools.get(object.getClass()) : null;
+
+        if (pool == null) {
+            object.destroy();                                   //Executa a pipeline contendo a sequencia de destruição
+            return;
+        }
+
+        object.recycle();
+        if (!pool.free(object)) {
+            object.dispose();                                   //Pool cheio, a instância é descartada
+        }
+    }
+
+    /// Registra um pool para a classe, com o tamanho padrão
+    public <T extends BaseGameObject & Poolable> GameObjectPool<T> registerPool(
+        Class<T> type,
+        Function<BaseWorldDataManager, T> factory
+    ) {
+        return registerPool(type, factory, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Registra um pool para a classe informada.
+     *
+     * @param type    Classe exata dos objetos do pool.
+     * @param factory Cria uma instância nova quando o pool está vazio.
+     * @param maxFree Quantidade máxima de instâncias livres guardadas.
+     */
+    public <T extends BaseGameObject & Poolable> GameObjectPool<T> registerPool(
+        Class<T> type,
+        Function<BaseWorldDataManager, T> factory,
+        int maxFree
+    ) {
+        if (pools.containsKey(type)) {
+            throw new IllegalStateException("Já existe um pool para " + type.getSimpleName());
+        }
+        GameObjectPool<T> pool = new GameObjectPool<>(type, factory, maxFree);
+        pools.put(type, pool);
+        return pool;
+    }
+
+    /// Obtém uma instância do pool da classe, reaproveitada ou nova
+    public <T extends BaseGameObject & Poolable> T spawn(Class<T> type) {
+        return spawn(type, null);
+    }
+
+    /**
+     * Obtém uma instância do pool da classe e a coloca no mundo.
+     * Assim como um objeto recém-construído, ela só passa a ser atualizada no próximo passo.
+     *
+     * @param type  Classe com um pool registrado.
+     * @param setup Configuração da instância (posição, direção...), pode ser null.
+     */
+    public <T extends BaseGameObject & Poolable> T spawn(Class<T> type, Consumer<? super T> setup) {
+        GameObjectPool<T> pool = getPool(type);
+        if (pool == null) {
+            throw new IllegalArgumentException("Nenhum pool registrado para " + type.getSimpleName());
+        }
+
+        T instance = pool.obtain(this);
+        instance.reactivateFromPool();
+
+        if (setup != null) {
+            setup.accept(instance);
+        }
+        return instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends BaseGameObject & Poolable> GameObjectPool<T> getPool(Class<T> type) {
+        return (GameObjectPool<T>) pools.get(type);
+    }
+
+    /// Se o objeto deve ser atualizado neste passo
+    public boolean shouldUpdate(BaseGameObject object) {
+        if (object.isPendingRemoval()) return false;            //Será removido na próxima atualização
+        return !skipNonCriticalUpdates || object.isUpdateCritical();
+    }
+
+    /// Update dos componentes registrados no scheduler, antes do update dos objetos
+    public void updateComponents(float delta) {
+        componentScheduler.update(delta);
+    }
+
+    /// Executa os sistemas do ECS, depois do update dos objetos
+    public void updateEcs(float delta) {
+        if (ecsWorld != null) {
+            ecsWorld.update(delta);
         }
+    }
 
+    /// Guarda a posição de todos os transforms antes do passo, para a interpolação da renderização
+    protected void storePreviousTransforms() {
+        transformStore.storePreviousState();
+        if (ecsWorld != null) {
+            ecsWorld.storePreviousPositions();
+        }
+    }
+
+    /// Última fase da atualização: step do mundo físico e pós-atualização dos objetos
+    public void endUpdate() {
         this.worldStep();                                       //Tenta realizar um step
         this.postUpdateGameObjects();                           //Pós-atualização manual
-
     }
 
     /// Tenta realizar um step do world caso ele exista
     public void worldStep() {
+        if (profiler != null) {
+            profiler.setCounter(FrameProfiler.Counter.GAME_OBJECTS, gameObjectList.size());
+        }
+
         if (!physicsWorldExists) return;
 
+        long start = profiler != null ? profiler.begin() : 0L;
+
         physicsWorld.step(
             timeStep,
             velIterations,
             posIterations
         );
 
+        if (profiler != null) {
+            profiler.end(FrameProfiler.Phase.WORLD_STEP, start);
+        }
     }
 
     public void postUpdateGameObjects() {
+        componentScheduler.postUpdate();
+
         for (BaseGameObject gameObject : gameObjectList) {
             if (!gameObject.isPendingRemoval()) {
                 gameObject.postUpdate();
@@ -121,8 +369,10 @@ public abstract class BaseWorldDataManager implements Disposable {
     public final void dispose() {
         if(disposed) return;
 
+        if (chunkStreamer != null) {
+            chunkStreamer.dispose();
+        }
         disposeGameObjectInstances();
-        disposeGameObjectsStaticResourcesOnce();
         disposeLists();
         disposePhysicsWorld();
 
@@ -133,14 +383,25 @@ public abstract class BaseWorldDataManager implements Disposable {
         for (BaseGameObject gameObject : gameObjectList) {
             gameObject.dispose();
         }
+        for (GameObjectPool<?> pool : pools.values()) {
+            pool.disposeFree();
+        }
     }
 
     /// Limpa as listas existentes
     protected void disposeLists(){
         gameObjectList.clear();
         gameObjectToAddList.clear();
-        registeredClasses.clear();
-        renderAbleObjectList.clear();
+        commandBuffer.clear();
+        handleTable.clear();
+        componentScheduler.clear();
+        if (ecsWorld != null) {
+            ecsWorld.clear();
+        }
+        renderQueue.clear();
+        renderAbleObjectToAddList.clear();
+        transformStore.clear();
+        pools.clear();
     }
 
     /// Limpa o mundo físico
@@ -154,77 +415,153 @@ public abstract class BaseWorldDataManager implements Disposable {
 
     }
 
-    /**
-     * Limpa recursos estáticos de forma SEGURA.
-     *
-     * Itera por TODAS as classes registradas (em registeredClasses),
-     * não apenas as que ainda estão ativas.
-     * Isso garante que mesmo classes cujos objetos foram removidos
-     * tenham seus recursos estáticos limpos.
-     */
-    public void disposeGameObjectsStaticResourcesOnce() {
-        Set<Class<? extends BaseGameObject>> cleanedClasses = new HashSet<>();
-
-        // Usa registeredClasses (todas as classes que PASSARAM pelo manager)
-        // Em vez de apenas as ativas
-        for (Class<? extends BaseGameObject> clazz : registeredClasses) {
+    public void addGameObject(BaseGameObject go) {
+        gameObjectToAddList.add(go);
+        go.setHandle(handleTable.allocate(go));                 //Objetos reativados do pool recebem um handle novo
 
-            // Pula se já foi disposado
-            if (cleanedClasses.contains(clazz)) {
-                continue;
-            }
+        if(go instanceof RenderAbleObject){
+            // O objeto ainda está sendo construído, então o z só é lido quando ele entra na fila
+            renderAbleObjectToAddList.add((RenderAbleObject) go);
+        }
+    }
 
-            // ✅ Só tenta reflection se implementar interface
-            if (!StaticResourceDisposable.class.isAssignableFrom(clazz)) {
-                continue;
-            }
+    /// Insere na fila de renderização os objetos que terminaram de ser construídos
+    protected void flushRenderAbleObjects() {
+        if (renderAbleObjectToAddList.isEmpty()) return;
 
-            try {
-                Method method = clazz.getMethod("disposeStaticResources");
-                method.invoke(null);
-                cleanedClasses.add(clazz);
-            } catch (NoSuchMethodException e) {
-                System.err.println("ERRO: Classe " + clazz.getSimpleName() +
-                    " implementa StaticResourceDisposable mas não tem disposeStaticResources()");
-            } catch (Exception e) {
-                System.err.println("Erro ao disposar recursos estáticos de " + clazz.getSimpleName());
-//                e.printStackTrace();
+        for (int i = 0; i < renderAbleObjectToAddList.size(); i++) {
+            RenderAbleObject obj = renderAbleObjectToAddList.get(i);
+            if (!obj.isPendingRemoval()) {
+                renderQueue.add(obj);
+                obj.getTransformC().storePreviousState();   //Não interpola a partir de onde o objeto estava antes
             }
         }
+        renderAbleObjectToAddList.clear();
     }
 
-    public void addGameObject(BaseGameObject go) {
-        gameObjectToAddList.add(go);
-        registeredClasses.add(go.getClass());
-
-        if(go instanceof RenderAbleObject){
-            renderAbleObjectList.add((RenderAbleObject) go);
-            renderingNeedsSorting = true;
+    /// Remove um objeto da fila de renderização em O(1)
+    protected void removeRenderAbleObject(RenderAbleObject obj) {
+        if (obj.getRenderQueueSlot().isQueued()) {
+            renderQueue.remove(obj);
+        } else {
+            renderAbleObjectToAddList.remove(obj);
         }
     }
 
+    /// Mantém a fila de renderização em ordem de z sem reordenar tudo
+    /// Insere os objetos novos e, se necessário, move os objetos cujo z mudou sem aviso
     public void sortRenderables() {
+        flushRenderAbleObjects();
+
         if (renderingNeedsSorting) {
-            // Ordenação estável para não tremer objetos no mesmo Z
-            renderAbleObjectList.sort(
-                Comparator.comparingInt(RenderAbleObject::getZIndex)
-            );
+            renderQueue.updateAllZIndices();
             renderingNeedsSorting = false;
         }
     }
 
+    /// Tira o objeto do mundo sem a sequência de destruição, usado quando o estado dele foi guardado em outro lugar
+    public void parkGameObject(BaseGameObject go) {
+        go.markToPark();
+    }
+
+    /// Marca um objeto ativo para remoção, a busca usa a posição guardada no objeto
     public void removeGameObject(BaseGameObject go) {
-        if (gameObjectList.contains(go)) {
+        int index = go.getManagerIndex();
+        if (index >= 0 && index < gameObjectList.size() && gameObjectList.get(index) == go) {
             go.markToDestroy();
         }
     }
 
+    /// Objeto do handle, null se ele já saiu do manager ou está pendente para remoção
+    public BaseGameObject resolve(long handle) {
+        BaseGameObject object = handleTable.get(handle);
+        return object == null || object.isPendingRemoval() ? null : object;
+    }
+
+    /// Objeto do handle, null se ele não estiver mais ativo ou não for do tipo informado
+    public <T extends BaseGameObject> T resolve(long handle, Class<T> type) {
+        BaseGameObject object = resolve(handle);
+        return type.isInstance(object) ? type.cast(object) : null;
+    }
+
+    /// Se o objeto do handle continua ativo no manager
+    public boolean isAlive(long handle) {
+        return resolve(handle) != null;
+    }
+
+    /// Avisa que o z de algum objeto pode ter mudado, fazendo uma verificação de todos na próxima renderização
     public void notifyRenderIndexUpdate(){
         this.renderingNeedsSorting = true;
     }
 
-    public List<RenderAbleObject> getRenderAbleObjectList() {
-        return renderAbleObjectList;
+    /// Avisa que o z de um objeto mudou, movendo apenas ele entre os buckets da fila
+    public void notifyRenderIndexUpdate(RenderAbleObject obj){
+        renderQueue.updateZIndex(obj);
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public InputSnapshot getInputSnapshot() {
+        return inputSnapshot;
+    }
+
+    public void setInputSnapshot(InputSnapshot inputSnapshot) {
+        this.inputSnapshot = inputSnapshot;
+    }
+
+    public ResourceRegistry getResourceRegistry() {
+        return resourceRegistry;
+    }
+
+    public void setResourceRegistry(ResourceRegistry resourceRegistry) {
+        this.resourceRegistry = resourceRegistry;
+    }
+
+    public ChunkStreamer getChunkStreamer() {
+        return chunkStreamer;
+    }
+
+    public void setChunkStreamer(ChunkStreamer chunkStreamer) {
+        this.chunkStreamer = chunkStreamer;
+    }
+
+    /// Única forma segura de pedir spawns e remoções fora da thread do manager
+    public WorldCommandBuffer getCommandBuffer() {
+        return commandBuffer;
+    }
+
+    public GameObjectUpdater getGameObjectUpdater() {
+        return gameObjectUpdater;
+    }
+
+    public void setGameObjectUpdater(GameObjectUpdater gameObjectUpdater) {
+        this.gameObjectUpdater = gameObjectUpdater;
+    }
+
+    public ComponentScheduler getComponentScheduler() {
+        return componentScheduler;
+    }
+
+    public EcsWorld getEcsWorld() {
+        return ecsWorld;
+    }
+
+    public void setEcsWorld(EcsWorld ecsWorld) {
+        this.ecsWorld = ecsWorld;
+    }
+
+    public TransformStore getTransformStore() {
+        return transformStore;
+    }
+
+    public RenderQueue getRenderQueue() {
+        return renderQueue;
     }
 
     public boolean isPhysicsWorldExists() {
@@ -235,6 +572,10 @@ public abstract class BaseWorldDataManager implements Disposable {
         return physicsWorld;
     }
 
+    public GameObjectHandleTable getHandleTable() {
+        return handleTable;
+    }
+
     public List<BaseGameObject> getGameObjectList() {
         return gameObjectList;
     }
@@ -263,6 +604,14 @@ public abstract class BaseWorldDataManager implements Disposable {
         this.posIterations = posIterations;
     }
 
+    public boolean isSkipNonCriticalUpdates() {
+        return skipNonCriticalUpdates;
+    }
+
+    public void setSkipNonCriticalUpdates(boolean skipNonCriticalUpdates) {
+        this.skipNonCriticalUpdates = skipNonCriticalUpdates;
+    }
+
     public boolean isDisposed() {
         return disposed;
     }
@@ -0,0 +1,340 @@
+package official.sketchBook.engine.dataManager_related;
+
+import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.SideEffectFreeComponent;
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Atualiza os componentes dos gameObjects agrupados pela classe concreta, em vez de objeto por objeto.
+ * <p>
+ * Cada classe de componente tem um grupo com os componentes em arrays contíguos, e o update de um grupo é um único
+ * loop sobre eles. Assim o mesmo tipo de componente roda em sequência, o que mantém o perfil de tipos estável na
+ * chamada do loop e os dados de um mesmo tipo próximos na cache.
+ * <p>
+ * O update e a pós-atualização têm grupos separados, lidos das duas listas de componentes do objeto.
+ * Os grupos rodam em ordem de fase ({@link #declarePhase(Class, int)}, 0 por padrão) e, na mesma fase, na ordem em
+ * que o primeiro componente de cada classe apareceu. Grupos de componentes {@link SideEffectFreeComponent} são
+ * divididos em blocos e atualizados no pool informado em {@link #setParallelPool(ForkJoinPool, int)}.
+ * <p>
+ * Os componentes de um objeto são lidos das listas dele quando o objeto entra no manager e saem quando ele é
+ * removido, apenas para objetos que ligam {@link BaseGameObject#usesComponentScheduler()}. As listas só mudam pelos
+ * métodos de adicionar e remover componentes do objeto, que mantêm os grupos em sincronia; mudanças feitas durante
+ * uma etapa valem ao fim dela.
+ * A ordem dentro de um grupo não é garantida.
+ */
+public class ComponentScheduler {
+
+    /// Fase dos componentes sem fase declarada
+    public static final int DEFAULT_PHASE = 0;
+
+    /// Componentes de uma mesma classe concreta
+    private final class TypeGroup {
+        private final int phase;
+        private final int order;
+        private final boolean parallel;
+
+        private Component[] components = new Component[16];
+        private BaseGameObject[] owners = new BaseGameObject[16];
+        private int count;
+
+        /// Posição de cada componente nos arrays, para remover sem busca
+        private final IdentityHashMap<Component, Integer> indices = new IdentityHashMap<>();
+
+        private TypeGroup(Class<?> type, int phase, int order) {
+            this.phase = phase;
+            this.order = order;
+            this.parallel = SideEffectFreeComponent.class.isAssignableFrom(type);
+        }
+
+        private void add(Component component, BaseGameObject owner) {
+            if (count == components.length) {
+                components = Arrays.copyOf(components, count * 2);
+                owners = Arrays.copyOf(owners, count * 2);
+            }
+            components[count] = component;
+            owners[count] = owner;
+            indices.put(component, count);
+            count++;
+        }
+
+        /// Remove trocando pelo último, sem deslocar os demais
+        private void remove(Component component) {
+            Integer index = indices.remove(component);
+            if (index == null) return;
+
+            int last = --count;
+            if (index != last) {
+                components[index] = components[last];
+                owners[index] = owners[last];
+                indices.put(components[index], index);
+            }
+            components[last] = null;
+            owners[last] = null;
+        }
+
+        private void updateRange(int from, int to, float delta) {
+            for (int i = from; i < to; i++) {
+                if (!manager.shouldUpdate(owners[i])) continue;
+                components[i].update(delta);
+            }
+        }
+
+        private void postUpdateRange(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (owners[i].isPendingRemoval()) continue;
+                components[i].postUpdate();
+            }
+        }
+    }
+
+    /// Grupos de uma das duas etapas, update ou pós-atualização
+    private final class Stage {
+        private final Map<Class<?>, TypeGroup> groups = new HashMap<>();
+        /// Grupos em ordem de execução
+        private TypeGroup[] executionOrder = new TypeGroup[0];
+
+        private TypeGroup groupOf(Class<?> type) {
+            TypeGroup group = groups.get(type);
+            if (group != null) return group;
+
+            Integer phase = declaredPhases.get(type);
+            group = new TypeGroup(type, phase != null ? phase : DEFAULT_PHASE, groups.size());
+            groups.put(type, group);
+
+            executionOrder = groups.values().toArray(new TypeGroup[0]);
+            Arrays.sort(executionOrder, (a, b) -> a.phase != b.phase
+                ? Integer.compare(a.phase, b.phase)
+                : Integer.compare(a.order, b.order));
+            return group;
+        }
+
+        private void add(Component component, BaseGameObject owner) {
+            if (iterating) {
+                pendingChanges.add(new PendingChange(this, component, owner));
+                return;
+            }
+            groupOf(component.getClass()).add(component, owner);
+        }
+
+        private void remove(Component component) {
+            if (iterating) {
+                pendingChanges.add(new PendingChange(this, component, null));
+                return;
+            }
+            TypeGroup group = groups.get(component.getClass());
+            if (group != null) {
+                group.remove(component);
+            }
+        }
+
+        private void add(List<Component> components, BaseGameObject owner) {
+            for (int i = 0; i < components.size(); i++) {
+                add(components.get(i), owner);
+            }
+        }
+
+        private void remove(List<Component> components) {
+            for (int i = 0; i < components.size(); i++) {
+                remove(components.get(i));
+            }
+        }
+
+        private void clear() {
+            groups.clear();
+            executionOrder = new TypeGroup[0];
+        }
+    }
+
+    /// Componente adicionado ou removido enquanto os grupos eram percorridos
+    private static final class PendingChange {
+        private final Stage stage;
+        private final Component component;
+        /// Dono do componente adicionado, null para remoção
+        private final BaseGameObject owner;
+
+        private PendingChange(Stage stage, Component component, BaseGameObject owner) {
+            this.stage = stage;
+            this.component = component;
+            this.owner = owner;
+        }
+    }
+
+    private final BaseWorldDataManager manager;
+
+    private final Map<Class<?>, Integer> declaredPhases = new HashMap<>();
+
+    private final Stage updateStage = new Stage();
+    private final Stage postUpdateStage = new Stage();
+
+    /// Pool dos grupos paralelos, null para atualizar todos na thread atual
+    private ForkJoinPool parallelPool;
+    private int minChunkSize = 256;
+
+    /// Delta do passo atual, lido pelas tarefas paralelas
+    private float stepDelta;
+
+    /// Se uma etapa está percorrendo os grupos, quando adicionar ou remover mexeria nos arrays em uso
+    private boolean iterating;
+    private final List<PendingChange> pendingChanges = new ArrayList<>();
+
+    public ComponentScheduler(BaseWorldDataManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Define a fase de uma classe de componente, fases menores rodam antes.
+     * Deve ser chamado antes do primeiro componente da classe entrar no scheduler.
+     */
+    public void declarePhase(Class<? extends Component> type, int phase) {
+        if (updateStage.groups.containsKey(type) || postUpdateStage.groups.containsKey(type)) {
+            throw new IllegalStateException("A fase de " + type.getSimpleName() + " deve ser declarada antes do primeiro componente");
+        }
+        declaredPhases.put(type, phase);
+    }
+
+    /**
+     * Atualiza os grupos paralelos no pool informado.
+     *
+     * @param pool         Pool usado, null para rodar tudo na thread atual.
+     * @param minChunkSize Quantidade mínima de componentes por bloco.
+     */
+    public void setParallelPool(ForkJoinPool pool, int minChunkSize) {
+        if (minChunkSize <= 0) {
+            throw new IllegalArgumentException("Tamanho de bloco deve ser maior que 0");
+        }
+        this.parallelPool = pool;
+        this.minChunkSize = minChunkSize;
+    }
+
+    /// Registra os componentes das listas do objeto, chamado quando ele entra no manager
+    public void register(BaseGameObject owner) {
+        if (!owner.usesComponentScheduler() || owner.isComponentsScheduled()) return;
+
+        updateStage.add(owner.getToUpdateComponentList(), owner);
+        postUpdateStage.add(owner.getToPostUpdateComponentList(), owner);
+
+        owner.setComponentsScheduled(true);
+    }
+
+    /// Tira os componentes do objeto do scheduler, chamado quando ele sai do manager
+    public void unregister(BaseGameObject owner) {
+        if (!owner.isComponentsScheduled()) return;
+
+        updateStage.remove(owner.getToUpdateComponentList());
+        postUpdateStage.remove(owner.getToPostUpdateComponentList());
+
+        owner.setComponentsScheduled(false);
+    }
+
+    /// Registra um componente de update adicionado a um objeto que já está no scheduler
+    public void addUpdateComponent(BaseGameObject owner, Component component) {
+        updateStage.add(component, owner);
+    }
+
+    /// Tira um componente de update removido de um objeto que está no scheduler
+    public void removeUpdateComponent(Component component) {
+        updateStage.remove(component);
+    }
+
+    /// Registra um componente de pós-atualização adicionado a um objeto que já está no scheduler
+    public void addPostUpdateComponent(BaseGameObject owner, Component component) {
+        postUpdateStage.add(component, owner);
+    }
+
+    /// Tira um componente de pós-atualização removido de um objeto que está no scheduler
+    public void removePostUpdateComponent(Component component) {
+        postUpdateStage.remove(component);
+    }
+
+    /// Update de todos os componentes, grupo por grupo
+    public void update(float delta) {
+        stepDelta = delta;
+
+        iterating = true;
+        try {
+            for (TypeGroup group : updateStage.executionOrder) {
+                if (group.count == 0) continue;
+
+                if (group.parallel && parallelPool != null && group.count > minChunkSize) {
+                    parallelPool.invoke(new UpdateChunkTask(group, 0, group.count));
+                } else {
+                    group.updateRange(0, group.count, delta);
+                }
+            }
+        } finally {
+            iterating = false;
+        }
+        applyPendingChanges();
+    }
+
+    /// Pós-atualização de todos os componentes, grupo por grupo e sempre na thread atual
+    public void postUpdate() {
+        iterating = true;
+        try {
+            for (TypeGroup group : postUpdateStage.executionOrder) {
+                group.postUpdateRange(0, group.count);
+            }
+        } finally {
+            iterating = false;
+        }
+        applyPendingChanges();
+    }
+
+    /// Aplica, em ordem, as mudanças pedidas durante a etapa
+    private void applyPendingChanges() {
+        for (int i = 0; i < pendingChanges.size(); i++) {
+            PendingChange change = pendingChanges.get(i);
+            if (change.owner != null) {
+                change.stage.add(change.component, change.owner);
+            } else {
+                change.stage.remove(change.component);
+            }
+        }
+        pendingChanges.clear();
+    }
+
+    /// Quantidade de classes de componente com grupo de update
+    public int getGroupCount() {
+        return updateStage.groups.size();
+    }
+
+    /// Quantidade de componentes da classe informada registrados para update
+    public int getComponentCount(Class<? extends Component> type) {
+        TypeGroup group = updateStage.groups.get(type);
+        return group == null ? 0 : group.count;
+    }
+
+    /// Esvazia todos os grupos, sem mexer nos objetos
+    public void clear() {
+        updateStage.clear();
+        postUpdateStage.clear();
+        pendingChanges.clear();
+    }
+
+    /// Divide o grupo ao meio até atingir o tamanho mínimo de bloco
+    private final class UpdateChunkTask extends RecursiveAction {
+        private final TypeGroup group;
+        private final int from, to;
+
+        private UpdateChunkTask(TypeGroup group, int from, int to) {
+            this.group = group;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= minChunkSize) {
+                group.updateRange(from, to, stepDelta);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new UpdateChunkTask(group, from, mid), new UpdateChunkTask(group, mid, to));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package official.sketchBook.engine.dataManager_related;
+
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+
+import java.util.Arrays;
+
+/**
+ * Tabela de handles dos gameObjects de um manager.
+ * <p>
+ * Um handle é um long com a posição do objeto na tabela nos 32 bits baixos e a geração da posição nos 32 bits
+ * altos. Quando o objeto sai do manager a geração da posição avança e a posição volta para a lista livre, então
+ * handles antigos passam a resolver para null em vez de apontar para o próximo objeto que usar a posição.
+ * <p>
+ * Guardar o handle em vez da referência não segura o objeto e seus componentes na memória depois da remoção, e
+ * permite guardar referências em arrays primitivos. {@link #NULL_HANDLE} nunca é um handle válido.
+ * <p>
+ * Deve ser usada apenas pela thread do manager.
+ */
+public class GameObjectHandleTable {
+
+    /// Handle que nunca resolve para um objeto
+    public static final long NULL_HANDLE = 0L;
+
+    private BaseGameObject[] objects;
+    /// Geração atual de cada posição, começa em 1 para que nenhum handle valha 0
+    private int[] generations;
+
+    /// Posições liberadas, reaproveitadas antes de avançar o limite
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    /// Primeira posição nunca usada
+    private int highWaterMark;
+    private int aliveCount;
+
+    public GameObjectHandleTable() {
+        this(64);
+    }
+
+    public GameObjectHandleTable(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        objects = new BaseGameObject[capacity];
+        generations = new int[capacity];
+    }
+
+    /// Reserva uma posição para o objeto e devolve o handle dela
+    public long allocate(BaseGameObject object) {
+        if (object == null) {
+            throw new IllegalArgumentException("object não pode ser null");
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = highWaterMark++;
+            if (slot == objects.length) {
+                objects = Arrays.copyOf(objects, slot * 2);
+                generations = Arrays.copyOf(generations, slot * 2);
+            }
+            generations[slot] = 1;
+        }
+
+        objects[slot] = object;
+        aliveCount++;
+        return pack(slot, generations[slot]);
+    }
+
+    /// Libera a posição do handle, invalidando todos os handles que apontam para ela
+    public void release(long handle) {
+        int slot = indexOf(handle);
+        if (!isValid(handle, slot)) return;
+
+        objects[slot] = null;
+        aliveCount--;
+
+        int next = generations[slot] + 1;
+        generations[slot] = next == 0 ? 1 : next;           //Ao dar a volta pula o 0
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /// Objeto do handle, null se o handle for nulo ou se o objeto já saiu do manager
+    public BaseGameObject get(long handle) {
+        int slot = indexOf(handle);
+        return isValid(handle, slot) ? objects[slot] : null;
+    }
+
+    /// Se o handle ainda aponta para o objeto para o qual foi criado
+    public boolean contains(long handle) {
+        return isValid(handle, indexOf(handle));
+    }
+
+    private boolean isValid(long handle, int slot) {
+        return slot >= 0
+            && slot < highWaterMark
+            && objects[slot] != null
+            && generations[slot] == generationOf(handle);
+    }
+
+    /// Libera todas as posições, invalidando todos os handles já entregues
+    public void clear() {
+        freeCount = 0;
+        for (int slot = highWaterMark - 1; slot >= 0; slot--) {
+            if (objects[slot] != null) {
+                objects[slot] = null;
+                int next = generations[slot] + 1;
+                generations[slot] = next == 0 ? 1 : next;
+            }
+
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+        aliveCount = 0;
+    }
+
+    /// Quantidade de objetos com handle
+    public int size() {
+        return aliveCount;
+    }
+
+    public static long pack(int index, int generation) {
+        return ((long) generation << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    /// Posição do handle na tabela
+    public static int indexOf(long handle) {
+        return (int) handle;
+    }
+
+    /// Geração do handle
+    public static int generationOf(long handle) {
+        return (int) (handle >>> 32);
+    }
+}
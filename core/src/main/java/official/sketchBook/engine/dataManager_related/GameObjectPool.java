@@ -0,0 +1,92 @@
+package official.sketchBook.engine.dataManager_related;
+
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.Poolable;
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Pool de instâncias de uma classe de gameObject, mantido pelo {@link BaseWorldDataManager}.
+ * <p>
+ * Instâncias livres ficam numa pilha; quando ela está vazia, a fábrica cria uma nova instância,
+ * que se registra no manager pelo construtor como qualquer outro gameObject.
+ */
+public class GameObjectPool<T extends BaseGameObject & Poolable> {
+
+    private final Class<T> type;
+    private final Function<BaseWorldDataManager, T> factory;
+    /// Quantidade máxima de instâncias livres guardadas, as excedentes são descartadas
+    private final int maxFree;
+
+    private BaseGameObject[] free = new BaseGameObject[16];
+    private int freeCount;
+
+    /// Spawns atendidos por uma instância do pool
+    private int hits;
+    /// Spawns que precisaram criar uma instância nova
+    private int misses;
+
+    GameObjectPool(Class<T> type, Function<BaseWorldDataManager, T> factory, int maxFree) {
+        if (maxFree < 0) {
+            throw new IllegalArgumentException("Tamanho máximo do pool não pode ser negativo");
+        }
+        this.type = type;
+        this.factory = factory;
+        this.maxFree = maxFree;
+    }
+
+    /// Retira uma instância livre ou cria uma nova pela fábrica
+    T obtain(BaseWorldDataManager manager) {
+        if (freeCount == 0) {
+            misses++;
+            return factory.apply(manager);
+        }
+
+        hits++;
+        BaseGameObject instance = free[--freeCount];
+        free[freeCount] = null;
+        return type.cast(instance);
+    }
+
+    /// Guarda uma instância já resetada, retorna false se o pool estiver cheio
+    boolean free(BaseGameObject instance) {
+        if (freeCount >= maxFree) return false;
+
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = instance;
+        return true;
+    }
+
+    /// Descarta de vez todas as instâncias livres
+    void disposeFree() {
+        for (int i = 0; i < freeCount; i++) {
+            free[i].dispose();
+            free[i] = null;
+        }
+        freeCount = 0;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public int getFreeCount() {
+        return freeCount;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+}
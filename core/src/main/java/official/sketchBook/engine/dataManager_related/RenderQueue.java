@@ -0,0 +1,267 @@
+package official.sketchBook.engine.dataManager_related;
+
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.RenderAbleObject;
+
+import java.util.Arrays;
+
+/**
+ * Fila de renderização dividida em buckets, um para cada valor distinto de {@link RenderAbleObject#getZIndex()}.
+ * <p>
+ * Os buckets ficam ordenados por z, então percorrer a fila bucket a bucket já entrega os objetos na ordem de desenho,
+ * sem nenhuma ordenação. Inserir é um append no bucket do z do objeto e remover apenas esvazia a posição guardada no
+ * {@link Slot} do próprio objeto, ambos O(1). As posições vazias são fechadas numa única passada pelo bucket antes
+ * da próxima leitura, então remover muitos objetos no mesmo passo continua linear.
+ * <p>
+ * Dentro de um bucket a ordem é sempre a de inserção na fila, como na lista ordenada de antes: cada objeto recebe
+ * um número de sequência ao entrar, mantido quando o z muda, e a mudança de z o coloca na posição da sua sequência
+ * no bucket novo. Assim remover ou mover um objeto nunca troca a sobreposição de outros com o mesmo z.
+ */
+public class RenderQueue {
+
+    /// Posição de um objeto dentro da fila, guardada pelo próprio objeto
+    public static final class Slot {
+        private Bucket bucket;
+        private int index = -1;
+        /// Ordem de entrada na fila, desempata objetos com o mesmo z
+        private long sequence;
+
+        /// Se o objeto está atualmente dentro da fila
+        public boolean isQueued() {
+            return bucket != null;
+        }
+
+        /// Z do bucket em que o objeto está (válido apenas se estiver na fila)
+        public int getQueuedZIndex() {
+            return bucket.zIndex;
+        }
+    }
+
+    /// Objetos com o mesmo z
+    private static final class Bucket {
+        private final int zIndex;
+        private RenderAbleObject[] items = new RenderAbleObject[16];
+        /// Posições usadas, incluindo as esvaziadas por remoções ainda não compactadas
+        private int size;
+        /// Posições esvaziadas desde a última compactação
+        private int holes;
+
+        private Bucket(int zIndex) {
+            this.zIndex = zIndex;
+        }
+    }
+
+    /// Buckets ordenados por z crescente
+    private Bucket[] buckets = new Bucket[8];
+    private int bucketCount;
+
+    /// Quantidade total de objetos na fila
+    private int size;
+
+    /// Sequência do próximo objeto a entrar na fila
+    private long nextSequence;
+    /// Se algum bucket tem posições vazias esperando compactação
+    private boolean hasHoles;
+
+    /// Insere o objeto no fim do bucket do seu z atual
+    public void add(RenderAbleObject obj) {
+        Slot slot = obj.getRenderQueueSlot();
+        if (slot.isQueued()) return;
+
+        slot.sequence = nextSequence++;
+        append(obtainBucket(obj.getZIndex()), obj, slot);
+        size++;
+    }
+
+    /// Remove o objeto da fila em O(1), deixando a posição vazia até a próxima leitura
+    public void remove(RenderAbleObject obj) {
+        Slot slot = obj.getRenderQueueSlot();
+        if (!slot.isQueued()) return;
+
+        detach(slot);
+        size--;
+    }
+
+    /// Move o objeto para o bucket do seu z atual, se ele tiver mudado, mantendo a ordem de inserção no bucket novo
+    public void updateZIndex(RenderAbleObject obj) {
+        Slot slot = obj.getRenderQueueSlot();
+        if (!slot.isQueued() || slot.bucket.zIndex == obj.getZIndex()) return;
+
+        detach(slot);
+        insertBySequence(obtainBucket(obj.getZIndex()), obj, slot);
+    }
+
+    /// Verifica todos os objetos e move apenas aqueles cujo z mudou
+    public void updateAllZIndices() {
+        compactHoles();
+        for (int b = 0; b < bucketCount; b++) {
+            Bucket bucket = buckets[b];
+            for (int i = bucket.size - 1; i >= 0; i--) {
+                RenderAbleObject obj = bucket.items[i];
+                if (obj != null && obj.getZIndex() != bucket.zIndex) {
+                    updateZIndex(obj);
+                }
+            }
+        }
+    }
+
+    private void append(Bucket bucket, RenderAbleObject obj, Slot slot) {
+        if (bucket.size == bucket.items.length) {
+            bucket.items = Arrays.copyOf(bucket.items, bucket.size * 2);
+        }
+
+        slot.bucket = bucket;
+        slot.index = bucket.size;
+        bucket.items[bucket.size++] = obj;
+    }
+
+    /// Esvazia a posição do objeto no bucket dele
+    private void detach(Slot slot) {
+        Bucket bucket = slot.bucket;
+        bucket.items[slot.index] = null;
+
+        if (slot.index == bucket.size - 1) {
+            bucket.size--;                                  //O último sai sem deixar buraco
+        } else {
+            bucket.holes++;
+            hasHoles = true;
+        }
+
+        slot.bucket = null;
+        slot.index = -1;
+    }
+
+    /// Insere na posição da sequência do objeto, custa O(tamanho do bucket) mas só acontece quando o z muda
+    private void insertBySequence(Bucket bucket, RenderAbleObject obj, Slot slot) {
+        compact(bucket);
+
+        int last = bucket.size - 1;
+        if (last < 0 || bucket.items[last].getRenderQueueSlot().sequence < slot.sequence) {
+            append(bucket, obj, slot);
+            return;
+        }
+
+        int low = 0, high = last;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bucket.items[mid].getRenderQueueSlot().sequence < slot.sequence) low = mid + 1;
+            else high = mid;
+        }
+
+        if (bucket.size == bucket.items.length) {
+            bucket.items = Arrays.copyOf(bucket.items, bucket.size * 2);
+        }
+        System.arraycopy(bucket.items, low, bucket.items, low + 1, bucket.size - low);
+        bucket.items[low] = obj;
+        bucket.size++;
+
+        for (int i = low; i < bucket.size; i++) {
+            bucket.items[i].getRenderQueueSlot().index = i;
+        }
+        slot.bucket = bucket;
+    }
+
+    /// Fecha as posições vazias de todos os buckets, chamado antes de qualquer leitura
+    private void compactHoles() {
+        if (!hasHoles) return;
+        for (int b = 0; b < bucketCount; b++) {
+            compact(buckets[b]);
+        }
+        hasHoles = false;
+    }
+
+    /// Move os objetos do bucket para frente sobre as posições vazias, sem mudar a ordem entre eles
+    private static void compact(Bucket bucket) {
+        if (bucket.holes == 0) return;
+
+        int write = 0;
+        for (int read = 0; read < bucket.size; read++) {
+            RenderAbleObject obj = bucket.items[read];
+            if (obj == null) continue;
+
+            if (write != read) {
+                bucket.items[write] = obj;
+                obj.getRenderQueueSlot().index = write;
+            }
+            write++;
+        }
+
+        Arrays.fill(bucket.items, write, bucket.size, null);
+        bucket.size = write;
+        bucket.holes = 0;
+    }
+
+    /// Remove todos os objetos da fila
+    public void clear() {
+        for (int b = 0; b < bucketCount; b++) {
+            Bucket bucket = buckets[b];
+            for (int i = 0; i < bucket.size; i++) {
+                if (bucket.items[i] == null) continue;
+                Slot slot = bucket.items[i].getRenderQueueSlot();
+                slot.bucket = null;
+                slot.index = -1;
+            }
+            Arrays.fill(bucket.items, 0, bucket.size, null);
+            bucket.size = 0;
+            bucket.holes = 0;
+        }
+        bucketCount = 0;
+        size = 0;
+        hasHoles = false;
+    }
+
+    /// Busca o bucket de um z, criando-o na posição ordenada caso não exista
+    private Bucket obtainBucket(int zIndex) {
+        int low = 0, high = bucketCount - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midZ = buckets[mid].zIndex;
+
+            if (midZ < zIndex) low = mid + 1;
+            else if (midZ > zIndex) high = mid - 1;
+            else return buckets[mid];
+        }
+
+        if (bucketCount == buckets.length) {
+            buckets = Arrays.copyOf(buckets, bucketCount * 2);
+        }
+        System.arraycopy(buckets, low, buckets, low + 1, bucketCount - low);
+
+        Bucket bucket = new Bucket(zIndex);
+        buckets[low] = bucket;
+        bucketCount++;
+        return bucket;
+    }
+
+    /// Quantidade total de objetos na fila
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Quantidade de buckets (valores distintos de z já vistos), em ordem crescente de z
+    public int getBucketCount() {
+        compactHoles();
+        return bucketCount;
+    }
+
+    /// Z do bucket informado
+    public int getBucketZIndex(int bucketIndex) {
+        return buckets[bucketIndex].zIndex;
+    }
+
+    /// Quantidade de objetos no bucket informado
+    public int getBucketSize(int bucketIndex) {
+        compactHoles();
+        return buckets[bucketIndex].size;
+    }
+
+    /// Objeto na posição informada de um bucket
+    public RenderAbleObject get(int bucketIndex, int index) {
+        compactHoles();
+        return buckets[bucketIndex].items[index];
+    }
+}
@@ -0,0 +1,223 @@
+package official.sketchBook.engine.dataManager_related;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Armazenamento dos transforms em estrutura de arrays (SoA): cada atributo fica num array denso
+ * indexado pelo handle da entidade.
+ * <p>
+ * {@link official.sketchBook.engine.components_related.objects.TransformComponent} é apenas uma visão
+ * (store + handle) sobre estes arrays, então o código de jogo continua usando getters e setters, enquanto
+ * passadas em massa (estado anterior da interpolação) percorrem os arrays linearmente.
+ * <p>
+ * Handles liberados são reaproveitados. Os flags de inversão compartilham palavras de um {@link BitSet},
+ * por isso seus setters são sincronizados; os demais atributos podem ser escritos por threads diferentes
+ * desde que cada uma mexa em handles diferentes.
+ */
+public class TransformStore {
+
+    private float[] x, y, z;
+    private float[] previousX, previousY;
+    private float[] width, height;
+
+    private final BitSet xAxisInverted = new BitSet();
+    private final BitSet yAxisInverted = new BitSet();
+
+    /// Handles em uso
+    private final BitSet alive = new BitSet();
+
+    /// Handles liberados, reaproveitados antes de avançar o limite
+    private int[] freeHandles = new int[16];
+    private int freeCount;
+
+    /// Primeiro handle nunca usado, todos os handles vivos estão abaixo dele
+    private int highWaterMark;
+    private int aliveCount;
+
+    public TransformStore() {
+        this(64);
+    }
+
+    public TransformStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        z = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+    }
+
+    /// Reserva um handle e inicializa o transform, com a posição anterior igual à atual
+    public int allocate(
+        float x,
+        float y,
+        float z,
+        float width,
+        float height,
+        boolean xAxisInverted,
+        boolean yAxisInverted
+    ) {
+        int handle;
+        if (freeCount > 0) {
+            handle = freeHandles[--freeCount];
+        } else {
+            handle = highWaterMark++;
+            ensureCapacity(highWaterMark);
+        }
+
+        this.x[handle] = x;
+        this.y[handle] = y;
+        this.z[handle] = z;
+        this.previousX[handle] = x;
+        this.previousY[handle] = y;
+        this.width[handle] = width;
+        this.height[handle] = height;
+        setxAxisInverted(handle, xAxisInverted);
+        setyAxisInverted(handle, yAxisInverted);
+
+        alive.set(handle);
+        aliveCount++;
+        return handle;
+    }
+
+    /// Libera o handle para reaproveitamento, visões antigas sobre ele deixam de ser válidas
+    public void release(int handle) {
+        if (!alive.get(handle)) return;
+
+        alive.clear(handle);
+        aliveCount--;
+
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+        }
+        freeHandles[freeCount++] = handle;
+    }
+
+    /// Libera todos os handles
+    public void clear() {
+        alive.clear();
+        xAxisInverted.clear();
+        yAxisInverted.clear();
+        freeCount = 0;
+        highWaterMark = 0;
+        aliveCount = 0;
+    }
+
+    /// Copia a posição atual de todos os transforms para a anterior, em uma passada linear
+    public void storePreviousState() {
+        System.arraycopy(x, 0, previousX, 0, highWaterMark);
+        System.arraycopy(y, 0, previousY, 0, highWaterMark);
+    }
+
+    private void ensureCapacity(int size) {
+        if (x.length >= size) return;
+
+        int newSize = Math.max(size, x.length * 2);
+        x = Arrays.copyOf(x, newSize);
+        y = Arrays.copyOf(y, newSize);
+        z = Arrays.copyOf(z, newSize);
+        previousX = Arrays.copyOf(previousX, newSize);
+        previousY = Arrays.copyOf(previousY, newSize);
+        width = Arrays.copyOf(width, newSize);
+        height = Arrays.copyOf(height, newSize);
+    }
+
+    public boolean isAlive(int handle) {
+        return alive.get(handle);
+    }
+
+    /// Quantidade de handles em uso
+    public int size() {
+        return aliveCount;
+    }
+
+    /// Limite superior (exclusivo) dos handles já usados
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public float getX(int handle) {
+        return x[handle];
+    }
+
+    public void setX(int handle, float value) {
+        x[handle] = value;
+    }
+
+    public float getY(int handle) {
+        return y[handle];
+    }
+
+    public void setY(int handle, float value) {
+        y[handle] = value;
+    }
+
+    public float getZ(int handle) {
+        return z[handle];
+    }
+
+    public void setZ(int handle, float value) {
+        z[handle] = value;
+    }
+
+    public float getPreviousX(int handle) {
+        return previousX[handle];
+    }
+
+    public float getPreviousY(int handle) {
+        return previousY[handle];
+    }
+
+    /// Define a posição atual e a anterior, para que a interpolação não percorra o salto
+    public void setPositionWithoutInterpolation(int handle, float x, float y) {
+        this.x[handle] = x;
+        this.y[handle] = y;
+        this.previousX[handle] = x;
+        this.previousY[handle] = y;
+    }
+
+    /// Copia a posição atual para a anterior em um único transform
+    public void storePreviousState(int handle) {
+        previousX[handle] = x[handle];
+        previousY[handle] = y[handle];
+    }
+
+    public float getWidth(int handle) {
+        return width[handle];
+    }
+
+    public void setWidth(int handle, float value) {
+        width[handle] = value;
+    }
+
+    public float getHeight(int handle) {
+        return height[handle];
+    }
+
+    public void setHeight(int handle, float value) {
+        height[handle] = value;
+    }
+
+    public boolean isxAxisInverted(int handle) {
+        return xAxisInverted.get(handle);
+    }
+
+    public void setxAxisInverted(int handle, boolean value) {
+        synchronized (xAxisInverted) {
+            xAxisInverted.set(handle, value);
+        }
+    }
+
+    public boolean isyAxisInverted(int handle) {
+        return yAxisInverted.get(handle);
+    }
+
+    public void setyAxisInverted(int handle, boolean value) {
+        synchronized (yAxisInverted) {
+            yAxisInverted.set(handle, value);
+        }
+    }
+}
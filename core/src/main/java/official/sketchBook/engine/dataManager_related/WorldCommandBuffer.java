@@ -0,0 +1,216 @@
+package official.sketchBook.engine.dataManager_related;
+
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.Poolable;
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+import official.sketchBook.engine.gameObject_related.RenderableGameObject;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Fila de mudanças no manager que podem ser pedidas de qualquer thread (loaders, IA...).
+ * <p>
+ * Os comandos são empilhados sem lock, com um único compare-and-set por comando, e executados todos de uma vez
+ * pelo manager no começo de {@link BaseWorldDataManager#beginUpdate()}, na ordem em que foram pedidos. Como os
+ * objetos só são construídos na execução, a factory de um spawn roda na thread do manager e pode usar o mundo
+ * físico normalmente.
+ * <p>
+ * Só o manager executa os comandos. Chamadas diretas ao manager, como construir um objeto, continuam
+ * permitidas apenas na thread dele.
+ */
+public class WorldCommandBuffer {
+
+    /// Um pedido, encadeado com o pedido anterior enquanto está na pilha
+    private abstract static class Command {
+        private Command next;
+
+        abstract void execute(BaseWorldDataManager manager);
+    }
+
+    private static final class SpawnCommand extends Command {
+        private final Function<BaseWorldDataManager, ? extends BaseGameObject> factory;
+
+        private SpawnCommand(Function<BaseWorldDataManager, ? extends BaseGameObject> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        void execute(BaseWorldDataManager manager) {
+            factory.apply(manager);
+        }
+    }
+
+    private static final class PooledSpawnCommand<T extends BaseGameObject & Poolable> extends Command {
+        private final Class<T> type;
+        private final Consumer<? super T> setup;
+
+        private PooledSpawnCommand(Class<T> type, Consumer<? super T> setup) {
+            this.type = type;
+            this.setup = setup;
+        }
+
+        @Override
+        void execute(BaseWorldDataManager manager) {
+            manager.spawn(type, setup);
+        }
+    }
+
+    private static final class DespawnCommand extends Command {
+        private final BaseGameObject object;
+
+        private DespawnCommand(BaseGameObject object) {
+            this.object = object;
+        }
+
+        @Override
+        void execute(BaseWorldDataManager manager) {
+            // Também vale para objetos criados por um spawn anterior e ainda não integrados
+            if (object.isDisposed() || object.isPooled()) return;
+            object.markToDestroy();
+        }
+    }
+
+    private static final class HandleDespawnCommand extends Command {
+        private final long handle;
+
+        private HandleDespawnCommand(long handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        void execute(BaseWorldDataManager manager) {
+            BaseGameObject object = manager.getHandleTable().get(handle);
+            if (object == null) return;                         //Handle antigo, o objeto já saiu do manager
+            object.markToDestroy();
+        }
+    }
+
+    private static final class SetZCommand extends Command {
+        private final RenderableGameObject object;
+        private final float z;
+
+        private SetZCommand(RenderableGameObject object, float z) {
+            this.object = object;
+            this.z = z;
+        }
+
+        @Override
+        void execute(BaseWorldDataManager manager) {
+            if (object.isPendingRemoval() || object.isDisposed()) return;
+            object.setZ(z);
+        }
+    }
+
+    /// Topo da pilha de comandos pendentes, o mais recente primeiro
+    private final AtomicReference<Command> head = new AtomicReference<>();
+
+    private int lastDrainCount;
+
+    /**
+     * Cria um objeto na próxima sincronização.
+     *
+     * @param factory Constrói o objeto com o manager recebido, na thread do manager.
+     */
+    public void spawn(Function<BaseWorldDataManager, ? extends BaseGameObject> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory não pode ser null");
+        }
+        push(new SpawnCommand(factory));
+    }
+
+    /**
+     * Obtém um objeto do pool da classe na próxima sincronização.
+     *
+     * @param type  Classe com um pool registrado.
+     * @param setup Configuração da instância, executada na thread do manager, pode ser null.
+     */
+    public <T extends BaseGameObject & Poolable> void spawn(Class<T> type, Consumer<? super T> setup) {
+        if (type == null) {
+            throw new IllegalArgumentException("type não pode ser null");
+        }
+        push(new PooledSpawnCommand<>(type, setup));
+    }
+
+    /// Remove o objeto na próxima sincronização, pela sequência normal de remoção
+    public void despawn(BaseGameObject object) {
+        if (object == null) {
+            throw new IllegalArgumentException("object não pode ser null");
+        }
+        push(new DespawnCommand(object));
+    }
+
+    /// Remove o objeto do handle na próxima sincronização, ignorado se o handle já estiver inválido
+    public void despawn(long handle) {
+        push(new HandleDespawnCommand(handle));
+    }
+
+    /// Muda o z do objeto na próxima sincronização, movendo-o na fila de renderização
+    public void setZ(RenderableGameObject object, float z) {
+        if (object == null) {
+            throw new IllegalArgumentException("object não pode ser null");
+        }
+        push(new SetZCommand(object, z));
+    }
+
+    private void push(Command command) {
+        Command current;
+        do {
+            current = head.get();
+            command.next = current;
+        } while (!head.compareAndSet(current, command));
+    }
+
+    /**
+     * Executa todos os comandos pendentes na ordem em que foram pedidos. Chamado apenas pelo manager.
+     * <p>
+     * Uma falha num comando não impede os seguintes, a primeira é relançada depois que todos rodaram.
+     */
+    void drain(BaseWorldDataManager manager) {
+        Command stack = head.getAndSet(null);
+        if (stack == null) {
+            lastDrainCount = 0;
+            return;
+        }
+
+        // A pilha está do mais recente para o mais antigo
+        Command ordered = null;
+        while (stack != null) {
+            Command next = stack.next;
+            stack.next = ordered;
+            ordered = stack;
+            stack = next;
+        }
+
+        int count = 0;
+        RuntimeException failure = null;
+        for (Command command = ordered; command != null; command = command.next) {
+            count++;
+            try {
+                command.execute(manager);
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+            }
+        }
+        lastDrainCount = count;
+
+        if (failure != null) {
+            throw new IllegalStateException("Falha ao executar comando do manager", failure);
+        }
+    }
+
+    /// Descarta os comandos pendentes sem executá-los
+    void clear() {
+        head.set(null);
+    }
+
+    /// Se existe algum comando esperando a próxima sincronização
+    public boolean hasPending() {
+        return head.get() != null;
+    }
+
+    /// Quantidade de comandos executados na última sincronização
+    public int getLastDrainCount() {
+        return lastDrainCount;
+    }
+}
@@ -0,0 +1,147 @@
+package official.sketchBook.engine.ecs_related;
+
+import java.util.Arrays;
+
+/**
+ * Todas as entidades com exatamente o mesmo conjunto de tipos de componente.
+ * <p>
+ * Cada campo de cada tipo é uma coluna primitiva indexada pela linha da entidade, e as linhas são sempre densas
+ * (0 até {@link #size()}). Os arrays das colunas são trocados quando o arquétipo cresce, então devem ser lidos de
+ * novo depois de qualquer criação de entidade ou mudança de componentes.
+ */
+public final class Archetype {
+
+    private final int index;
+    private final long mask;
+
+    /// Posição de cada tipo nas colunas, pelo id do tipo, -1 quando o arquétipo não tem o tipo
+    private final int[] slotOfType = new int[EcsWorld.MAX_COMPONENT_TYPES];
+    private final EcsComponentType[] types;
+
+    /// [slot][campo][linha]
+    private final float[][][] floatColumns;
+    private final int[][][] intColumns;
+
+    private long[] entities;
+    private int size;
+
+    Archetype(int index, long mask, EcsComponentType[] types, int initialCapacity) {
+        this.index = index;
+        this.mask = mask;
+        this.types = types;
+
+        Arrays.fill(slotOfType, -1);
+        this.floatColumns = new float[types.length][][];
+        this.intColumns = new int[types.length][][];
+        for (int slot = 0; slot < types.length; slot++) {
+            EcsComponentType type = types[slot];
+            slotOfType[type.getId()] = slot;
+            floatColumns[slot] = new float[type.getFloatFields()][initialCapacity];
+            intColumns[slot] = new int[type.getIntFields()][initialCapacity];
+        }
+        this.entities = new long[initialCapacity];
+    }
+
+    /// Adiciona uma linha zerada para a entidade, retornando a linha
+    int addRow(long entity) {
+        if (size == entities.length) {
+            grow(size * 2);
+        }
+        entities[size] = entity;
+        return size++;
+    }
+
+    /**
+     * Remove a linha movendo a última para o lugar dela.
+     *
+     * @return A entidade que foi movida para a linha, ou {@link EcsWorld#NULL_ENTITY} se a linha removida era a última.
+     */
+    long removeRow(int row) {
+        int last = --size;
+        long moved = EcsWorld.NULL_ENTITY;
+
+        for (int slot = 0; slot < types.length; slot++) {
+            for (float[] column : floatColumns[slot]) {
+                column[row] = column[last];
+                column[last] = 0f;
+            }
+            for (int[] column : intColumns[slot]) {
+                column[row] = column[last];
+                column[last] = 0;
+            }
+        }
+
+        if (row != last) {
+            moved = entities[last];
+            entities[row] = moved;
+        }
+        entities[last] = EcsWorld.NULL_ENTITY;
+        return moved;
+    }
+
+    /// Copia os campos dos tipos em comum de uma linha de outro arquétipo
+    void copyRowFrom(Archetype source, int sourceRow, int targetRow) {
+        for (int slot = 0; slot < types.length; slot++) {
+            int sourceSlot = source.slotOfType[types[slot].getId()];
+            if (sourceSlot < 0) continue;
+
+            for (int f = 0; f < floatColumns[slot].length; f++) {
+                floatColumns[slot][f][targetRow] = source.floatColumns[sourceSlot][f][sourceRow];
+            }
+            for (int f = 0; f < intColumns[slot].length; f++) {
+                intColumns[slot][f][targetRow] = source.intColumns[sourceSlot][f][sourceRow];
+            }
+        }
+    }
+
+    private void grow(int capacity) {
+        entities = Arrays.copyOf(entities, capacity);
+        for (int slot = 0; slot < types.length; slot++) {
+            for (int f = 0; f < floatColumns[slot].length; f++) {
+                floatColumns[slot][f] = Arrays.copyOf(floatColumns[slot][f], capacity);
+            }
+            for (int f = 0; f < intColumns[slot].length; f++) {
+                intColumns[slot][f] = Arrays.copyOf(intColumns[slot][f], capacity);
+            }
+        }
+    }
+
+    /// Coluna de um campo float do tipo, com {@link #size()} linhas válidas
+    public float[] floats(EcsComponentType type, int field) {
+        return floatColumns[slotOf(type)][field];
+    }
+
+    /// Coluna de um campo int do tipo, com {@link #size()} linhas válidas
+    public int[] ints(EcsComponentType type, int field) {
+        return intColumns[slotOf(type)][field];
+    }
+
+    private int slotOf(EcsComponentType type) {
+        int slot = slotOfType[type.getId()];
+        if (slot < 0) {
+            throw new IllegalArgumentException("Arquétipo sem o componente " + type.getName());
+        }
+        return slot;
+    }
+
+    public boolean has(EcsComponentType type) {
+        return (mask & type.getBit()) != 0;
+    }
+
+    /// Entidade na linha informada
+    public long getEntity(int row) {
+        return entities[row];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getMask() {
+        return mask;
+    }
+
+    int getIndex() {
+        return index;
+    }
+}
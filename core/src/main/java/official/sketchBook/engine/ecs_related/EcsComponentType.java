@@ -0,0 +1,48 @@
+package official.sketchBook.engine.ecs_related;
+
+/**
+ * Tipo de componente do {@link EcsWorld}: um nome e uma quantidade fixa de campos float e int.
+ * <p>
+ * Os campos não são objetos, cada um vira uma coluna primitiva dentro de cada {@link Archetype} que contém o tipo.
+ * Criado apenas por {@link EcsWorld#registerComponent(String, int, int)}.
+ */
+public final class EcsComponentType {
+
+    private final int id;
+    private final String name;
+    private final int floatFields;
+    private final int intFields;
+
+    EcsComponentType(int id, String name, int floatFields, int intFields) {
+        this.id = id;
+        this.name = name;
+        this.floatFields = floatFields;
+        this.intFields = intFields;
+    }
+
+    /// Bit do tipo nas máscaras dos arquétipos
+    public long getBit() {
+        return 1L << id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getFloatFields() {
+        return floatFields;
+    }
+
+    public int getIntFields() {
+        return intFields;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
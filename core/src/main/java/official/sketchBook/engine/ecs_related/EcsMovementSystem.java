@@ -0,0 +1,30 @@
+package official.sketchBook.engine.ecs_related;
+
+/// Integra a posição de todas as entidades com posição e velocidade
+public class EcsMovementSystem implements EcsSystem {
+
+    private final EcsQuery query;
+
+    public EcsMovementSystem(EcsWorld world) {
+        this.query = world.query(world.getPositionType(), world.getVelocityType());
+    }
+
+    @Override
+    public void update(EcsWorld world, float delta) {
+        EcsComponentType position = world.getPositionType();
+        EcsComponentType velocity = world.getVelocityType();
+
+        for (int a = 0; a < query.getArchetypeCount(); a++) {
+            Archetype archetype = query.getArchetype(a);
+            float[] x = archetype.floats(position, EcsWorld.POSITION_X);
+            float[] y = archetype.floats(position, EcsWorld.POSITION_Y);
+            float[] vx = archetype.floats(velocity, EcsWorld.VELOCITY_X);
+            float[] vy = archetype.floats(velocity, EcsWorld.VELOCITY_Y);
+
+            for (int row = 0, size = archetype.size(); row < size; row++) {
+                x[row] += vx[row] * delta;
+                y[row] += vy[row] * delta;
+            }
+        }
+    }
+}
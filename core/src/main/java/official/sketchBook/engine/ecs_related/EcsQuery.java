@@ -0,0 +1,79 @@
+package official.sketchBook.engine.ecs_related;
+
+import java.util.Arrays;
+
+/**
+ * Lista dos arquétipos que têm todos os tipos exigidos e nenhum dos excluídos.
+ * <p>
+ * A lista é refeita apenas quando o mundo cria um arquétipo novo. O uso esperado é percorrer os arquétipos e,
+ * dentro de cada um, as colunas:
+ * <pre>{@code
+ * for (int a = 0; a < query.getArchetypeCount(); a++) {
+ *     Archetype archetype = query.getArchetype(a);
+ *     float[] x = archetype.floats(position, EcsWorld.POSITION_X);
+ *     for (int row = 0; row < archetype.size(); row++) { ... }
+ * }
+ * }</pre>
+ */
+public final class EcsQuery {
+
+    private final EcsWorld world;
+    private final long required;
+    private long excluded;
+
+    private Archetype[] matches = new Archetype[4];
+    private int matchCount;
+    /// Quantidade de arquétipos do mundo na última atualização da lista
+    private int knownArchetypes = 0;
+
+    EcsQuery(EcsWorld world, long required) {
+        this.world = world;
+        this.required = required;
+    }
+
+    /// Exclui os arquétipos que tenham algum dos tipos informados
+    public EcsQuery without(EcsComponentType... types) {
+        for (EcsComponentType type : types) {
+            excluded |= type.getBit();
+        }
+        // Refaz a lista inteira com a nova exclusão
+        matchCount = 0;
+        knownArchetypes = 0;
+        return this;
+    }
+
+    /// Inclui os arquétipos criados desde a última chamada, os arquétipos nunca são removidos do mundo
+    private void refresh() {
+        int archetypeCount = world.getArchetypeCount();
+        for (int i = knownArchetypes; i < archetypeCount; i++) {
+            Archetype archetype = world.getArchetype(i);
+            long mask = archetype.getMask();
+            if ((mask & required) != required || (mask & excluded) != 0) continue;
+
+            if (matchCount == matches.length) {
+                matches = Arrays.copyOf(matches, matchCount * 2);
+            }
+            matches[matchCount++] = archetype;
+        }
+        knownArchetypes = archetypeCount;
+    }
+
+    public int getArchetypeCount() {
+        refresh();
+        return matchCount;
+    }
+
+    public Archetype getArchetype(int index) {
+        return matches[index];
+    }
+
+    /// Quantidade de entidades em todos os arquétipos da consulta
+    public int countEntities() {
+        refresh();
+        int count = 0;
+        for (int i = 0; i < matchCount; i++) {
+            count += matches[i].size();
+        }
+        return count;
+    }
+}
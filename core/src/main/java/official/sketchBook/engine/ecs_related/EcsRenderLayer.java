@@ -0,0 +1,279 @@
+package official.sketchBook.engine.ecs_related;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import official.sketchBook.engine.camera_related.OrthographicCameraManager;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.RenderAbleObject;
+import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.components_related.system_utils.snapshot.TransformSnapshot;
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.dataManager_related.RenderQueue;
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+
+/**
+ * Adapta as entidades do {@link EcsWorld} com position e sprite para o pipeline de renderização dos gameObjects.
+ * <p>
+ * Para o render system a camada é um único {@link RenderAbleObject} num z fixo, cujo transform cobre todas as
+ * entidades, então ela entra na fila, no culling e no agrupamento por textura como qualquer objeto. O render
+ * percorre as colunas dos arquétipos e desenha cada entidade com o quadro indicado em sprite, interpolando a
+ * posição pelo alpha do frame.
+ * <p>
+ * Com a simulação na thread de renderização as colunas são lidas direto do mundo. Com a simulação em outra thread
+ * a camada grava um draw por entidade no snapshot, na thread da simulação, e o culling por câmera vale apenas
+ * para os limites da camada inteira.
+ */
+public class EcsRenderLayer extends BaseGameObject implements RenderAbleObject {
+
+    private final EcsWorld ecsWorld;
+    private final EcsQuery query;
+    private final EcsComponentType position;
+    private final EcsComponentType sprite;
+
+    /// Quadros indexados pelo campo SPRITE_FRAME
+    private final TextureRegion[] frames;
+    /// Textura comum a todos os quadros, null se houver mais de uma
+    private final Texture commonTexture;
+
+    /// Cobre todas as entidades, recalculado a cada passo
+    private final TransformComponent transformC;
+    private final RenderQueue.Slot renderQueueSlot = new RenderQueue.Slot();
+
+    /// Câmera para descartar entidades fora da tela, null para desenhar todas
+    private OrthographicCameraManager cullingCamera;
+    private float cullingMargin;
+
+    private float interpolationAlpha = 1f;
+    private int lastDrawCount;
+
+    /**
+     * @param worldDataManager Manager em cuja fila de renderização a camada entra.
+     * @param ecsWorld         Mundo com as entidades desenhadas.
+     * @param frames           Quadros que as entidades podem usar.
+     * @param z                Camada de renderização de todas as entidades.
+     */
+    public EcsRenderLayer(BaseWorldDataManager worldDataManager, EcsWorld ecsWorld, TextureRegion[] frames, float z) {
+        super(worldDataManager);
+        if (frames == null || frames.length == 0) {
+            throw new IllegalArgumentException("A camada precisa de ao menos um quadro");
+        }
+
+        this.ecsWorld = ecsWorld;
+        this.position = ecsWorld.getPositionType();
+        this.sprite = ecsWorld.getSpriteType();
+        this.query = ecsWorld.query(position, sprite);
+        this.frames = frames;
+        this.commonTexture = findCommonTexture(frames);
+
+        this.transformC = new TransformComponent(worldDataManager.getTransformStore(), 0, 0, z, 0, 0, false, false);
+        initObject();
+    }
+
+    @Override
+    protected void initObject() {
+
+    }
+
+    /// Desenha apenas as entidades que intersectam a área visível da câmera, mais a margem
+    public void enableViewCulling(OrthographicCameraManager camera, float margin) {
+        this.cullingCamera = camera;
+        this.cullingMargin = margin;
+    }
+
+    public void disableViewCulling() {
+        this.cullingCamera = null;
+    }
+
+    @Override
+    public void update(float delta) {
+
+    }
+
+    /// Recalcula os limites depois que os sistemas do ECS rodaram
+    @Override
+    public void postUpdate() {
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+
+        for (int a = 0; a < query.getArchetypeCount(); a++) {
+            Archetype archetype = query.getArchetype(a);
+            float[] x = archetype.floats(position, EcsWorld.POSITION_X);
+            float[] y = archetype.floats(position, EcsWorld.POSITION_Y);
+            float[] width = archetype.floats(sprite, EcsWorld.SPRITE_WIDTH);
+            float[] height = archetype.floats(sprite, EcsWorld.SPRITE_HEIGHT);
+
+            for (int row = 0, size = archetype.size(); row < size; row++) {
+                minX = Math.min(minX, x[row]);
+                minY = Math.min(minY, y[row]);
+                maxX = Math.max(maxX, x[row] + width[row]);
+                maxY = Math.max(maxY, y[row] + height[row]);
+            }
+        }
+
+        if (minX > maxX) {
+            // Sem entidades, um retângulo vazio nunca é visível
+            transformC.teleport(0, 0);
+            transformC.setWidth(0);
+            transformC.setHeight(0);
+            return;
+        }
+
+        transformC.teleport(minX, minY);
+        transformC.setWidth(maxX - minX);
+        transformC.setHeight(maxY - minY);
+    }
+
+    @Override
+    public void updateVisuals(float delta) {
+        this.interpolationAlpha = 1f;
+    }
+
+    @Override
+    public void updateVisuals(float delta, float interpolationAlpha) {
+        this.interpolationAlpha = interpolationAlpha;
+    }
+
+    @Override
+    public void render(Batch batch) {
+        float alpha = interpolationAlpha;
+        boolean culling = cullingCamera != null;
+        float viewLeft = 0, viewRight = 0, viewBottom = 0, viewTop = 0;
+        if (culling) {
+            viewLeft = cullingCamera.getViewLeft() - cullingMargin;
+            viewRight = cullingCamera.getViewRight() + cullingMargin;
+            viewBottom = cullingCamera.getViewBottom() - cullingMargin;
+            viewTop = cullingCamera.getViewTop() + cullingMargin;
+        }
+
+        int drawn = 0;
+        for (int a = 0; a < query.getArchetypeCount(); a++) {
+            Archetype archetype = query.getArchetype(a);
+            float[] x = archetype.floats(position, EcsWorld.POSITION_X);
+            float[] y = archetype.floats(position, EcsWorld.POSITION_Y);
+            float[] previousX = archetype.floats(position, EcsWorld.POSITION_PREVIOUS_X);
+            float[] previousY = archetype.floats(position, EcsWorld.POSITION_PREVIOUS_Y);
+            float[] width = archetype.floats(sprite, EcsWorld.SPRITE_WIDTH);
+            float[] height = archetype.floats(sprite, EcsWorld.SPRITE_HEIGHT);
+            int[] frame = archetype.ints(sprite, EcsWorld.SPRITE_FRAME);
+            int[] flags = archetype.ints(sprite, EcsWorld.SPRITE_FLAGS);
+
+            for (int row = 0, size = archetype.size(); row < size; row++) {
+                float drawX = previousX[row] + (x[row] - previousX[row]) * alpha;
+                float drawY = previousY[row] + (y[row] - previousY[row]) * alpha;
+                float w = width[row];
+                float h = height[row];
+
+                if (culling && (drawX + w < viewLeft || drawX > viewRight || drawY + h < viewBottom || drawY > viewTop)) {
+                    continue;
+                }
+
+                // Espelhar é desenhar a partir da borda oposta com tamanho negativo
+                boolean flipX = (flags[row] & EcsWorld.SPRITE_FLAG_FLIP_X) != 0;
+                boolean flipY = (flags[row] & EcsWorld.SPRITE_FLAG_FLIP_Y) != 0;
+                batch.draw(
+                    frames[frame[row]],
+                    flipX ? drawX + w : drawX,
+                    flipY ? drawY + h : drawY,
+                    flipX ? -w : w,
+                    flipY ? -h : h
+                );
+                drawn++;
+            }
+        }
+        lastDrawCount = drawn;
+    }
+
+    @Override
+    public void captureDraws(TransformSnapshot snapshot) {
+        for (int a = 0; a < query.getArchetypeCount(); a++) {
+            Archetype archetype = query.getArchetype(a);
+            float[] x = archetype.floats(position, EcsWorld.POSITION_X);
+            float[] y = archetype.floats(position, EcsWorld.POSITION_Y);
+            float[] previousX = archetype.floats(position, EcsWorld.POSITION_PREVIOUS_X);
+            float[] previousY = archetype.floats(position, EcsWorld.POSITION_PREVIOUS_Y);
+            float[] width = archetype.floats(sprite, EcsWorld.SPRITE_WIDTH);
+            float[] height = archetype.floats(sprite, EcsWorld.SPRITE_HEIGHT);
+            int[] frame = archetype.ints(sprite, EcsWorld.SPRITE_FRAME);
+            int[] flags = archetype.ints(sprite, EcsWorld.SPRITE_FLAGS);
+
+            for (int row = 0, size = archetype.size(); row < size; row++) {
+                float w = width[row];
+                float h = height[row];
+                float shiftX = (flags[row] & EcsWorld.SPRITE_FLAG_FLIP_X) != 0 ? w : 0f;
+                float shiftY = (flags[row] & EcsWorld.SPRITE_FLAG_FLIP_Y) != 0 ? h : 0f;
+
+                snapshot.recordDraw(
+                    frames[frame[row]],
+                    x[row] + shiftX,
+                    y[row] + shiftY,
+                    previousX[row] + shiftX,
+                    previousY[row] + shiftY,
+                    shiftX != 0f ? -w : w,
+                    shiftY != 0f ? -h : h,
+                    0f,
+                    0f,
+                    0f
+                );
+            }
+        }
+    }
+
+    private static Texture findCommonTexture(TextureRegion[] frames) {
+        Texture texture = frames[0].getTexture();
+        for (int i = 1; i < frames.length; i++) {
+            if (frames[i].getTexture() != texture) return null;
+        }
+        return texture;
+    }
+
+    @Override
+    public Texture getRenderTexture() {
+        return commonTexture;
+    }
+
+    /// Entidades desenhadas no último render
+    public int getLastDrawCount() {
+        return lastDrawCount;
+    }
+
+    public EcsWorld getEcsWorld() {
+        return ecsWorld;
+    }
+
+    @Override
+    public boolean isxAxisInverted() {
+        return false;
+    }
+
+    @Override
+    public boolean isyAxisInverted() {
+        return false;
+    }
+
+    @Override
+    public int getZIndex() {
+        return (int) transformC.getZ();
+    }
+
+    @Override
+    public TransformComponent getTransformC() {
+        return transformC;
+    }
+
+    @Override
+    public RenderQueue.Slot getRenderQueueSlot() {
+        return renderQueueSlot;
+    }
+
+    @Override
+    protected void onObjectDestruction() {
+
+    }
+
+    @Override
+    protected void disposeData() {
+        if (!transformC.isDisposed()) {
+            transformC.dispose();
+        }
+    }
+}
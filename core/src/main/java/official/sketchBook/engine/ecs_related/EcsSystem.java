@@ -0,0 +1,7 @@
+package official.sketchBook.engine.ecs_related;
+
+/// Lógica executada sobre as entidades do EcsWorld a cada passo fixo, normalmente percorrendo uma EcsQuery
+@FunctionalInterface
+public interface EcsSystem {
+    void update(EcsWorld world, float delta);
+}
@@ -0,0 +1,370 @@
+package official.sketchBook.engine.ecs_related;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Armazenamento orientado a dados para multidões de entidades simples (projéteis, partículas, enxames...).
+ * <p>
+ * Entidades são ids long sem comportamento próprio: a posição da entidade nas tabelas do mundo nos 32 bits baixos e
+ * a geração da posição nos 32 bits altos, como os handles da {@code GameObjectHandleTable}. Destruir uma entidade
+ * avança a geração da posição, então ids guardados dela deixam de estar vivos em vez de apontar para a próxima
+ * entidade que reaproveitar a posição. {@link #NULL_ENTITY} nunca é um id válido. Os componentes são colunas primitivas agrupadas em
+ * {@link Archetype}s, um para cada combinação de tipos, e a lógica fica em {@link EcsSystem}s que percorrem
+ * {@link EcsQuery}s. Criar, destruir ou mudar os componentes de uma entidade move linhas entre arquétipos, então
+ * durante um sistema a destruição deve usar {@link #destroyEntityLater(long)}.
+ * <p>
+ * O mundo vive ao lado do {@code BaseWorldDataManager}, que o atualiza a cada passo fixo depois dos gameObjects e
+ * guarda as posições anteriores junto com os transforms. Os tipos position, velocity e sprite já vêm registrados.
+ * <p>
+ * Deve ser usado apenas pela thread da simulação.
+ */
+public class EcsWorld {
+
+    /// Id que nunca pertence a uma entidade
+    public static final long NULL_ENTITY = 0L;
+
+    /// Limite de tipos de componente, um bit por tipo nas máscaras
+    public static final int MAX_COMPONENT_TYPES = 64;
+
+    /// Campos float de position
+    public static final int POSITION_X = 0, POSITION_Y = 1, POSITION_PREVIOUS_X = 2, POSITION_PREVIOUS_Y = 3;
+    /// Campos float de velocity
+    public static final int VELOCITY_X = 0, VELOCITY_Y = 1;
+    /// Campos float de sprite
+    public static final int SPRITE_WIDTH = 0, SPRITE_HEIGHT = 1;
+    /// Campos int de sprite: índice do quadro na lista do EcsRenderLayer e flags de espelhamento
+    public static final int SPRITE_FRAME = 0, SPRITE_FLAGS = 1;
+    public static final int SPRITE_FLAG_FLIP_X = 1, SPRITE_FLAG_FLIP_Y = 2;
+
+    private static final int ARCHETYPE_INITIAL_CAPACITY = 64;
+
+    private final List<EcsComponentType> componentTypes = new ArrayList<>();
+    private final Map<String, EcsComponentType> componentTypesByName = new HashMap<>();
+
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private final Map<Long, Archetype> archetypesByMask = new HashMap<>();
+
+    /// Arquétipo da entidade de cada posição, -1 para posições livres
+    private int[] entityArchetype = new int[1024];
+    /// Linha da entidade de cada posição dentro do arquétipo
+    private int[] entityRow = new int[1024];
+    /// Geração atual de cada posição, começa em 1 para que nenhum id valha 0
+    private int[] entityGeneration = new int[1024];
+    private int entityIdCount = 0;
+
+    /// Posições liberadas, reaproveitadas antes de criar posições novas
+    private int[] freeIds = new int[256];
+    private int freeIdCount = 0;
+
+    /// Entidades destruídas no fim do update atual
+    private long[] pendingDestroy = new long[64];
+    private int pendingDestroyCount = 0;
+
+    private final List<EcsSystem> systems = new ArrayList<>();
+
+    private final EcsComponentType positionType;
+    private final EcsComponentType velocityType;
+    private final EcsComponentType spriteType;
+    private final EcsQuery positionQuery;
+
+    private int aliveCount = 0;
+
+    public EcsWorld() {
+        Arrays.fill(entityArchetype, -1);
+
+        this.positionType = registerComponent("position", 4, 0);
+        this.velocityType = registerComponent("velocity", 2, 0);
+        this.spriteType = registerComponent("sprite", 2, 2);
+        this.positionQuery = query(positionType);
+    }
+
+    /**
+     * Registra um tipo de componente.
+     *
+     * @param name        Nome único do tipo.
+     * @param floatFields Quantidade de campos float.
+     * @param intFields   Quantidade de campos int.
+     */
+    public EcsComponentType registerComponent(String name, int floatFields, int intFields) {
+        if (componentTypesByName.containsKey(name)) {
+            throw new IllegalStateException("Já existe um componente chamado " + name);
+        }
+        if (componentTypes.size() == MAX_COMPONENT_TYPES) {
+            throw new IllegalStateException("Limite de " + MAX_COMPONENT_TYPES + " tipos de componente atingido");
+        }
+        if (floatFields < 0 || intFields < 0) {
+            throw new IllegalArgumentException("Quantidade de campos não pode ser negativa");
+        }
+
+        EcsComponentType type = new EcsComponentType(componentTypes.size(), name, floatFields, intFields);
+        componentTypes.add(type);
+        componentTypesByName.put(name, type);
+        return type;
+    }
+
+    /// Consulta pelos arquétipos que têm todos os tipos informados
+    public EcsQuery query(EcsComponentType... required) {
+        return new EcsQuery(this, maskOf(required));
+    }
+
+    /// Cria uma entidade com os componentes informados, todos os campos começam em 0
+    public long createEntity(EcsComponentType... types) {
+        Archetype archetype = archetypeFor(maskOf(types));
+
+        int index = allocateId();
+        long entity = pack(index, entityGeneration[index]);
+        entityArchetype[index] = archetype.getIndex();
+        entityRow[index] = archetype.addRow(entity);
+        aliveCount++;
+        return entity;
+    }
+
+    /// Destrói a entidade na hora, não deve ser chamado enquanto um sistema percorre o arquétipo dela
+    public void destroyEntity(long entity) {
+        Archetype archetype = archetypeOf(entity);
+        int index = indexOf(entity);
+
+        removeRow(archetype, entityRow[index]);
+        entityArchetype[index] = -1;
+        aliveCount--;
+
+        int next = entityGeneration[index] + 1;
+        entityGeneration[index] = next == 0 ? 1 : next;     //Ao dar a volta pula o 0
+
+        if (freeIdCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIdCount * 2);
+        }
+        freeIds[freeIdCount++] = index;
+    }
+
+    /// Destrói a entidade no fim do update atual, seguro dentro de sistemas
+    public void destroyEntityLater(long entity) {
+        archetypeOf(entity);
+        if (pendingDestroyCount == pendingDestroy.length) {
+            pendingDestroy = Arrays.copyOf(pendingDestroy, pendingDestroyCount * 2);
+        }
+        pendingDestroy[pendingDestroyCount++] = entity;
+    }
+
+    /// Adiciona um componente zerado à entidade, movendo-a de arquétipo
+    public void addComponent(long entity, EcsComponentType type) {
+        Archetype current = archetypeOf(entity);
+        if (current.has(type)) return;
+        moveEntity(entity, current, archetypeFor(current.getMask() | type.getBit()));
+    }
+
+    /// Remove um componente da entidade, movendo-a de arquétipo
+    public void removeComponent(long entity, EcsComponentType type) {
+        Archetype current = archetypeOf(entity);
+        if (!current.has(type)) return;
+        moveEntity(entity, current, archetypeFor(current.getMask() & ~type.getBit()));
+    }
+
+    public boolean hasComponent(long entity, EcsComponentType type) {
+        return archetypeOf(entity).has(type);
+    }
+
+    /// Se o id ainda pertence à entidade para a qual foi criado
+    public boolean isAlive(long entity) {
+        int index = indexOf(entity);
+        return index >= 0
+            && index < entityIdCount
+            && entityArchetype[index] >= 0
+            && entityGeneration[index] == generationOf(entity);
+    }
+
+    // Acesso por entidade, para criação e eventos. Sistemas devem usar as colunas do arquétipo
+
+    public float getFloat(long entity, EcsComponentType type, int field) {
+        return archetypeOf(entity).floats(type, field)[entityRow[indexOf(entity)]];
+    }
+
+    public void setFloat(long entity, EcsComponentType type, int field, float value) {
+        archetypeOf(entity).floats(type, field)[entityRow[indexOf(entity)]] = value;
+    }
+
+    public int getInt(long entity, EcsComponentType type, int field) {
+        return archetypeOf(entity).ints(type, field)[entityRow[indexOf(entity)]];
+    }
+
+    public void setInt(long entity, EcsComponentType type, int field, int value) {
+        archetypeOf(entity).ints(type, field)[entityRow[indexOf(entity)]] = value;
+    }
+
+    /// Define a posição atual e a anterior, sem interpolar do ponto antigo
+    public void setPosition(long entity, float x, float y) {
+        Archetype archetype = archetypeOf(entity);
+        int row = entityRow[indexOf(entity)];
+        archetype.floats(positionType, POSITION_X)[row] = x;
+        archetype.floats(positionType, POSITION_Y)[row] = y;
+        archetype.floats(positionType, POSITION_PREVIOUS_X)[row] = x;
+        archetype.floats(positionType, POSITION_PREVIOUS_Y)[row] = y;
+    }
+
+    /// Adiciona um sistema, executado depois dos já adicionados
+    public void addSystem(EcsSystem system) {
+        systems.add(system);
+    }
+
+    public void removeSystem(EcsSystem system) {
+        systems.remove(system);
+    }
+
+    /// Executa todos os sistemas em ordem e aplica as destruições adiadas
+    public void update(float delta) {
+        for (int i = 0; i < systems.size(); i++) {
+            systems.get(i).update(this, delta);
+        }
+        flushPendingDestroy();
+    }
+
+    /// Guarda a posição atual como anterior, antes de cada passo, para a interpolação da renderização
+    public void storePreviousPositions() {
+        for (int a = 0; a < positionQuery.getArchetypeCount(); a++) {
+            Archetype archetype = positionQuery.getArchetype(a);
+            int size = archetype.size();
+            System.arraycopy(archetype.floats(positionType, POSITION_X), 0, archetype.floats(positionType, POSITION_PREVIOUS_X), 0, size);
+            System.arraycopy(archetype.floats(positionType, POSITION_Y), 0, archetype.floats(positionType, POSITION_PREVIOUS_Y), 0, size);
+        }
+    }
+
+    private void flushPendingDestroy() {
+        for (int i = 0; i < pendingDestroyCount; i++) {
+            long entity = pendingDestroy[i];
+            if (isAlive(entity)) {                              //Pode ter sido pedida duas vezes
+                destroyEntity(entity);
+            }
+        }
+        pendingDestroyCount = 0;
+    }
+
+    /// Destrói todas as entidades, mantendo tipos, arquétipos e sistemas
+    public void clear() {
+        for (int i = 0; i < entityIdCount; i++) {
+            if (entityArchetype[i] >= 0) {
+                destroyEntity(pack(i, entityGeneration[i]));
+            }
+        }
+        pendingDestroyCount = 0;
+    }
+
+    private void moveEntity(long entity, Archetype from, Archetype to) {
+        int index = indexOf(entity);
+        int fromRow = entityRow[index];
+        int toRow = to.addRow(entity);
+        to.copyRowFrom(from, fromRow, toRow);
+
+        removeRow(from, fromRow);
+        entityArchetype[index] = to.getIndex();
+        entityRow[index] = toRow;
+    }
+
+    private void removeRow(Archetype archetype, int row) {
+        long moved = archetype.removeRow(row);
+        if (moved != NULL_ENTITY) {
+            entityRow[indexOf(moved)] = row;
+        }
+    }
+
+    private int allocateId() {
+        if (freeIdCount > 0) {
+            return freeIds[--freeIdCount];
+        }
+
+        if (entityIdCount == entityArchetype.length) {
+            int capacity = entityIdCount * 2;
+            entityArchetype = Arrays.copyOf(entityArchetype, capacity);
+            entityRow = Arrays.copyOf(entityRow, capacity);
+            entityGeneration = Arrays.copyOf(entityGeneration, capacity);
+            Arrays.fill(entityArchetype, entityIdCount, capacity, -1);
+        }
+        entityGeneration[entityIdCount] = 1;
+        return entityIdCount++;
+    }
+
+    private Archetype archetypeOf(long entity) {
+        if (!isAlive(entity)) {
+            throw new IllegalArgumentException(
+                "Entidade inexistente ou já destruída: " + indexOf(entity) + " (geração " + generationOf(entity) + ")"
+            );
+        }
+        return archetypes.get(entityArchetype[indexOf(entity)]);
+    }
+
+    private Archetype archetypeFor(long mask) {
+        Archetype archetype = archetypesByMask.get(mask);
+        if (archetype != null) return archetype;
+
+        List<EcsComponentType> types = new ArrayList<>();
+        for (EcsComponentType type : componentTypes) {
+            if ((mask & type.getBit()) != 0) {
+                types.add(type);
+            }
+        }
+
+        archetype = new Archetype(
+            archetypes.size(),
+            mask,
+            types.toArray(new EcsComponentType[0]),
+            ARCHETYPE_INITIAL_CAPACITY
+        );
+        archetypes.add(archetype);
+        archetypesByMask.put(mask, archetype);
+        return archetype;
+    }
+
+    public static long pack(int index, int generation) {
+        return ((long) generation << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    /// Posição da entidade nas tabelas do mundo
+    public static int indexOf(long entity) {
+        return (int) entity;
+    }
+
+    /// Geração da entidade
+    public static int generationOf(long entity) {
+        return (int) (entity >>> 32);
+    }
+
+    private static long maskOf(EcsComponentType[] types) {
+        long mask = 0L;
+        for (EcsComponentType type : types) {
+            mask |= type.getBit();
+        }
+        return mask;
+    }
+
+    int getArchetypeCount() {
+        return archetypes.size();
+    }
+
+    Archetype getArchetype(int index) {
+        return archetypes.get(index);
+    }
+
+    public EcsComponentType getComponentType(String name) {
+        return componentTypesByName.get(name);
+    }
+
+    public EcsComponentType getPositionType() {
+        return positionType;
+    }
+
+    public EcsComponentType getVelocityType() {
+        return velocityType;
+    }
+
+    public EcsComponentType getSpriteType() {
+        return spriteType;
+    }
+
+    /// Quantidade de entidades vivas
+    public int getEntityCount() {
+        return aliveCount;
+    }
+}
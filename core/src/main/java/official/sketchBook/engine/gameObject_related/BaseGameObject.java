@@ -2,29 +2,49 @@ package official.sketchBook.engine.gameObject_related;
 
 import com.badlogic.gdx.utils.Disposable;
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.Component;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.Poolable;
 import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.dataManager_related.GameObjectHandleTable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class BaseGameObject implements Disposable {
 
     /// Se deve eliminar por completo
     protected boolean pendingRemoval = false;
+    /// Se foi removido por estar longe da câmera, com o estado guardado pelo streamer
+    protected boolean parked = false;
     protected boolean disposed = false;
+    /// Se a instância está guardada num pool esperando reaproveitamento
+    protected boolean pooled = false;
+    /// Se o update do objeto deve rodar mesmo quando o passo fixo está sobrecarregado
+    protected boolean updateCritical = true;
+    /// Se os componentes das listas são atualizados pelo ComponentScheduler do manager, e não pelo próprio objeto
+    /// O scheduler agrupa por classe e roda antes de todos os updates, sem manter a ordem das listas, então só
+    /// objetos cujos componentes não dependem dessa ordem ligam, antes de entrar no manager
+    protected boolean useComponentScheduler = false;
+    /// Se os componentes estão registrados no scheduler, o que torna updateComponents e postUpdateComponents vazios
+    private boolean componentsScheduled = false;
+
+    /// Posição na lista de objetos ativos do manager, -1 enquanto o objeto não está nela
+    private int managerIndex = -1;
+    /// Handle geracional dado pelo manager, NULL_HANDLE enquanto o objeto não está registrado
+    private long handle = GameObjectHandleTable.NULL_HANDLE;
 
     /// Manager único do object
     protected final BaseWorldDataManager worldDataManager;
 
-    protected List<Component> toUpdateComponentList;
-    protected List<Component> toPostUpdateComponentList;
+    /// Alteradas apenas pelos métodos de adicionar e remover, que mantêm o ComponentScheduler em sincronia
+    private final List<Component> toUpdateComponentList = new ArrayList<>();
+    private final List<Component> toPostUpdateComponentList = new ArrayList<>();
+    private final List<Component> toUpdateComponentView = Collections.unmodifiableList(toUpdateComponentList);
+    private final List<Component> toPostUpdateComponentView = Collections.unmodifiableList(toPostUpdateComponentList);
 
     public BaseGameObject(BaseWorldDataManager worldDataManager) {
         this.worldDataManager = worldDataManager;
         this.worldDataManager.addGameObject(this);
-
-        this.toUpdateComponentList = new ArrayList<>();
-        this.toPostUpdateComponentList = new ArrayList<>();
     }
 
     /// Inicia os dados importantes antes de alocar ele no mundo
@@ -37,17 +57,53 @@ public abstract class BaseGameObject implements Disposable {
     public abstract void postUpdate();
 
     protected void updateComponents(float delta){
+        if (componentsScheduled) return;
         for(Component component : toUpdateComponentList){
             component.update(delta);
         }
     }
 
     protected void postUpdateComponents(){
+        if (componentsScheduled) return;
         for(Component component : toPostUpdateComponentList){
             component.postUpdate();
         }
     }
 
+    /// Adiciona um componente de update, registrando no scheduler se os componentes do objeto já estiverem nele
+    public void addUpdateComponent(Component component) {
+        toUpdateComponentList.add(component);
+        if (componentsScheduled) {
+            worldDataManager.getComponentScheduler().addUpdateComponent(this, component);
+        }
+    }
+
+    /// Remove um componente de update, tirando do scheduler se os componentes do objeto estiverem nele
+    public boolean removeUpdateComponent(Component component) {
+        if (!toUpdateComponentList.remove(component)) return false;
+        if (componentsScheduled) {
+            worldDataManager.getComponentScheduler().removeUpdateComponent(component);
+        }
+        return true;
+    }
+
+    /// Adiciona um componente de pós-atualização, registrando no scheduler se os componentes do objeto já estiverem nele
+    public void addPostUpdateComponent(Component component) {
+        toPostUpdateComponentList.add(component);
+        if (componentsScheduled) {
+            worldDataManager.getComponentScheduler().addPostUpdateComponent(this, component);
+        }
+    }
+
+    /// Remove um componente de pós-atualização, tirando do scheduler se os componentes do objeto estiverem nele
+    public boolean removePostUpdateComponent(Component component) {
+        if (!toPostUpdateComponentList.remove(component)) return false;
+        if (componentsScheduled) {
+            worldDataManager.getComponentScheduler().removePostUpdateComponent(component);
+        }
+        return true;
+    }
+
     /// Sequência de destruição de objeto
     public final void destroy() {
         if (disposed) return;           //se já limpamos não podemos prosseguir nessa sequencia de eventos
@@ -55,6 +111,26 @@ public abstract class BaseGameObject implements Disposable {
         this.dispose();                 //Limpeza de recursos
     }
 
+    /// Sequência de remoção de um objeto poolable: destruição customizada e reset, mantendo os componentes
+    public final void recycle() {
+        if (!(this instanceof Poolable)) {
+            throw new IllegalStateException(getClass().getSimpleName() + " não implementa Poolable");
+        }
+        if (disposed || pooled) return;
+        this.onObjectDestruction();
+        ((Poolable) this).resetForPool();
+        pooled = true;
+    }
+
+    /// Tira a instância do pool e a registra de novo no manager
+    public final void reactivateFromPool() {
+        if (!pooled) return;
+        pooled = false;
+        pendingRemoval = false;
+        ((Poolable) this).reactivate();
+        worldDataManager.addGameObject(this);
+    }
+
     /// Callback para lógica customizada de destruição
     protected abstract void onObjectDestruction();
 
@@ -67,6 +143,11 @@ public abstract class BaseGameObject implements Disposable {
     }
 
     protected void disposeAllComponents(){
+        // Componentes descartados não podem continuar nos grupos do scheduler
+        if (componentsScheduled) {
+            worldDataManager.getComponentScheduler().unregister(this);
+        }
+
         for(Component component : toUpdateComponentList){
             if(component.isDisposed()) continue;
             component.dispose();
@@ -87,11 +168,80 @@ public abstract class BaseGameObject implements Disposable {
         this.pendingRemoval = true;
     }
 
+    /// Marca para remoção sem a sequência de destruição, o estado do objeto continua guardado fora do manager
+    public void markToPark() {
+        this.parked = true;
+        this.pendingRemoval = true;
+    }
+
+    public boolean isParked() {
+        return parked;
+    }
+
     public boolean isPendingRemoval() {
         return pendingRemoval;
     }
 
+    public boolean isUpdateCritical() {
+        return updateCritical;
+    }
+
+    /// Objetos não críticos (partículas, decoração...) podem ter o update pulado pela política adaptativa
+    public void setUpdateCritical(boolean updateCritical) {
+        this.updateCritical = updateCritical;
+    }
+
+    public int getManagerIndex() {
+        return managerIndex;
+    }
+
+    /// Mantido pelo manager ao integrar e remover objetos
+    public void setManagerIndex(int managerIndex) {
+        this.managerIndex = managerIndex;
+    }
+
+    /// Handle para guardar no lugar da referência, resolvido com {@link BaseWorldDataManager#resolve(long)}
+    public long getHandle() {
+        return handle;
+    }
+
+    /// Mantido pelo manager ao registrar e remover objetos
+    public void setHandle(long handle) {
+        this.handle = handle;
+    }
+
+    public boolean usesComponentScheduler() {
+        return useComponentScheduler;
+    }
+
+    public boolean isComponentsScheduled() {
+        return componentsScheduled;
+    }
+
+    /// Chamado pelo ComponentScheduler ao registrar e remover os componentes do objeto
+    public void setComponentsScheduled(boolean componentsScheduled) {
+        this.componentsScheduled = componentsScheduled;
+    }
+
+    /// Visão somente leitura, alterações passam por addUpdateComponent e removeUpdateComponent
+    public List<Component> getToUpdateComponentList() {
+        return toUpdateComponentView;
+    }
+
+    /// Visão somente leitura, alterações passam por addPostUpdateComponent e removePostUpdateComponent
+    public List<Component> getToPostUpdateComponentList() {
+        return toPostUpdateComponentView;
+    }
+
+    public boolean isPooled() {
+        return pooled;
+    }
+
     public boolean isDisposed() {
         return disposed;
     }
+
+    public BaseWorldDataManager getWorldDataManager() {
+        return worldDataManager;
+    }
 }
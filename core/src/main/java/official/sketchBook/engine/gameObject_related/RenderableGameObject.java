@@ -1,11 +1,14 @@
 package official.sketchBook.engine.gameObject_related;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import official.sketchBook.engine.animation_related.ObjectAnimationPlayer;
 import official.sketchBook.engine.animation_related.SpriteSheetDataHandler;
 import official.sketchBook.engine.components_related.intefaces.integration_interfaces.RenderAbleObject;
 import official.sketchBook.engine.components_related.objects.TransformComponent;
+import official.sketchBook.engine.components_related.system_utils.snapshot.TransformSnapshot;
 import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.dataManager_related.RenderQueue;
 
 import java.util.List;
 
@@ -18,6 +21,9 @@ public abstract class RenderableGameObject extends BaseGameObject implements Ren
 
     protected boolean isRenderDimensionEqualsToObject = true;
 
+    /// Posição do objeto na fila de renderização do manager
+    protected final RenderQueue.Slot renderQueueSlot = new RenderQueue.Slot();
+
     public RenderableGameObject(
         float x,
         float y,
@@ -42,7 +48,8 @@ public abstract class RenderableGameObject extends BaseGameObject implements Ren
         initObject();
     }
 
-    /// Inicia um novo componente de transformação
+    /// Inicia um novo componente de transformação no store do manager
+    /// Transforms fora do store do manager não têm o estado anterior guardado a cada passo
     protected void initTransformComponent(
         float x,
         float y,
@@ -53,6 +60,7 @@ public abstract class RenderableGameObject extends BaseGameObject implements Ren
         boolean yAxisInverted
     ) {
         this.transformC = new TransformComponent(
+            worldDataManager.getTransformStore(),
             x,
             y,
             z,
@@ -73,31 +81,62 @@ public abstract class RenderableGameObject extends BaseGameObject implements Ren
         this.postUpdateComponents();
     }
 
+    /// Devolve o handle do transform ao store junto com os demais componentes
+    @Override
+    protected void disposeAllComponents() {
+        super.disposeAllComponents();
+        if (!transformC.isDisposed()) {
+            transformC.dispose();
+        }
+    }
+
     @Override
     public void updateVisuals(float delta) {
+        this.updateVisuals(
+            delta,
+            transformC.getX(),
+            transformC.getY(),
+            transformC.getWidth(),
+            transformC.getHeight(),
+            transformC.isxAxisInverted(),
+            transformC.isyAxisInverted()
+        );
+    }
+
+    @Override
+    public void updateVisuals(float delta, float interpolationAlpha) {
+        this.updateVisuals(
+            delta,
+            transformC.getInterpolatedX(interpolationAlpha),
+            transformC.getInterpolatedY(interpolationAlpha),
+            transformC.getWidth(),
+            transformC.getHeight(),
+            transformC.isxAxisInverted(),
+            transformC.isyAxisInverted()
+        );
+    }
+
+    /// Posiciona os sprite handlers com os valores de transform informados e avança as animações
+    public void updateVisuals(
+        float delta,
+        float x,
+        float y,
+        float width,
+        float height,
+        boolean xAxisInverted,
+        boolean yAxisInverted
+    ) {
         for (int i = 0; i < spriteHandlerList.size(); i++) {
             SpriteSheetDataHandler currentHandler = spriteHandlerList.get(i);
             ObjectAnimationPlayer currentAnimationPlayer = animationPlayerList.get(i);
 
-            currentHandler.updatePosition(
-                transformC.getX(),
-                transformC.getY()
-            );
-            currentHandler.setxAxisInvert(
-                transformC.isxAxisInverted()
-            );
-            currentHandler.setyAxisInvert(
-                transformC.isyAxisInverted()
-            );
+            currentHandler.updatePosition(x, y);
+            currentHandler.setxAxisInvert(xAxisInverted);
+            currentHandler.setyAxisInvert(yAxisInverted);
 
             if (isRenderDimensionEqualsToObject) {
-                currentHandler.setRenderWidth(
-                    transformC.getWidth()
-                );
-
-                currentHandler.setRenderHeight(
-                    transformC.getHeight()
-                );
+                currentHandler.setRenderWidth(width);
+                currentHandler.setRenderHeight(height);
             }
 
             if (currentAnimationPlayer != null) {
@@ -108,25 +147,64 @@ public abstract class RenderableGameObject extends BaseGameObject implements Ren
 
     }
 
+    /// Renderiza o estado preparado pelo último updateVisuals, sem ler o transform
     @Override
-    public void render(SpriteBatch batch) {
+    public void render(Batch batch) {
         if (!spriteHandlerList.isEmpty() && !animationPlayerList.isEmpty()) {
             //renderizamos primeiro tudo o que tivermos para renderizar do objeto do jogador
             for (int i = 0; i < spriteHandlerList.size(); i++) {
-                SpriteSheetDataHandler currentHandler = spriteHandlerList.get(i);
-
-                currentHandler.setxAxisInvert(
-                    transformC.isxAxisInverted()
+                spriteHandlerList.get(i).renderSprite(batch,
+                    animationPlayerList.get(i).getCurrentSprite()
                 );
 
-                currentHandler.setyAxisInvert(
-                    transformC.isyAxisInverted()
-                );
+            }
+        }
+    }
 
-                currentHandler.renderSprite(batch,
-                    animationPlayerList.get(i).getCurrentSprite()
-                );
+    /// Grava um draw por sprite handler, com a posição anterior deslocada pelo mesmo offset do handler
+    @Override
+    public void captureDraws(TransformSnapshot snapshot) {
+        if (spriteHandlerList.isEmpty() || animationPlayerList.isEmpty()) return;
+
+        // Os handlers foram posicionados no transform atual pelo último updateVisuals
+        float moveX = transformC.getPreviousX() - transformC.getX();
+        float moveY = transformC.getPreviousY() - transformC.getY();
 
+        for (int i = 0; i < spriteHandlerList.size(); i++) {
+            SpriteSheetDataHandler handler = spriteHandlerList.get(i);
+            snapshot.recordDraw(
+                handler.getRegion(animationPlayerList.get(i).getCurrentSprite()),
+                handler.getX(),
+                handler.getY(),
+                handler.getX() + moveX,
+                handler.getY() + moveY,
+                handler.getRenderWidth(),
+                handler.getRenderHeight(),
+                handler.getOriginX(),
+                handler.getOriginY(),
+                handler.getRotation()
+            );
+        }
+    }
+
+    /// Textura comum a todos os sprite handlers, null se houver mais de uma
+    @Override
+    public Texture getRenderTexture() {
+        if (spriteHandlerList == null || spriteHandlerList.isEmpty()) return null;
+
+        Texture texture = spriteHandlerList.get(0).getSpriteSheet();
+        for (int i = 1; i < spriteHandlerList.size(); i++) {
+            if (spriteHandlerList.get(i).getSpriteSheet() != texture) return null;
+        }
+        return texture;
+    }
+
+    /// Reinicia todas as animações, para implementações de Poolable reaproveitarem os animation players
+    protected void restartAnimations() {
+        for (int i = 0; i < animationPlayerList.size(); i++) {
+            ObjectAnimationPlayer player = animationPlayerList.get(i);
+            if (player != null) {
+                player.restart();
             }
         }
     }
@@ -154,8 +232,19 @@ public abstract class RenderableGameObject extends BaseGameObject implements Ren
         return transformC;
     }
 
+    @Override
+    public RenderQueue.Slot getRenderQueueSlot() {
+        return renderQueueSlot;
+    }
+
     @Override
     public int getZIndex() {
         return (int) transformC.getZ();
     }
+
+    /// Atualiza o z do objeto e avisa o manager para movê-lo na fila de renderização
+    public void setZ(float z) {
+        transformC.setZ(z);
+        worldDataManager.notifyRenderIndexUpdate(this);
+    }
 }
@@ -0,0 +1,161 @@
+package official.sketchBook.engine.input_related;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static official.sketchBook.engine.input_related.InputRecording.*;
+
+/**
+ * Grava o {@link InputSnapshot} de cada passo fixo num arquivo, no formato de {@link InputRecording}.
+ * <p>
+ * Só os ticks com mudança são escritos. O buffer é descarregado no arquivo a cada segundo de jogo,
+ * então uma gravação interrompida por um crash perde no máximo esse trecho e ainda pode ser reproduzida.
+ * Deve ser usado na thread que captura o snapshot.
+ */
+public class InputRecorder implements Closeable {
+
+    /// Ticks entre descargas do buffer no arquivo
+    private static final int FLUSH_INTERVAL_TICKS = 60;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    private final long[] lastState = new long[InputSnapshot.WORD_COUNT];
+    private final long[] state = new long[InputSnapshot.WORD_COUNT];
+
+    private long tickCount;
+    /// Ticks sem mudança desde o último registro
+    private int unchangedTicks;
+    private boolean closed;
+
+    public InputRecorder(Path path, float fixedTimestep) {
+        this.path = path;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar a gravação " + path, e);
+        }
+
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) InputSnapshot.WORD_COUNT);
+        buffer.putFloat(fixedTimestep);
+        buffer.putLong(0L);
+        flush();
+    }
+
+    /// Grava o estado atual do snapshot como o próximo tick
+    public void record(InputSnapshot snapshot) {
+        if (closed) {
+            throw new IllegalStateException("Gravação já foi fechada: " + path);
+        }
+
+        snapshot.copyState(state);
+
+        int mask = 0;
+        for (int w = 0; w < state.length; w++) {
+            if (state[w] != lastState[w]) mask |= 1 << w;
+        }
+
+        tickCount++;
+
+        if (mask == 0) {
+            unchangedTicks++;
+        } else {
+            ensureSpace();
+            putVarInt(unchangedTicks);
+            buffer.put((byte) mask);
+            for (int w = 0; w < state.length; w++) {
+                if ((mask & (1 << w)) != 0) {
+                    buffer.putLong(state[w] ^ lastState[w]);
+                    lastState[w] = state[w];
+                }
+            }
+            unchangedTicks = 0;
+        }
+
+        if (tickCount % FLUSH_INTERVAL_TICKS == 0) {
+            flush();
+        }
+    }
+
+    /// Escreve o fim da gravação e a quantidade de ticks no cabeçalho
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        try {
+            ensureSpace();
+            putVarInt(unchangedTicks);
+            buffer.put((byte) 0);
+            flush();
+
+            ByteBuffer count = ByteBuffer.allocate(8);
+            count.putLong(0, tickCount);
+            channel.write(count, TICK_COUNT_OFFSET);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao fechar a gravação " + path, e);
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void ensureSpace() {
+        if (buffer.remaining() < MAX_RECORD_SIZE) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao escrever a gravação " + path, e);
+        }
+        buffer.clear();
+    }
+
+    private void putVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,36 @@
+package official.sketchBook.engine.input_related;
+
+/**
+ * Formato binário compartilhado por {@link InputRecorder} e {@link InputReplay}.
+ * <p>
+ * Cabeçalho de {@link #HEADER_SIZE} bytes: magic, versão, longs por tick, passo fixo da gravação e
+ * quantidade total de ticks (0 enquanto a gravação não é fechada).
+ * <p>
+ * Depois do cabeçalho vêm registros só para os ticks em que alguma tecla mudou:
+ * <ul>
+ *     <li>varint com quantos ticks sem mudança vieram antes deste</li>
+ *     <li>um byte com a máscara dos longs que mudaram, 0 marca o fim da gravação</li>
+ *     <li>para cada bit da máscara, o XOR entre o long anterior e o novo</li>
+ * </ul>
+ * Um minuto segurando uma tecla custa dois registros, não 3600 estados.
+ */
+final class InputRecording {
+
+    static final int MAGIC = 0x53424952; // "SBIR"
+    static final short VERSION = 1;
+
+    static final int TICK_COUNT_OFFSET = 12;
+    static final int HEADER_SIZE = 20;
+
+    /// Maior registro possível: varint de 5 bytes, máscara e um long por palavra
+    static final int MAX_RECORD_SIZE = 5 + 1 + 8 * InputSnapshot.WORD_COUNT;
+
+    static {
+        if (InputSnapshot.WORD_COUNT > 8) {
+            throw new IllegalStateException("Máscara de palavras não cabe em um byte: " + InputSnapshot.WORD_COUNT);
+        }
+    }
+
+    private InputRecording() {
+    }
+}
@@ -0,0 +1,169 @@
+package official.sketchBook.engine.input_related;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static official.sketchBook.engine.input_related.InputRecording.*;
+
+/**
+ * Lê uma gravação do {@link InputRecorder} e devolve o estado das teclas tick a tick, para ser aplicado
+ * com {@link InputSnapshot#captureFrom(long[])}.
+ * <p>
+ * O arquivo é lido inteiro para a memória uma vez, {@link #copy()} cria leitores independentes sobre os
+ * mesmos bytes para reproduzir a gravação em vários mundos ao mesmo tempo.
+ * Gravações que não foram fechadas (ex.: crash) são reproduzidas até o último registro completo.
+ */
+public class InputReplay {
+
+    private final ByteBuffer data;
+    private final float fixedTimestep;
+    private final long tickCount;
+
+    private final long[] state = new long[InputSnapshot.WORD_COUNT];
+
+    private long ticksRead;
+    /// Ticks sem mudança que ainda faltam antes de aplicar o registro carregado
+    private int unchangedTicks;
+    private int pendingMask;
+    private boolean recordLoaded;
+
+    private InputReplay(ByteBuffer data, float fixedTimestep, long tickCount) {
+        this.data = data;
+        this.fixedTimestep = fixedTimestep;
+        this.tickCount = tickCount;
+    }
+
+    /// Abre e valida uma gravação
+    public static InputReplay open(Path path) {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Tamanho inválido para uma gravação de input: " + path);
+            }
+
+            data = ByteBuffer.allocate((int) size);
+            while (data.hasRemaining()) {
+                if (channel.read(data) < 0) break;
+            }
+            data.flip();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler a gravação " + path, e);
+        }
+
+        if (data.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Arquivo não é uma gravação de input: " + path);
+        }
+        short version = data.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Versão de gravação não suportada: " + version);
+        }
+        short wordCount = data.getShort();
+        if (wordCount != InputSnapshot.WORD_COUNT) {
+            throw new IllegalArgumentException(
+                "Gravação usa " + wordCount + " longs por tick, esperado " + InputSnapshot.WORD_COUNT
+            );
+        }
+        float fixedTimestep = data.getFloat();
+        long tickCount = data.getLong();
+
+        ByteBuffer body = data.slice();
+        if (tickCount == 0) {
+            tickCount = countTicks(body.duplicate());
+        }
+
+        return new InputReplay(body, fixedTimestep, tickCount);
+    }
+
+    /// Conta os ticks de uma gravação não fechada, ignorando um registro cortado no fim
+    private static long countTicks(ByteBuffer body) {
+        long ticks = 0;
+        try {
+            while (body.hasRemaining()) {
+                int unchanged = readVarInt(body);
+                int mask = body.get() & 0xFF;
+                if (mask == 0) {
+                    return ticks + unchanged;
+                }
+                body.position(body.position() + Integer.bitCount(mask) * 8);
+                ticks += unchanged + 1;
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException ignored) {
+            // Registro incompleto, a gravação termina no anterior
+        }
+        return ticks;
+    }
+
+    /// Leitor independente sobre a mesma gravação, começando do primeiro tick
+    public InputReplay copy() {
+        ByteBuffer body = data.duplicate();
+        body.rewind();
+        return new InputReplay(body, fixedTimestep, tickCount);
+    }
+
+    /**
+     * Avança um tick.
+     *
+     * @param out Recebe o estado das teclas do tick, com {@link InputSnapshot#WORD_COUNT} posições.
+     * @return false quando a gravação acabou, sem mexer em {@code out}
+     */
+    public boolean next(long[] out) {
+        if (ticksRead >= tickCount) return false;
+
+        if (!recordLoaded) {
+            unchangedTicks = readVarInt(data);
+            pendingMask = data.get() & 0xFF;
+            recordLoaded = true;
+        }
+
+        if (unchangedTicks > 0) {
+            unchangedTicks--;
+        } else {
+            if (pendingMask == 0) {
+                throw new IllegalStateException("Gravação terminou antes dos " + tickCount + " ticks do cabeçalho");
+            }
+            for (int w = 0; w < state.length; w++) {
+                if ((pendingMask & (1 << w)) != 0) {
+                    state[w] ^= data.getLong();
+                }
+            }
+            recordLoaded = false;
+        }
+
+        ticksRead++;
+        System.arraycopy(state, 0, out, 0, state.length);
+        return true;
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Varint inválido na gravação de input");
+    }
+
+    public boolean isFinished() {
+        return ticksRead >= tickCount;
+    }
+
+    /// Passo fixo usado durante a gravação, o replay só é determinístico com o mesmo passo
+    public float getFixedTimestep() {
+        return fixedTimestep;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getTicksRead() {
+        return ticksRead;
+    }
+}
@@ -0,0 +1,148 @@
+package official.sketchBook.engine.input_related;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+import java.util.Arrays;
+
+/**
+ * Estado das teclas capturado uma vez por passo fixo, compartilhado por todos os controllers.
+ * <p>
+ * Cada tecla ocupa um bit, então o estado inteiro cabe em poucos longs. Junto com o estado ficam as máscaras
+ * de borda: teclas que foram pressionadas e que foram soltas desde a captura anterior.
+ * <p>
+ * Só as teclas registradas com {@link #track(int)} são lidas da fonte, os controllers registram as suas
+ * ao se ligar ao snapshot. O estado pode ser copiado com {@link #copyState(long[])} e reaplicado com
+ * {@link #captureFrom(long[])}, o que torna a entrada reproduzível em replays e simulações headless.
+ * <p>
+ * Pertence ao update system e deve ser lido e capturado na mesma thread da simulação.
+ */
+public class InputSnapshot {
+
+    /// Quantidade de longs necessária para guardar um bit por keycode
+    public static final int WORD_COUNT = (Input.Keys.MAX_KEYCODE + 1 + 63) >>> 6;
+
+    /// Fonte padrão, lê o libGDX quando existe e considera tudo solto quando roda sem janela
+    private static final KeyStateSource GDX_SOURCE = keycode -> Gdx.input != null && Gdx.input.isKeyPressed(keycode);
+
+    private final long[] tracked = new long[WORD_COUNT];
+
+    private final long[] current = new long[WORD_COUNT];
+    private final long[] previous = new long[WORD_COUNT];
+    private final long[] pressedEdges = new long[WORD_COUNT];
+    private final long[] releasedEdges = new long[WORD_COUNT];
+
+    private KeyStateSource source = GDX_SOURCE;
+
+    /// Quantidade de capturas feitas, também o número do passo fixo representado pelo estado atual
+    private long captureCount;
+
+    /// Registra uma tecla para ser lida da fonte nas próximas capturas
+    public void track(int keycode) {
+        checkKeycode(keycode);
+        tracked[keycode >>> 6] |= 1L << keycode;
+    }
+
+    public boolean isTracked(int keycode) {
+        return (tracked[keycode >>> 6] & (1L << keycode)) != 0;
+    }
+
+    /// Lê da fonte as teclas registradas e recalcula as bordas
+    public void capture() {
+        System.arraycopy(current, 0, previous, 0, WORD_COUNT);
+
+        for (int w = 0; w < WORD_COUNT; w++) {
+            long bits = tracked[w];
+            long state = 0L;
+
+            while (bits != 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                if (source.isKeyPressed((w << 6) | bit)) {
+                    state |= 1L << bit;
+                }
+            }
+            current[w] = state;
+        }
+
+        finishCapture();
+    }
+
+    /// Usa um estado já pronto (ex.: gravado num replay) em vez de ler a fonte
+    public void captureFrom(long[] state) {
+        if (state.length != WORD_COUNT) {
+            throw new IllegalArgumentException("Estado de input deve ter " + WORD_COUNT + " longs: " + state.length);
+        }
+
+        System.arraycopy(current, 0, previous, 0, WORD_COUNT);
+        System.arraycopy(state, 0, current, 0, WORD_COUNT);
+
+        finishCapture();
+    }
+
+    private void finishCapture() {
+        for (int w = 0; w < WORD_COUNT; w++) {
+            long changed = current[w] ^ previous[w];
+            pressedEdges[w] = changed & current[w];
+            releasedEdges[w] = changed & previous[w];
+        }
+        captureCount++;
+    }
+
+    /// Solta todas as teclas sem gerar bordas, usado ao trocar de fonte ou reiniciar a simulação
+    public void reset() {
+        Arrays.fill(current, 0L);
+        Arrays.fill(previous, 0L);
+        Arrays.fill(pressedEdges, 0L);
+        Arrays.fill(releasedEdges, 0L);
+        captureCount = 0;
+    }
+
+    /// Copia o estado atual para o array informado, que deve ter {@link #WORD_COUNT} posições
+    public long[] copyState(long[] out) {
+        System.arraycopy(current, 0, out, 0, WORD_COUNT);
+        return out;
+    }
+
+    public boolean isPressed(int keycode) {
+        return (current[keycode >>> 6] & (1L << keycode)) != 0;
+    }
+
+    /// Se a tecla foi pressionada neste passo
+    public boolean isJustPressed(int keycode) {
+        return (pressedEdges[keycode >>> 6] & (1L << keycode)) != 0;
+    }
+
+    /// Se a tecla foi solta neste passo
+    public boolean isJustReleased(int keycode) {
+        return (releasedEdges[keycode >>> 6] & (1L << keycode)) != 0;
+    }
+
+    /// Se alguma tecla mudou de estado neste passo
+    public boolean hasChanges() {
+        for (int w = 0; w < WORD_COUNT; w++) {
+            if ((pressedEdges[w] | releasedEdges[w]) != 0) return true;
+        }
+        return false;
+    }
+
+    public long getCaptureCount() {
+        return captureCount;
+    }
+
+    public KeyStateSource getSource() {
+        return source;
+    }
+
+    /// Define de onde as teclas são lidas, null volta para o libGDX
+    public void setSource(KeyStateSource source) {
+        this.source = source != null ? source : GDX_SOURCE;
+    }
+
+    private static void checkKeycode(int keycode) {
+        if (keycode < 0 || keycode > Input.Keys.MAX_KEYCODE) {
+            throw new IllegalArgumentException("Keycode fora do intervalo: " + keycode);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package official.sketchBook.engine.input_related;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recebe os eventos de tecla do libGDX e os guarda num buffer circular numerado.
+ * <p>
+ * Os controllers ligados ao dispatcher leem apenas os eventos novos desde a última leitura, em vez de
+ * consultar {@code Gdx.input.isKeyPressed} para cada tecla ligada a cada passo. Sem eventos, o custo de
+ * um controller é uma leitura do contador de sequência.
+ * <p>
+ * Os eventos são escritos pela thread do libGDX e podem ser lidos pela thread de update, a publicação do
+ * contador garante que o evento e a tabela de teclas já estejam visíveis. Um leitor que fique mais de
+ * {@link #getCapacity()} eventos para trás deve se ressincronizar pela tabela {@link #isKeyPressed(int)}.
+ * <p>
+ * Também serve de fonte para o {@link InputSnapshot}, que então lê a tabela em vez de consultar o libGDX.
+ * <p>
+ * Nunca consome os eventos, então pode ficar num {@link com.badlogic.gdx.InputMultiplexer} junto de outros processors.
+ */
+public class KeyEventDispatcher extends InputAdapter implements KeyStateSource {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /// Estado atual de cada tecla, indexado pelo keycode
+    private final boolean[] pressed = new boolean[Input.Keys.MAX_KEYCODE + 1];
+
+    /// Eventos codificados como (keycode << 1) | pressionada
+    private final int[] events;
+    private final int mask;
+
+    /// Quantidade total de eventos já escritos, também a sequência do próximo evento
+    private final AtomicLong sequence = new AtomicLong();
+
+    public KeyEventDispatcher() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// @param capacity Quantidade de eventos guardados, arredondada para a próxima potência de 2
+    public KeyEventDispatcher(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacidade do dispatcher deve ser positiva: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+
+        this.events = new int[size];
+        this.mask = size - 1;
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        publish(keycode, true);
+        return false;
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        publish(keycode, false);
+        return false;
+    }
+
+    private void publish(int keycode, boolean down) {
+        if (keycode < 0 || keycode >= pressed.length) return;
+
+        pressed[keycode] = down;
+
+        long seq = sequence.get();
+        events[(int) (seq & mask)] = (keycode << 1) | (down ? 1 : 0);
+        sequence.lazySet(seq + 1);
+    }
+
+    /// Solta todas as teclas, usado quando a janela perde o foco e os eventos de soltura não chegam
+    public void releaseAll() {
+        for (int key = 0; key < pressed.length; key++) {
+            if (pressed[key]) publish(key, false);
+        }
+    }
+
+    /// Sequência do próximo evento a ser escrito
+    public long getSequence() {
+        return sequence.get();
+    }
+
+    /// Evento codificado com a sequência informada, válido enquanto não tiver sido sobrescrito
+    public int getEvent(long seq) {
+        return events[(int) (seq & mask)];
+    }
+
+    public static int eventKeycode(int event) {
+        return event >>> 1;
+    }
+
+    public static boolean eventPressed(int event) {
+        return (event & 1) != 0;
+    }
+
+    @Override
+    public boolean isKeyPressed(int keycode) {
+        return pressed[keycode];
+    }
+
+    /// Quantidade de eventos que um leitor pode ficar para trás sem perder nenhum
+    public int getCapacity() {
+        return events.length;
+    }
+}
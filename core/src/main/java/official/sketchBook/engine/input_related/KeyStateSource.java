@@ -0,0 +1,7 @@
+package official.sketchBook.engine.input_related;
+
+/// Fonte do estado atual das teclas lida pelo {@link InputSnapshot} a cada passo fixo
+@FunctionalInterface
+public interface KeyStateSource {
+    boolean isKeyPressed(int keycode);
+}
@@ -0,0 +1,170 @@
+package official.sketchBook.engine.profiler_related;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Medição em nanossegundos de cada fase do frame, guardada em buffers circulares sem locks.
+ * <p>
+ * Uso nas fases:
+ * <pre>
+ * long start = profiler.begin();
+ * ...
+ * profiler.end(FrameProfiler.Phase.DRAW_GAME, start);
+ * </pre>
+ * Cada fase deve ser escrita por uma única thread. As estatísticas (p50, p95, p99 e máximo)
+ * podem ser lidas de qualquer thread por {@link #computeStats(Phase, int, PhaseStats)}.
+ */
+public class FrameProfiler {
+
+    /// Fases medidas, algumas contêm outras (ex.: UPDATE contém WORLD_STEP)
+    public enum Phase {
+        FRAME("frame"),
+        UPDATE("update"),
+        POST_UPDATE("postUpdate"),
+        WORLD_STEP("worldStep"),
+        UPDATE_VISUALS("updateVisuals"),
+        SORT_RENDERABLES("sortRenderables"),
+        DRAW_GAME("drawGame"),
+        DRAW_UI("drawUI");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /// Valores instantâneos registrados junto com as fases
+    public enum Counter {
+        /// Draw calls do último frame somando todos os batches
+        RENDER_CALLS,
+        /// Draw calls acumuladas desde a criação dos batches
+        TOTAL_RENDER_CALLS,
+        /// Vezes que a textura mudou entre draws consecutivos do jogo no último frame
+        TEXTURE_SWITCHES,
+        GAME_OBJECTS,
+        RENDERABLES,
+        VISIBLE_RENDERABLES
+    }
+
+    /// Amostras guardadas por fase (potência de dois)
+    public static final int DEFAULT_CAPACITY = 256;
+    /// Janela padrão das estatísticas, dois segundos a 60 fps
+    public static final int DEFAULT_WINDOW = 120;
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final PhaseTimings[] timings = new PhaseTimings[PHASES.length];
+    private final AtomicLongArray counters = new AtomicLongArray(Counter.values().length);
+
+    /// Buffer de ordenação das estatísticas, protegido pelo lock de computeStats
+    private final long[] scratch;
+
+    private volatile boolean enabled = true;
+
+    public FrameProfiler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public FrameProfiler(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacidade deve ser uma potência de dois");
+        }
+        for (int i = 0; i < timings.length; i++) {
+            timings[i] = new PhaseTimings(capacity);
+        }
+        this.scratch = new long[capacity];
+    }
+
+    /// Início de uma fase, retorna 0 quando o profiler está desligado
+    public long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /// Fim de uma fase iniciada por {@link #begin()}
+    public void end(Phase phase, long startNanos) {
+        if (startNanos == 0L) return;
+        timings[phase.ordinal()].record(System.nanoTime() - startNanos);
+    }
+
+    /// Registra uma duração medida por fora
+    public void record(Phase phase, long nanos) {
+        if (!enabled) return;
+        timings[phase.ordinal()].record(nanos);
+    }
+
+    public void setCounter(Counter counter, long value) {
+        counters.lazySet(counter.ordinal(), value);
+    }
+
+    public long getCounter(Counter counter) {
+        return counters.get(counter.ordinal());
+    }
+
+    /// Última duração registrada da fase
+    public long getLatest(Phase phase) {
+        return timings[phase.ordinal()].getLatest();
+    }
+
+    /**
+     * Calcula as estatísticas das amostras mais recentes de uma fase.
+     *
+     * @param phase  Fase desejada.
+     * @param window Quantidade máxima de amostras consideradas.
+     * @param out    Objeto que recebe o resultado, reaproveitável entre chamadas.
+     * @return O próprio objeto recebido
+     */
+    public synchronized PhaseStats computeStats(Phase phase, int window, PhaseStats out) {
+        int count = timings[phase.ordinal()].copyLatest(scratch, Math.min(window, scratch.length));
+        out.count = count;
+
+        if (count == 0) {
+            out.p50 = out.p95 = out.p99 = out.max = 0;
+            out.mean = 0;
+            return out;
+        }
+
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += scratch[i];
+        }
+        Arrays.sort(scratch, 0, count);
+
+        out.p50 = percentile(count, 0.50);
+        out.p95 = percentile(count, 0.95);
+        out.p99 = percentile(count, 0.99);
+        out.max = scratch[count - 1];
+        out.mean = (double) sum / count;
+        return out;
+    }
+
+    /// Percentil pelo método do posto mais próximo, sobre o scratch já ordenado
+    private long percentile(int count, double fraction) {
+        int rank = (int) Math.ceil(fraction * count);
+        return scratch[Math.max(0, Math.min(count - 1, rank - 1))];
+    }
+
+    /// Descarta todas as amostras e zera os contadores
+    public void clear() {
+        for (PhaseTimings timing : timings) {
+            timing.clear();
+        }
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /// Desligado, begin retorna 0 e nenhuma amostra é registrada
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,117 @@
+package official.sketchBook.engine.profiler_related;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+
+/**
+ * Texto de debug com as estatísticas do {@link FrameProfiler}, uma linha por fase e uma com os contadores.
+ * <p>
+ * As estatísticas são recalculadas apenas a cada {@code refreshInterval} segundos e o texto é montado
+ * em StringBuilders reaproveitados.
+ */
+public class FrameProfilerOverlay {
+
+    private static final float LINE_HEIGHT = 18f;
+
+    private final FrameProfiler profiler;
+    private final int window;
+    private final float refreshInterval;
+
+    private final PhaseStats stats = new PhaseStats();
+    private final StringBuilder[] lines;
+
+    private float refreshTimer;
+
+    public FrameProfilerOverlay(FrameProfiler profiler) {
+        this(profiler, FrameProfiler.DEFAULT_WINDOW, 0.25f);
+    }
+
+    /**
+     * @param profiler        Profiler lido pelo overlay.
+     * @param window          Quantidade de amostras consideradas nas estatísticas.
+     * @param refreshInterval Intervalo em segundos entre recálculos.
+     */
+    public FrameProfilerOverlay(FrameProfiler profiler, int window, float refreshInterval) {
+        this.profiler = profiler;
+        this.window = window;
+        this.refreshInterval = refreshInterval;
+
+        this.lines = new StringBuilder[FrameProfiler.Phase.values().length + 2];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = new StringBuilder(96);
+        }
+        this.refreshTimer = refreshInterval;
+    }
+
+    /// Recalcula o texto se o intervalo já passou
+    public void update(float delta) {
+        refreshTimer += delta;
+        if (refreshTimer < refreshInterval) return;
+        refreshTimer = 0;
+
+        StringBuilder header = lines[0];
+        header.setLength(0);
+        appendPadded(header, "phase", 15);
+        header.append("     p50     p95     p99     max  (ms, ").append(window).append(" amostras)");
+
+        FrameProfiler.Phase[] phases = FrameProfiler.Phase.values();
+        for (int i = 0; i < phases.length; i++) {
+            profiler.computeStats(phases[i], window, stats);
+
+            StringBuilder line = lines[i + 1];
+            line.setLength(0);
+            appendPadded(line, phases[i].getLabel(), 15);
+            appendMillis(line, stats.getP50());
+            appendMillis(line, stats.getP95());
+            appendMillis(line, stats.getP99());
+            appendMillis(line, stats.getMax());
+        }
+
+        StringBuilder counters = lines[lines.length - 1];
+        counters.setLength(0);
+        counters.append("draw calls ").append(profiler.getCounter(FrameProfiler.Counter.RENDER_CALLS))
+            .append(" (total ").append(profiler.getCounter(FrameProfiler.Counter.TOTAL_RENDER_CALLS)).append(")")
+            .append("  texture switches ").append(profiler.getCounter(FrameProfiler.Counter.TEXTURE_SWITCHES))
+            .append("  objects ").append(profiler.getCounter(FrameProfiler.Counter.GAME_OBJECTS))
+            .append("  renderables ").append(profiler.getCounter(FrameProfiler.Counter.VISIBLE_RENDERABLES))
+            .append('/').append(profiler.getCounter(FrameProfiler.Counter.RENDERABLES));
+    }
+
+    /**
+     * Desenha o overlay de cima para baixo a partir da posição informada.
+     *
+     * @param batch Batch da UI, já iniciado.
+     * @param font  Fonte usada no texto.
+     * @param x     Posição X do texto.
+     * @param topY  Posição Y da primeira linha.
+     */
+    public void draw(Batch batch, BitmapFont font, float x, float topY) {
+        for (int i = 0; i < lines.length; i++) {
+            font.draw(batch, lines[i], x, topY - i * LINE_HEIGHT);
+        }
+    }
+
+    private static void appendPadded(StringBuilder builder, String text, int width) {
+        builder.append(text);
+        for (int i = text.length(); i < width; i++) {
+            builder.append(' ');
+        }
+    }
+
+    /// Escreve a duração em ms com 3 casas, alinhada à direita em 8 colunas
+    private static void appendMillis(StringBuilder builder, long nanos) {
+        long micros = nanos / 1000;
+        long whole = micros / 1000;
+        long fraction = micros % 1000;
+
+        int digits = Long.toString(whole).length() + 4;
+        for (int i = digits; i < 8; i++) {
+            builder.append(' ');
+        }
+
+        builder.append(whole).append('.');
+        if (fraction < 100) builder.append('0');
+        if (fraction < 10) builder.append('0');
+        builder.append(fraction);
+    }
+}
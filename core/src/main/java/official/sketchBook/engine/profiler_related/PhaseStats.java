@@ -0,0 +1,34 @@
+package official.sketchBook.engine.profiler_related;
+
+/// Estatísticas de uma fase numa janela de amostras, em nanossegundos
+public class PhaseStats {
+
+    int count;
+    long p50, p95, p99, max;
+    double mean;
+
+    /// Quantidade de amostras na janela
+    public int getCount() {
+        return count;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP95() {
+        return p95;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+}
@@ -0,0 +1,55 @@
+package official.sketchBook.engine.profiler_related;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Buffer circular sem locks com as últimas durações de uma fase.
+ * <p>
+ * Tem um único escritor (a thread que executa a fase) e qualquer quantidade de leitores. Um leitor pode ver
+ * uma amostra sobrescrita se o escritor der a volta no buffer durante a cópia, o que é aceitável para estatísticas.
+ */
+final class PhaseTimings {
+
+    private final AtomicLongArray samples;
+    private final int mask;
+
+    /// Quantidade total de amostras escritas desde o último clear
+    private final AtomicLong written = new AtomicLong();
+
+    PhaseTimings(int capacity) {
+        this.samples = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /// Escreve uma amostra, chamado apenas pela thread dona da fase
+    void record(long nanos) {
+        long index = written.get();
+        samples.lazySet((int) (index & mask), nanos);
+        written.lazySet(index + 1);
+    }
+
+    /**
+     * Copia as amostras mais recentes, da mais antiga para a mais nova.
+     *
+     * @return Quantidade de amostras copiadas
+     */
+    int copyLatest(long[] out, int window) {
+        long end = written.get();
+        int count = (int) Math.min(Math.min(window, end), samples.length());
+
+        for (int i = 0; i < count; i++) {
+            out[i] = samples.get((int) ((end - count + i) & mask));
+        }
+        return count;
+    }
+
+    long getLatest() {
+        long end = written.get();
+        return end == 0 ? 0 : samples.get((int) ((end - 1) & mask));
+    }
+
+    void clear() {
+        written.set(0);
+    }
+}
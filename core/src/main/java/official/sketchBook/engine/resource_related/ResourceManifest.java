@@ -0,0 +1,62 @@
+package official.sketchBook.engine.resource_related;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lista dos recursos que uma screen precisa, adquiridos juntos no {@link ResourceRegistry}.
+ * <p>
+ * Adquirir o manifesto da próxima screen antes de trocar permite carregar tudo em segundo plano enquanto a
+ * screen atual continua rodando.
+ */
+public class ResourceManifest {
+
+    /// Manifesto sem recursos
+    public static final ResourceManifest EMPTY = new ResourceManifest();
+
+    /// Um recurso do manifesto
+    public static final class Entry {
+        private final String path;
+        private final Class<?> type;
+
+        private Entry(String path, Class<?> type) {
+            this.path = path;
+            this.type = type;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /// Adiciona um recurso, retornando o próprio manifesto para encadear
+    public ResourceManifest add(String path, Class<?> type) {
+        if (this == EMPTY) {
+            throw new IllegalStateException("O manifesto vazio compartilhado não pode receber recursos");
+        }
+        if (path == null || type == null) {
+            throw new IllegalArgumentException("Caminho e tipo do recurso não podem ser null");
+        }
+        entries.add(new Entry(path, type));
+        return this;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+}
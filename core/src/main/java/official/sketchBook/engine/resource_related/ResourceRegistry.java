@@ -0,0 +1,169 @@
+package official.sketchBook.engine.resource_related;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import official.sketchBook.engine.util_related.texture.SpriteSheetAtlas;
+import official.sketchBook.engine.util_related.texture.SpriteSheetAtlasLoader;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registro central dos recursos do jogo (texturas, atlas, sons...), com contagem de referências.
+ * <p>
+ * Os recursos são carregados pelo {@link AssetManager}: leitura e decodificação numa thread de segundo plano e
+ * upload para a GPU na thread do libGDX, em fatias de tempo a cada {@link #update(int)}. Cada
+ * {@link #acquire(String, Class)} soma uma referência e cada {@link #release(String)} tira uma, quando a contagem
+ * chega a zero o recurso é descarregado na hora.
+ * <p>
+ * As screens declaram um {@link ResourceManifest}, adquirido antes da troca de screen e liberado depois dela,
+ * então recursos compartilhados entre as duas nunca são descarregados e recarregados.
+ * <p>
+ * Deve ser usado apenas na thread do libGDX.
+ */
+public class ResourceRegistry implements Disposable {
+
+    /**
+     * Resolve caminhos do armazenamento local para arquivos gerados em tempo de execução (ex.: o cache do atlas)
+     * e caminhos internos para o resto.
+     */
+    public static class ResourceFileResolver implements FileHandleResolver {
+        @Override
+        public FileHandle resolve(String fileName) {
+            if (fileName.startsWith(SpriteSheetAtlas.CACHE_DIR)) {
+                return Gdx.files.local(fileName);
+            }
+            return Gdx.files.internal(fileName);
+        }
+    }
+
+    private static final String LOG_TAG = "ResourceRegistry";
+
+    private final AssetManager assetManager;
+
+    /// Referências de cada recurso adquirido, recursos sem referência não ficam no mapa
+    private final Map<String, Integer> referenceCounts = new HashMap<>();
+
+    private boolean disposed = false;
+
+    public ResourceRegistry() {
+        this(new ResourceFileResolver());
+    }
+
+    public ResourceRegistry(FileHandleResolver resolver) {
+        this.assetManager = new AssetManager(resolver);
+        this.assetManager.setLoader(SpriteSheetAtlas.class, new SpriteSheetAtlasLoader(resolver));
+    }
+
+    /// Soma uma referência ao recurso, agendando o carregamento na primeira
+    public void acquire(String path, Class<?> type) {
+        Integer count = referenceCounts.get(path);
+        if (count == null) {
+            assetManager.load(path, type);
+            referenceCounts.put(path, 1);
+        } else {
+            referenceCounts.put(path, count + 1);
+        }
+    }
+
+    /// Adquire todos os recursos do manifesto
+    public void acquire(ResourceManifest manifest) {
+        for (ResourceManifest.Entry entry : manifest.getEntries()) {
+            acquire(entry.getPath(), entry.getType());
+        }
+    }
+
+    /// Tira uma referência do recurso, descarregando-o quando não sobra nenhuma
+    public void release(String path) {
+        Integer count = referenceCounts.get(path);
+        if (count == null) {
+            throw new IllegalStateException("Recurso liberado sem ter sido adquirido: " + path);
+        }
+
+        if (count > 1) {
+            referenceCounts.put(path, count - 1);
+            return;
+        }
+
+        referenceCounts.remove(path);
+        assetManager.unload(path);
+    }
+
+    /// Libera todos os recursos do manifesto
+    public void release(ResourceManifest manifest) {
+        for (ResourceManifest.Entry entry : manifest.getEntries()) {
+            release(entry.getPath());
+        }
+    }
+
+    /**
+     * Avança o carregamento, chamado uma vez por frame.
+     *
+     * @param budgetMillis Tempo máximo gasto na thread do libGDX com uploads e criação de recursos.
+     * @return true se não houver nada carregando
+     */
+    public boolean update(int budgetMillis) {
+        return assetManager.update(budgetMillis);
+    }
+
+    /**
+     * Recurso carregado. Se ele ainda estiver na fila, termina o carregamento dele na hora, o que trava o frame.
+     *
+     * @throws IllegalStateException Se o recurso não tiver sido adquirido.
+     */
+    public <T> T get(String path, Class<T> type) {
+        if (!referenceCounts.containsKey(path)) {
+            throw new IllegalStateException("Recurso usado sem ter sido adquirido: " + path);
+        }
+
+        if (!assetManager.isLoaded(path)) {
+            Gdx.app.error(LOG_TAG, "Recurso " + path + " ainda não carregado, terminando de forma síncrona");
+            assetManager.finishLoadingAsset(path);
+        }
+        return assetManager.get(path, type);
+    }
+
+    public boolean isLoaded(String path) {
+        return assetManager.isLoaded(path);
+    }
+
+    /// Se todos os recursos do manifesto já podem ser usados sem travar
+    public boolean isLoaded(ResourceManifest manifest) {
+        for (ResourceManifest.Entry entry : manifest.getEntries()) {
+            if (!assetManager.isLoaded(entry.getPath())) return false;
+        }
+        return true;
+    }
+
+    public int getReferenceCount(String path) {
+        Integer count = referenceCounts.get(path);
+        return count == null ? 0 : count;
+    }
+
+    /// Progresso do carregamento de tudo que está na fila, de 0 a 1
+    public float getProgress() {
+        return assetManager.getProgress();
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+
+        if (!referenceCounts.isEmpty()) {
+            Gdx.app.error(
+                LOG_TAG,
+                "Descartado com " + referenceCounts.size() + " recursos ainda adquiridos: " + referenceCounts.keySet()
+            );
+        }
+        referenceCounts.clear();
+        assetManager.dispose();
+        disposed = true;
+    }
+
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
@@ -7,6 +7,8 @@ import official.sketchBook.engine.AppMain;
 import official.sketchBook.engine.camera_related.OrthographicCameraManager;
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.RenderSystem;
 import official.sketchBook.engine.components_related.intefaces.base_interfaces.UpdateSystem;
+import official.sketchBook.engine.profiler_related.FrameProfiler;
+import official.sketchBook.engine.resource_related.ResourceManifest;
 
 import static official.sketchBook.game.util_related.constants.RenderingC.FPS_TARGET;
 
@@ -25,6 +27,9 @@ public abstract class BaseScreen implements Screen {
     protected UpdateSystem updateSystem;
     protected RenderSystem renderSystem;
 
+    /// Tempo de cada fase do frame, compartilhado com os sistemas e o manager da screen
+    protected final FrameProfiler profiler = new FrameProfiler();
+
     public BaseScreen(AppMain app) {
         this.app = app;
 
@@ -62,13 +67,22 @@ public abstract class BaseScreen implements Screen {
     /// Organiza o gameLoop de um modo funcional e granular
     @Override
     public void render(float delta) {
+        long frameStart = profiler.begin();
+
+        long phaseStart = profiler.begin();
         updateSystem.update(delta);         //Atualização
+        profiler.end(FrameProfiler.Phase.UPDATE, phaseStart);
+
+        phaseStart = profiler.begin();
         updateSystem.postUpdate();          //pós-atualização
+        profiler.end(FrameProfiler.Phase.POST_UPDATE, phaseStart);
 
         updateMetrics(delta);               //Atualiza as métricas para visualização
 
+        renderSystem.setInterpolationAlpha(updateSystem.getInterpolationAlpha());
         renderSystem.render(delta);         //Renderiza tudo
 
+        profiler.end(FrameProfiler.Phase.FRAME, frameStart);
     }
 
     /// Atualiza a contagem de fps e ups a cada segundo
@@ -91,6 +105,15 @@ public abstract class BaseScreen implements Screen {
         this.renderSystem = renderSystem;
     }
 
+    /// Recursos que precisam estar carregados enquanto a screen é mostrada, adquiridos pelo AppMain na troca de screen
+    public ResourceManifest getResourceManifest() {
+        return ResourceManifest.EMPTY;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
     public int getFps() {
         return fps;
     }
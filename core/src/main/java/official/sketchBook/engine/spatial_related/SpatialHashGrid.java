@@ -0,0 +1,256 @@
+package official.sketchBook.engine.spatial_related;
+
+import java.util.Arrays;
+
+/**
+ * Índice espacial de fase ampla baseado numa grade uniforme com hash.
+ * <p>
+ * Os itens são retângulos alinhados aos eixos identificados pela ordem de inserção (0, 1, 2...).
+ * O uso esperado é reconstruir o índice uma vez por frame:
+ * <ol>
+ *     <li>{@link #clear()}</li>
+ *     <li>{@link #add(float, float, float, float)} para cada item</li>
+ *     <li>{@link #build()}</li>
+ *     <li>{@link #query(float, float, float, float)} quantas vezes for necessário</li>
+ * </ol>
+ * A construção usa counting sort sobre arrays primitivos, então não aloca depois que
+ * os arrays internos atingem o tamanho de trabalho.
+ */
+public class SpatialHashGrid {
+
+    /// Itens que ocupam mais células do que isso vão para a lista de itens grandes
+    private static final int MAX_CELLS_PER_ITEM = 64;
+
+    /// Tamanho de cada célula em unidades do mundo
+    private final float cellSize;
+    private final float inverseCellSize;
+
+    /// Quantidade de itens inseridos desde o último clear
+    private int itemCount;
+
+    /// Limites de cada item
+    private float[] minX = new float[64], minY = new float[64], maxX = new float[64], maxY = new float[64];
+
+    /// Tabela de buckets: bucketStart[b] até bucketStart[b + 1] em cellEntries
+    private int[] bucketStart = new int[1];
+    private int tableMask;
+
+    /// Índices dos itens ordenados por bucket
+    private int[] cellEntries = new int[64];
+
+    /// Itens grandes demais para a grade, sempre testados na consulta
+    private int[] oversizedItems = new int[16];
+    private int oversizedCount;
+
+    /// Marcação para não repetir itens que caem em mais de uma célula
+    private int[] queryStamp = new int[64];
+    private int currentStamp;
+
+    /// Resultado da última consulta, em ordem crescente de índice
+    private int[] queryResult = new int[64];
+    private int queryResultCount;
+
+    public SpatialHashGrid(float cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Tamanho da célula deve ser maior que 0");
+        }
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+    }
+
+    /// Remove todos os itens, mantendo os arrays alocados
+    public void clear() {
+        itemCount = 0;
+        oversizedCount = 0;
+        queryResultCount = 0;
+    }
+
+    /**
+     * Insere um retângulo no índice.
+     *
+     * @return Índice do item, igual à quantidade de itens inseridos antes dele
+     */
+    public int add(float x, float y, float width, float height) {
+        if (itemCount == minX.length) {
+            int newSize = itemCount * 2;
+            minX = Arrays.copyOf(minX, newSize);
+            minY = Arrays.copyOf(minY, newSize);
+            maxX = Arrays.copyOf(maxX, newSize);
+            maxY = Arrays.copyOf(maxY, newSize);
+            queryStamp = Arrays.copyOf(queryStamp, newSize);
+        }
+
+        minX[itemCount] = Math.min(x, x + width);
+        minY[itemCount] = Math.min(y, y + height);
+        maxX[itemCount] = Math.max(x, x + width);
+        maxY[itemCount] = Math.max(y, y + height);
+
+        return itemCount++;
+    }
+
+    /// Distribui os itens inseridos pelos buckets da tabela
+    public void build() {
+        ensureTableSize();
+
+        Arrays.fill(bucketStart, 0);
+        oversizedCount = 0;
+
+        // Primeira passada: conta quantas entradas cada bucket recebe
+        int totalEntries = 0;
+        for (int i = 0; i < itemCount; i++) {
+            int x0 = cellOf(minX[i]), x1 = cellOf(maxX[i]);
+            int y0 = cellOf(minY[i]), y1 = cellOf(maxY[i]);
+
+            if (((long) x1 - x0 + 1) * ((long) y1 - y0 + 1) > MAX_CELLS_PER_ITEM) {
+                addOversized(i);
+                continue;
+            }
+
+            for (int cy = y0; cy <= y1; cy++) {
+                for (int cx = x0; cx <= x1; cx++) {
+                    bucketStart[hash(cx, cy) + 1]++;
+                    totalEntries++;
+                }
+            }
+        }
+
+        // Soma de prefixos transforma as contagens em posições iniciais
+        for (int b = 1; b < bucketStart.length; b++) {
+            bucketStart[b] += bucketStart[b - 1];
+        }
+
+        if (cellEntries.length < totalEntries) {
+            cellEntries = new int[Math.max(totalEntries, cellEntries.length * 2)];
+        }
+
+        // Segunda passada: preenche as entradas, usando queryResult como cursor temporário
+        int tableSize = tableMask + 1;
+        if (queryResult.length < tableSize) {
+            queryResult = new int[tableSize];
+        }
+        System.arraycopy(bucketStart, 0, queryResult, 0, tableSize);
+
+        for (int i = 0; i < itemCount; i++) {
+            int x0 = cellOf(minX[i]), x1 = cellOf(maxX[i]);
+            int y0 = cellOf(minY[i]), y1 = cellOf(maxY[i]);
+
+            if (((long) x1 - x0 + 1) * ((long) y1 - y0 + 1) > MAX_CELLS_PER_ITEM) {
+                continue;
+            }
+
+            for (int cy = y0; cy <= y1; cy++) {
+                for (int cx = x0; cx <= x1; cx++) {
+                    cellEntries[queryResult[hash(cx, cy)]++] = i;
+                }
+            }
+        }
+
+        queryResultCount = 0;
+    }
+
+    /**
+     * Consulta os itens que intersectam a área informada.
+     * O resultado fica disponível em {@link #getQueryResult()} em ordem crescente de índice,
+     * ou seja, na mesma ordem em que os itens foram inseridos.
+     *
+     * @return Quantidade de itens encontrados
+     */
+    public int query(float left, float bottom, float right, float top) {
+        queryResultCount = 0;
+        nextStamp();
+
+        int x0 = cellOf(left), x1 = cellOf(right);
+        int y0 = cellOf(bottom), y1 = cellOf(top);
+
+        // Se a área cobre mais células do que a tabela tem, basta percorrer a tabela inteira uma vez
+        boolean scanWholeTable = ((long) x1 - x0 + 1) * ((long) y1 - y0 + 1) > tableMask + 1;
+
+        if (scanWholeTable) {
+            for (int b = 0; b <= tableMask; b++) {
+                collectBucket(b, left, bottom, right, top);
+            }
+        } else {
+            for (int cy = y0; cy <= y1; cy++) {
+                for (int cx = x0; cx <= x1; cx++) {
+                    collectBucket(hash(cx, cy), left, bottom, right, top);
+                }
+            }
+        }
+
+        for (int i = 0; i < oversizedCount; i++) {
+            collect(oversizedItems[i], left, bottom, right, top);
+        }
+
+        Arrays.sort(queryResult, 0, queryResultCount);
+        return queryResultCount;
+    }
+
+    private void collectBucket(int bucket, float left, float bottom, float right, float top) {
+        for (int e = bucketStart[bucket]; e < bucketStart[bucket + 1]; e++) {
+            collect(cellEntries[e], left, bottom, right, top);
+        }
+    }
+
+    /// Testa o item contra a área e o adiciona ao resultado uma única vez
+    private void collect(int item, float left, float bottom, float right, float top) {
+        if (queryStamp[item] == currentStamp) return;
+        queryStamp[item] = currentStamp;
+
+        if (maxX[item] < left || minX[item] > right || maxY[item] < bottom || minY[item] > top) return;
+
+        if (queryResultCount == queryResult.length) {
+            queryResult = Arrays.copyOf(queryResult, queryResultCount * 2);
+        }
+        queryResult[queryResultCount++] = item;
+    }
+
+    private void addOversized(int item) {
+        if (oversizedCount == oversizedItems.length) {
+            oversizedItems = Arrays.copyOf(oversizedItems, oversizedCount * 2);
+        }
+        oversizedItems[oversizedCount++] = item;
+    }
+
+    /// Avança a marcação de consulta, limpando as marcas quando o contador dá a volta
+    private void nextStamp() {
+        currentStamp++;
+        if (currentStamp == 0) {
+            Arrays.fill(queryStamp, 0);
+            currentStamp = 1;
+        }
+    }
+
+    /// Mantém a tabela com pelo menos dois buckets por item, em potência de dois (só cresce)
+    private void ensureTableSize() {
+        int wanted = Integer.highestOneBit(Math.max(16, itemCount * 2) - 1) << 1;
+        if (wanted > tableMask + 1) {
+            bucketStart = new int[wanted + 1];
+            tableMask = wanted - 1;
+        }
+    }
+
+    private int cellOf(float value) {
+        return (int) Math.floor(value * inverseCellSize);
+    }
+
+    private int hash(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & tableMask;
+    }
+
+    /// Índices encontrados pela última consulta, válidos até a quantidade retornada por ela
+    public int[] getQueryResult() {
+        return queryResult;
+    }
+
+    public int getQueryResultCount() {
+        return queryResultCount;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+}
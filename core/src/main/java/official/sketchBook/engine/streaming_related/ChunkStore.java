@@ -0,0 +1,24 @@
+package official.sketchBook.engine.streaming_related;
+
+import java.io.IOException;
+
+/**
+ * Armazenamento dos chunks estacionados, acessado apenas pela thread de I/O do {@link ChunkStreamer}.
+ * <p>
+ * O conteúdo de um chunk é uma sequência de registros concatenados, então anexar registros a um chunk já
+ * estacionado é só concatenar bytes.
+ */
+public interface ChunkStore {
+
+    /// Conteúdo do chunk, null se não houver nada guardado
+    byte[] read(long key) throws IOException;
+
+    /// Substitui o conteúdo do chunk, um conteúdo vazio apaga o chunk
+    void write(long key, byte[] data) throws IOException;
+
+    /// Adiciona registros ao fim do conteúdo do chunk
+    void append(long key, byte[] data) throws IOException;
+
+    /// Apaga todos os chunks guardados
+    void clear() throws IOException;
+}
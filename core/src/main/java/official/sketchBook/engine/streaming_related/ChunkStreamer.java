@@ -0,0 +1,529 @@
+package official.sketchBook.engine.streaming_related;
+
+import com.badlogic.gdx.Gdx;
+import official.sketchBook.engine.camera_related.OrthographicCameraManager;
+import official.sketchBook.engine.components_related.intefaces.integration_interfaces.Streamable;
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Divide o mundo em chunks quadrados e mantém vivos apenas os objetos {@link Streamable} dos chunks perto da câmera.
+ * <p>
+ * Chunks a mais de {@code loadRadius + 1} chunks da câmera são estacionados: os objetos deles são serializados,
+ * descartados do manager e guardados num {@link ChunkStore}. Quando a câmera se aproxima de novo, o chunk é lido e
+ * decodificado numa thread de I/O e os objetos são recriados pelas {@link StreamableFactory} na thread do manager,
+ * no máximo {@code activationBudget} por atualização, para que um chunk cheio não trave o passo.
+ * <p>
+ * A thread de I/O executa leituras e escritas em ordem, então um chunk estacionado e logo depois pedido de volta
+ * sempre é lido depois de escrito.
+ * <p>
+ * O streamer é atualizado pelo manager no começo de cada atualização, ver
+ * {@link BaseWorldDataManager#setChunkStreamer(ChunkStreamer)}. Um nível pode ser montado inteiro e a primeira
+ * atualização estaciona o que estiver longe.
+ */
+public class ChunkStreamer {
+
+    private static final String LOG_TAG = "ChunkStreamer";
+
+    /// A cada quantas atualizações os objetos vivos são verificados, mesmo sem a câmera trocar de chunk
+    private static final int STRAY_SCAN_INTERVAL = 30;
+    /// Tentativas de cada escrita no store antes de dar os objetos dela como perdidos
+    private static final int WRITE_ATTEMPTS = 3;
+
+    private enum ChunkState {
+        /// Lido pela thread de I/O, esperando o resultado
+        LOADING,
+        /// Lido, com objetos ainda esperando para serem recriados
+        ACTIVATING,
+        /// Todos os objetos do chunk estão vivos
+        ACTIVE
+    }
+
+    /// Chunk perto da câmera, os chunks estacionados não têm entrada
+    private static final class Chunk {
+        private final long key;
+        private ChunkState state;
+        /// Identifica a leitura atual, resultados de leituras canceladas são ignorados
+        private int loadRequest;
+        /// Registros lidos que ainda não viraram objetos
+        private final ArrayDeque<Record> pending = new ArrayDeque<>();
+
+        private Chunk(long key) {
+            this.key = key;
+        }
+    }
+
+    /// Um objeto serializado
+    private static final class Record {
+        private final String typeId;
+        private final byte[] state;
+
+        private Record(String typeId, byte[] state) {
+            this.typeId = typeId;
+            this.state = state;
+        }
+    }
+
+    /// Resultado de uma leitura da thread de I/O
+    private static final class LoadResult {
+        private final long key;
+        private final int loadRequest;
+        private final List<Record> records;
+        private final IOException error;
+
+        private LoadResult(long key, int loadRequest, List<Record> records, IOException error) {
+            this.key = key;
+            this.loadRequest = loadRequest;
+            this.records = records;
+            this.error = error;
+        }
+    }
+
+    private final BaseWorldDataManager manager;
+    private final OrthographicCameraManager focusCamera;
+    private final ChunkStore store;
+
+    private final float chunkSizePx;
+    private final int loadRadius;
+    private final int unloadRadius;
+    private final int activationBudget;
+
+    private final Map<String, StreamableFactory> factories = new HashMap<>();
+
+    /// Chunks perto da câmera
+    private final Map<Long, Chunk> chunks = new HashMap<>();
+    /// Chunks com conteúdo guardado no store, mantido pela thread do manager
+    private final Set<Long> storedChunks = new HashSet<>();
+    /// Chunks com objetos esperando para serem recriados, em ordem de chegada
+    private final ArrayDeque<Chunk> activationQueue = new ArrayDeque<>();
+
+    private final ExecutorService ioExecutor;
+    private final ConcurrentLinkedQueue<LoadResult> loadResults = new ConcurrentLinkedQueue<>();
+
+    /// Objetos dos chunks sendo estacionados na atualização atual, reaproveitado
+    private final Map<Long, ByteArrayOutputStream> parkBuffers = new HashMap<>();
+    private final List<Long> chunksToPark = new ArrayList<>();
+
+    private long focusChunk;
+    private boolean hasFocus = false;
+    private int updatesSinceScan = 0;
+    private int nextLoadRequest = 0;
+
+    private int parkedObjects;
+    private int activatedObjects;
+    /// Objetos que saíram do manager e não voltarão: escritas que falharam em todas as tentativas e restaurações
+    /// que falharam. Atualizado também pela thread de I/O
+    private final AtomicInteger lostObjects = new AtomicInteger();
+
+    private boolean disposed = false;
+
+    /**
+     * @param manager          Manager cujos objetos são estacionados e recriados.
+     * @param focusCamera      Câmera cujo centro define os chunks ativos, em pixels.
+     * @param store            Onde os chunks estacionados são guardados.
+     * @param chunkSizePx      Lado de cada chunk em pixels, idealmente múltiplo do tamanho da tile.
+     * @param loadRadius       Distância em chunks, em cada eixo, até a qual os chunks ficam ativos.
+     * @param activationBudget Quantidade máxima de objetos recriados por atualização.
+     */
+    public ChunkStreamer(
+        BaseWorldDataManager manager,
+        OrthographicCameraManager focusCamera,
+        ChunkStore store,
+        float chunkSizePx,
+        int loadRadius,
+        int activationBudget
+    ) {
+        if (chunkSizePx <= 0) {
+            throw new IllegalArgumentException("O tamanho do chunk deve ser positivo: " + chunkSizePx);
+        }
+        if (loadRadius < 0) {
+            throw new IllegalArgumentException("O raio de carregamento não pode ser negativo: " + loadRadius);
+        }
+        if (activationBudget < 1) {
+            throw new IllegalArgumentException("O orçamento de ativação deve ser ao menos 1: " + activationBudget);
+        }
+
+        this.manager = manager;
+        this.focusCamera = focusCamera;
+        this.store = store;
+        this.chunkSizePx = chunkSizePx;
+        this.loadRadius = loadRadius;
+        // Um chunk de folga evita estacionar e recarregar quando a câmera fica na borda entre dois chunks
+        this.unloadRadius = loadRadius + 1;
+        this.activationBudget = activationBudget;
+
+        this.ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chunk-streamer-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /// Registra a factory que recria os objetos com o id informado
+    public void registerFactory(String typeId, StreamableFactory factory) {
+        if (factories.containsKey(typeId)) {
+            throw new IllegalStateException("Já existe uma factory para " + typeId);
+        }
+        factories.put(typeId, factory);
+    }
+
+    /// Atualiza os chunks ativos em volta da câmera, deve rodar na thread do manager
+    public void update() {
+        if (disposed) return;
+
+        long currentChunk = chunkKey(
+            chunkCoord(focusCamera.getCamera().position.x),
+            chunkCoord(focusCamera.getCamera().position.y)
+        );
+        boolean focusChanged = !hasFocus || currentChunk != focusChunk;
+        focusChunk = currentChunk;
+        hasFocus = true;
+
+        updatesSinceScan++;
+        if (focusChanged || updatesSinceScan >= STRAY_SCAN_INTERVAL) {
+            updatesSinceScan = 0;
+            parkDistantObjects();
+        }
+        if (focusChanged) {
+            requestNearbyChunks();
+        }
+
+        receiveLoadResults();
+        activatePending();
+    }
+
+    /**
+     * Estaciona os chunks que ficaram longe e os objetos vivos que andaram para fora da área ativa.
+     * Os objetos viram registros agrupados por chunk e são escritos numa única tarefa de I/O por chunk.
+     */
+    private void parkDistantObjects() {
+        chunksToPark.clear();
+        for (Chunk chunk : chunks.values()) {
+            if (distanceToFocus(chunk.key) > unloadRadius) {
+                chunksToPark.add(chunk.key);
+            }
+        }
+
+        List<BaseGameObject> objects = manager.getGameObjectList();
+        for (int i = 0; i < objects.size(); i++) {
+            BaseGameObject object = objects.get(i);
+            if (!(object instanceof Streamable) || object.isPendingRemoval()) continue;
+
+            Streamable streamable = (Streamable) object;
+            long key = chunkKey(chunkCoord(streamable.getStreamX()), chunkCoord(streamable.getStreamY()));
+            if (distanceToFocus(key) <= unloadRadius) continue;
+
+            try {
+                writeRecord(parkBuffer(key), streamable.getStreamTypeId(), streamable);
+            } catch (IOException e) {
+                // Escrita em memória, só falha se o próprio objeto falhar ao se serializar; ele continua vivo
+                Gdx.app.error(LOG_TAG, "Não foi possível estacionar " + object.getClass().getSimpleName(), e);
+                continue;
+            }
+            manager.parkGameObject(object);
+            parkedObjects++;
+        }
+
+        for (int i = 0; i < chunksToPark.size(); i++) {
+            Chunk chunk = chunks.remove(chunksToPark.get(i));
+            activationQueue.remove(chunk);
+
+            if (chunk.state == ChunkState.LOADING) continue;        //O store ainda tem o conteúdo, a leitura é ignorada
+
+            // O conteúdo guardado é substituído pelos objetos vivos mais os que ainda não tinham sido recriados
+            ByteArrayOutputStream buffer = parkBuffer(chunk.key);
+            try {
+                for (Record record : chunk.pending) {
+                    writeRecord(buffer, record);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Falha ao copiar registros em memória", e);
+            }
+            chunk.pending.clear();
+            submitWrite(chunk.key, buffer.toByteArray(), false);
+            parkBuffers.remove(chunk.key);
+        }
+
+        // Sobram objetos em chunks já estacionados ou ainda sendo lidos, que são anexados ao conteúdo guardado
+        for (Map.Entry<Long, ByteArrayOutputStream> entry : parkBuffers.entrySet()) {
+            submitWrite(entry.getKey(), entry.getValue().toByteArray(), true);
+        }
+        parkBuffers.clear();
+    }
+
+    /// Cria as entradas dos chunks que entraram na área ativa, pedindo a leitura dos que têm conteúdo guardado
+    private void requestNearbyChunks() {
+        int focusX = chunkX(focusChunk);
+        int focusY = chunkY(focusChunk);
+
+        for (int y = focusY - loadRadius; y <= focusY + loadRadius; y++) {
+            for (int x = focusX - loadRadius; x <= focusX + loadRadius; x++) {
+                long key = chunkKey(x, y);
+                if (chunks.containsKey(key)) continue;
+
+                Chunk chunk = new Chunk(key);
+                chunks.put(key, chunk);
+
+                if (!storedChunks.contains(key)) {
+                    chunk.state = ChunkState.ACTIVE;
+                    continue;
+                }
+
+                chunk.state = ChunkState.LOADING;
+                chunk.loadRequest = ++nextLoadRequest;
+                submitRead(key, chunk.loadRequest);
+            }
+        }
+    }
+
+    /// Move os resultados da thread de I/O para a fila de ativação
+    private void receiveLoadResults() {
+        LoadResult result;
+        while ((result = loadResults.poll()) != null) {
+            Chunk chunk = chunks.get(result.key);
+            if (chunk == null || chunk.state != ChunkState.LOADING || chunk.loadRequest != result.loadRequest) {
+                continue;                                   //O chunk foi estacionado de novo antes da leitura terminar
+            }
+
+            if (result.error != null) {
+                // O chunk continua estacionado e será pedido de novo na próxima troca de chunk da câmera
+                Gdx.app.error(LOG_TAG, "Não foi possível ler o chunk " + describe(result.key), result.error);
+                chunks.remove(result.key);
+                continue;
+            }
+
+            chunk.pending.addAll(result.records);
+            chunk.state = ChunkState.ACTIVATING;
+            activationQueue.add(chunk);
+        }
+    }
+
+    /// Recria objetos dos chunks lidos, respeitando o orçamento da atualização
+    private void activatePending() {
+        int budget = activationBudget;
+
+        while (budget > 0 && !activationQueue.isEmpty()) {
+            Chunk chunk = activationQueue.peek();
+            Record record = chunk.pending.poll();
+
+            if (record == null) {
+                chunk.state = ChunkState.ACTIVE;
+                activationQueue.poll();
+                continue;
+            }
+
+            StreamableFactory factory = factories.get(record.typeId);
+            if (factory == null) {
+                throw new IllegalStateException("Nenhuma factory registrada para " + record.typeId);
+            }
+
+            try {
+                factory.restore(manager, new DataInputStream(new ByteArrayInputStream(record.state)));
+            } catch (IOException | RuntimeException e) {
+                // Uma factory que falha perde só o objeto, os demais do chunk continuam sendo recriados
+                lostObjects.incrementAndGet();
+                Gdx.app.error(LOG_TAG, "Objeto " + record.typeId + " do chunk " + describe(chunk.key) + " perdido ao ser recriado", e);
+            }
+            activatedObjects++;
+            budget--;
+        }
+    }
+
+    private void submitRead(long key, int loadRequest) {
+        ioExecutor.execute(() -> {
+            try {
+                byte[] data = store.read(key);
+                loadResults.add(new LoadResult(key, loadRequest, decode(data), null));
+            } catch (IOException e) {
+                loadResults.add(new LoadResult(key, loadRequest, null, e));
+            }
+        });
+    }
+
+    private void submitWrite(long key, byte[] data, boolean append) {
+        if (append) {
+            if (data.length == 0) return;
+            storedChunks.add(key);
+        } else if (data.length == 0) {
+            storedChunks.remove(key);
+        } else {
+            storedChunks.add(key);
+        }
+
+        ioExecutor.execute(() -> writeToStore(key, data, append));
+    }
+
+    /// Escreve no store, roda na thread de I/O. As novas tentativas acontecem antes da próxima tarefa da fila,
+    /// então a ordem das escritas e leituras de cada chunk se mantém
+    private void writeToStore(long key, byte[] data, boolean append) {
+        IOException failure = null;
+        for (int attempt = 0; attempt < WRITE_ATTEMPTS; attempt++) {
+            try {
+                if (append) {
+                    store.append(key, data);
+                } else {
+                    store.write(key, data);
+                }
+                return;
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        // Os objetos já saíram do manager, sem a escrita não há de onde recriá-los
+        int lost = countRecords(data);
+        lostObjects.addAndGet(lost);
+        Gdx.app.error(
+            LOG_TAG,
+            lost + " objetos do chunk " + describe(key) + " perdidos ao estacionar, após " + WRITE_ATTEMPTS + " tentativas",
+            failure
+        );
+    }
+
+    /// Quantidade de registros de um conteúdo, ao menos 1 se ele não puder ser lido
+    private static int countRecords(byte[] data) {
+        try {
+            return decode(data).size();
+        } catch (IOException e) {
+            return data.length > 0 ? 1 : 0;
+        }
+    }
+
+    private ByteArrayOutputStream parkBuffer(long key) {
+        ByteArrayOutputStream buffer = parkBuffers.get(key);
+        if (buffer == null) {
+            buffer = new ByteArrayOutputStream();
+            parkBuffers.put(key, buffer);
+        }
+        return buffer;
+    }
+
+    /// Registro: id da factory, tamanho do estado e o estado
+    private static void writeRecord(ByteArrayOutputStream buffer, String typeId, Streamable streamable) throws IOException {
+        ByteArrayOutputStream state = new ByteArrayOutputStream();
+        streamable.writeStreamState(new DataOutputStream(state));
+        writeRecord(buffer, new Record(typeId, state.toByteArray()));
+    }
+
+    private static void writeRecord(ByteArrayOutputStream buffer, Record record) throws IOException {
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeUTF(record.typeId);
+        out.writeInt(record.state.length);
+        out.write(record.state);
+        out.flush();
+    }
+
+    /// Separa os registros concatenados de um chunk, roda na thread de I/O
+    private static List<Record> decode(byte[] data) throws IOException {
+        List<Record> records = new ArrayList<>();
+        if (data == null) return records;
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        while (in.available() > 0) {
+            String typeId = in.readUTF();
+            byte[] state = new byte[in.readInt()];
+            in.readFully(state);
+            records.add(new Record(typeId, state));
+        }
+        return records;
+    }
+
+    private int chunkCoord(float positionPx) {
+        return (int) Math.floor(positionPx / chunkSizePx);
+    }
+
+    /// Distância em chunks até a câmera, no eixo mais distante
+    private int distanceToFocus(long key) {
+        return Math.max(
+            Math.abs(chunkX(key) - chunkX(focusChunk)),
+            Math.abs(chunkY(key) - chunkY(focusChunk))
+        );
+    }
+
+    public static long chunkKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int chunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int chunkY(long key) {
+        return (int) key;
+    }
+
+    private static String describe(long key) {
+        return "(" + chunkX(key) + ", " + chunkY(key) + ")";
+    }
+
+    /// Quantidade de chunks perto da câmera, incluindo os que ainda estão sendo lidos
+    public int getNearbyChunkCount() {
+        return chunks.size();
+    }
+
+    /// Quantidade de chunks com conteúdo estacionado
+    public int getStoredChunkCount() {
+        return storedChunks.size();
+    }
+
+    /// Objetos lidos esperando o orçamento para serem recriados
+    public int getPendingActivationCount() {
+        int count = 0;
+        for (Chunk chunk : activationQueue) {
+            count += chunk.pending.size();
+        }
+        return count;
+    }
+
+    public int getParkedObjects() {
+        return parkedObjects;
+    }
+
+    public int getActivatedObjects() {
+        return activatedObjects;
+    }
+
+    /// Objetos estacionados que não puderam ser guardados ou recriados, qualquer valor acima de 0 é perda de dados
+    public int getLostObjects() {
+        return lostObjects.get();
+    }
+
+    public float getChunkSizePx() {
+        return chunkSizePx;
+    }
+
+    /// Termina as escritas pendentes e para a thread de I/O
+    public void dispose() {
+        if (disposed) return;
+        disposed = true;
+
+        ioExecutor.shutdown();
+        try {
+            if (!ioExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                Gdx.app.error(LOG_TAG, "Thread de I/O dos chunks não terminou a tempo, escritas pendentes podem ter sido perdidas");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        chunks.clear();
+        activationQueue.clear();
+        loadResults.clear();
+    }
+
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
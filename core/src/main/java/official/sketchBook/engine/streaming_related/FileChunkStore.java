@@ -0,0 +1,67 @@
+package official.sketchBook.engine.streaming_related;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Chunks estacionados em disco, um arquivo por chunk dentro da pasta informada.
+ * <p>
+ * A pasta guarda apenas o estado da sessão atual e é esvaziada ao criar o store.
+ */
+public class FileChunkStore implements ChunkStore {
+
+    private static final String EXTENSION = ".chunk";
+
+    private final Path directory;
+
+    public FileChunkStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            clear();
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível preparar a pasta de chunks " + directory, e);
+        }
+    }
+
+    @Override
+    public byte[] read(long key) throws IOException {
+        Path file = fileOf(key);
+        return Files.exists(file) ? Files.readAllBytes(file) : null;
+    }
+
+    @Override
+    public void write(long key, byte[] data) throws IOException {
+        Path file = fileOf(key);
+        if (data.length == 0) {
+            Files.deleteIfExists(file);
+            return;
+        }
+        Files.write(file, data);
+    }
+
+    @Override
+    public void append(long key, byte[] data) throws IOException {
+        Files.write(fileOf(key), data, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void clear() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private Path fileOf(long key) {
+        return directory.resolve(ChunkStreamer.chunkX(key) + "_" + ChunkStreamer.chunkY(key) + EXTENSION);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+}
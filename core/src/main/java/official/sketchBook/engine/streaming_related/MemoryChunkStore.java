@@ -0,0 +1,47 @@
+package official.sketchBook.engine.streaming_related;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/// Chunks estacionados em memória, já serializados. Útil em testes e em níveis que cabem na memória
+public class MemoryChunkStore implements ChunkStore {
+
+    private final Map<Long, byte[]> chunks = new HashMap<>();
+
+    @Override
+    public byte[] read(long key) {
+        return chunks.get(key);
+    }
+
+    @Override
+    public void write(long key, byte[] data) {
+        if (data.length == 0) {
+            chunks.remove(key);
+        } else {
+            chunks.put(key, data);
+        }
+    }
+
+    @Override
+    public void append(long key, byte[] data) {
+        byte[] current = chunks.get(key);
+        if (current == null) {
+            write(key, data);
+            return;
+        }
+
+        byte[] merged = new byte[current.length + data.length];
+        System.arraycopy(current, 0, merged, 0, current.length);
+        System.arraycopy(data, 0, merged, current.length, data.length);
+        chunks.put(key, merged);
+    }
+
+    @Override
+    public void clear() {
+        chunks.clear();
+    }
+
+    public int getChunkCount() {
+        return chunks.size();
+    }
+}
@@ -0,0 +1,12 @@
+package official.sketchBook.engine.streaming_related;
+
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/// Recria um objeto estacionado a partir do estado escrito por Streamable.writeStreamState, na thread do manager
+@FunctionalInterface
+public interface StreamableFactory {
+    void restore(BaseWorldDataManager manager, DataInput in) throws IOException;
+}
@@ -0,0 +1,293 @@
+package official.sketchBook.engine.util_related.texture;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.PixmapPackerIO;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.zip.CRC32;
+
+import static official.sketchBook.engine.util_related.path.AssetsPaths.SpriteSheetPath.BASE_SS_PATH;
+
+/**
+ * Junta todas as sprite sheets de {@code SpriteSheetPath.BASE_SS_PATH} em poucas páginas de textura, para que
+ * objetos de classes diferentes desenhem com a mesma textura e o batch agrupe os draws.
+ * <p>
+ * As sheets são encontradas pelo {@code assets.txt} gerado pelo build (ou listando a pasta, quando ele não existe)
+ * e empacotadas com {@link PixmapPacker} na primeira execução. O resultado é salvo em {@link #CACHE_DIR} junto de um
+ * manifesto com o tamanho e o CRC de cada sheet, nas execuções seguintes o atlas é carregado direto do cache
+ * enquanto nenhuma sheet mudar.
+ * <p>
+ * Cada sheet é servida como uma {@link TextureRegion} dentro da sua página, pronta para um
+ * {@link official.sketchBook.engine.animation_related.SpriteSheetDataHandler}.
+ * <p>
+ * Normalmente é carregado pelo {@link official.sketchBook.engine.resource_related.ResourceRegistry} com o nome
+ * {@link #ASSET_NAME}: o empacotamento roda na thread de carregamento e só o upload das páginas acontece na thread
+ * do libGDX (ver {@link SpriteSheetAtlasLoader}). Os objetos nunca fazem dispose das páginas.
+ */
+public class SpriteSheetAtlas implements Disposable {
+
+    /// Nome do atlas no ResourceRegistry: a pasta cujas sheets ele contém
+    public static final String ASSET_NAME = BASE_SS_PATH;
+
+    /// Lista de assets gerada pela task generateAssetList
+    public static final String ASSET_LIST = "assets.txt";
+    /// Pasta local do atlas empacotado
+    public static final String CACHE_DIR = "cache/atlas/";
+
+    /// Atlas empacotado, relativo ao armazenamento local
+    public static final String ATLAS_FILE = CACHE_DIR + "sprite_sheets.atlas";
+    private static final String MANIFEST_FILE = CACHE_DIR + "sprite_sheets.manifest";
+    /// Muda quando o formato do cache ou os parâmetros de empacotamento mudam, invalidando caches antigos
+    private static final int CACHE_VERSION = 1;
+
+    private static final int PAGE_SIZE = 2048;
+    private static final int PADDING = 2;
+
+    private static final String LOG_TAG = "SpriteSheetAtlas";
+
+    private final TextureAtlas atlas;
+    /// Se o atlas foi criado aqui, sem o AssetManager, e deve ser disposed junto
+    private final boolean ownsAtlas;
+    /// Região de cada sheet, pelo caminho do asset
+    private final Map<String, TextureRegion> sheets = new HashMap<>();
+
+    private boolean disposed = false;
+
+    /**
+     * @param atlas      Atlas com uma região por sheet, nomeada pelo caminho relativo a BASE_SS_PATH.
+     * @param ownsAtlas  Se o dispose deste objeto deve fazer dispose do atlas.
+     * @param sheetPaths Caminhos internos das sheets empacotadas.
+     */
+    public SpriteSheetAtlas(TextureAtlas atlas, boolean ownsAtlas, List<String> sheetPaths) {
+        this.atlas = atlas;
+        this.ownsAtlas = ownsAtlas;
+
+        for (String path : sheetPaths) {
+            TextureRegion region = atlas.findRegion(regionName(path));
+            if (region == null) {
+                throw new IllegalStateException("Sheet " + path + " não foi encontrada no atlas");
+            }
+            sheets.put(path, region);
+        }
+    }
+
+    /**
+     * Resultado de {@link #prepare(List)}: ou o atlas está salvo em {@link #ATLAS_FILE}, ou ficou só em memória
+     * no packer, que deve virar texturas na thread do libGDX e depois sofrer dispose.
+     */
+    public static final class Prepared {
+        private final List<String> sheetPaths;
+        private final PixmapPacker unsavedPacker;
+
+        private Prepared(List<String> sheetPaths, PixmapPacker unsavedPacker) {
+            this.sheetPaths = sheetPaths;
+            this.unsavedPacker = unsavedPacker;
+        }
+
+        public List<String> getSheetPaths() {
+            return sheetPaths;
+        }
+
+        /// Packer com as páginas em memória, null quando o atlas está salvo no cache
+        public PixmapPacker getUnsavedPacker() {
+            return unsavedPacker;
+        }
+
+        public boolean isSaved() {
+            return unsavedPacker == null;
+        }
+    }
+
+    /**
+     * Garante que o cache corresponde às sheets atuais, empacotando de novo se necessário.
+     * Não usa GL, pode rodar fora da thread do libGDX.
+     *
+     * @param sheetPaths Caminhos internos das sheets.
+     */
+    public static Prepared prepare(List<String> sheetPaths) {
+        String manifest = buildManifest(sheetPaths);
+        FileHandle cacheDir = Gdx.files.local(CACHE_DIR);
+        FileHandle atlasFile = Gdx.files.local(ATLAS_FILE);
+        FileHandle manifestFile = Gdx.files.local(MANIFEST_FILE);
+
+        if (atlasFile.exists() && manifestFile.exists() && manifest.equals(manifestFile.readString())) {
+            Gdx.app.debug(LOG_TAG, "Atlas de sprite sheets carregado do cache (" + sheetPaths.size() + " sheets)");
+            return new Prepared(sheetPaths, null);
+        }
+
+        long start = System.nanoTime();
+        PixmapPacker packer = pack(sheetPaths);
+        try {
+            cacheDir.mkdirs();
+            cacheDir.emptyDirectory();
+            new PixmapPackerIO().save(atlasFile, packer);
+            manifestFile.writeString(manifest, false);
+
+            Gdx.app.debug(
+                LOG_TAG,
+                "Atlas de sprite sheets empacotado em " + (System.nanoTime() - start) / 1_000_000 + "ms ("
+                    + sheetPaths.size() + " sheets, " + packer.getPages().size() + " páginas)"
+            );
+            packer.dispose();
+            return new Prepared(sheetPaths, null);
+        } catch (IOException | GdxRuntimeException e) {
+            // Sem cache, o atlas é montado direto da memória e será empacotado de novo na próxima execução
+            Gdx.app.error(LOG_TAG, "Não foi possível salvar o atlas em " + cacheDir.path(), e);
+            return new Prepared(sheetPaths, packer);
+        }
+    }
+
+    /// Cria o atlas a partir de um packer em memória, deve rodar na thread do libGDX
+    public static SpriteSheetAtlas fromPacker(Prepared prepared) {
+        PixmapPacker packer = prepared.getUnsavedPacker();
+        try {
+            return new SpriteSheetAtlas(
+                packer.generateTextureAtlas(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false),
+                true,
+                prepared.getSheetPaths()
+            );
+        } finally {
+            packer.dispose();
+        }
+    }
+
+    /// Prepara e carrega o atlas de uma vez, na thread do libGDX, para uso sem o ResourceRegistry
+    public static SpriteSheetAtlas loadNow() {
+        Prepared prepared = prepare(listSpriteSheets());
+        if (!prepared.isSaved()) {
+            return fromPacker(prepared);
+        }
+        return new SpriteSheetAtlas(new TextureAtlas(Gdx.files.local(ATLAS_FILE)), true, prepared.getSheetPaths());
+    }
+
+    private static PixmapPacker pack(List<String> sheetPaths) {
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+
+        for (String path : sheetPaths) {
+            Pixmap pixmap = new Pixmap(Gdx.files.internal(path));
+            try {
+                if (pixmap.getWidth() + PADDING * 2 > PAGE_SIZE || pixmap.getHeight() + PADDING * 2 > PAGE_SIZE) {
+                    throw new IllegalStateException("Sheet " + path + " é maior que a página do atlas (" + PAGE_SIZE + "px)");
+                }
+                packer.pack(regionName(path), pixmap);
+            } finally {
+                pixmap.dispose();
+            }
+        }
+        return packer;
+    }
+
+    /// Manifesto com o tamanho e o CRC de cada sheet, qualquer diferença invalida o cache
+    private static String buildManifest(List<String> sheetPaths) {
+        StringBuilder manifest = new StringBuilder();
+        manifest.append(CACHE_VERSION).append(' ').append(PAGE_SIZE).append(' ').append(PADDING).append('\n');
+
+        CRC32 crc = new CRC32();
+        for (String path : sheetPaths) {
+            byte[] bytes = Gdx.files.internal(path).readBytes();
+            crc.reset();
+            crc.update(bytes, 0, bytes.length);
+
+            manifest.append(path).append(' ').append(bytes.length).append(' ')
+                .append(Long.toHexString(crc.getValue())).append('\n');
+        }
+        return manifest.toString();
+    }
+
+    /// Caminhos internos de todas as sheets PNG dentro de BASE_SS_PATH, em ordem alfabética
+    public static List<String> listSpriteSheets() {
+        List<String> paths = new ArrayList<>();
+
+        FileHandle assetList = Gdx.files.internal(ASSET_LIST);
+        if (assetList.exists()) {
+            for (String line : assetList.readString().split("\n")) {
+                String path = line.trim().replace('\\', '/');
+                if (isSpriteSheet(path)) {
+                    paths.add(path);
+                }
+            }
+        } else {
+            // Sem o assets.txt (ex.: rodando direto da IDE) a pasta é listada, o que só funciona fora de um jar
+            collectSpriteSheets(Gdx.files.internal(BASE_SS_PATH), paths);
+        }
+
+        Collections.sort(paths);
+        return paths;
+    }
+
+    private static void collectSpriteSheets(FileHandle directory, List<String> out) {
+        FileHandle[] children = directory.list();
+        if (children == null) return;
+
+        for (FileHandle child : children) {
+            if (child.isDirectory()) {
+                collectSpriteSheets(child, out);
+            } else if (isSpriteSheet(child.path())) {
+                out.add(child.path());
+            }
+        }
+    }
+
+    private static boolean isSpriteSheet(String path) {
+        return path.startsWith(BASE_SS_PATH) && path.toLowerCase(Locale.ROOT).endsWith(".png");
+    }
+
+    /// Nome da região no atlas: o caminho relativo a BASE_SS_PATH, sem a extensão
+    private static String regionName(String path) {
+        return path.substring(BASE_SS_PATH.length(), path.length() - ".png".length());
+    }
+
+    /**
+     * Região de uma sheet empacotada.
+     *
+     * @param path Caminho interno da sheet, o mesmo usado para carregar a textura avulsa.
+     * @throws IllegalArgumentException Se a sheet não estiver no atlas.
+     */
+    public TextureRegion getSheet(String path) {
+        TextureRegion region = sheets.get(path);
+        if (region == null) {
+            throw new IllegalArgumentException("Sheet " + path + " não está no atlas, ela fica dentro de " + BASE_SS_PATH + "?");
+        }
+        return region;
+    }
+
+    public boolean contains(String path) {
+        return sheets.containsKey(path);
+    }
+
+    public TextureAtlas getAtlas() {
+        return atlas;
+    }
+
+    /// Quantidade de páginas (texturas) do atlas
+    public int getPageCount() {
+        return atlas.getTextures().size();
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+
+        for (TextureRegion region : sheets.values()) {
+            TextureUtils.disposeSpriteSheetRegionCache(region);
+        }
+        sheets.clear();
+        if (ownsAtlas) {
+            atlas.dispose();
+        }
+        disposed = true;
+    }
+
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
@@ -0,0 +1,64 @@
+package official.sketchBook.engine.util_related.texture;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Loader do {@link SpriteSheetAtlas} para o AssetManager.
+ * <p>
+ * O AssetManager resolve as dependências na thread de carregamento, então é ali que o cache é conferido e as
+ * sheets são empacotadas. O atlas salvo vira uma dependência comum de {@link TextureAtlas}, cujas páginas são
+ * decodificadas em segundo plano e enviadas à GPU pela thread do libGDX. Só quando o cache não pôde ser salvo
+ * as páginas são criadas direto do packer, no loadSync.
+ * <p>
+ * O resolver do AssetManager precisa achar {@link SpriteSheetAtlas#ATLAS_FILE} no armazenamento local.
+ */
+public class SpriteSheetAtlasLoader extends AsynchronousAssetLoader<SpriteSheetAtlas, SpriteSheetAtlasLoader.Parameters> {
+
+    public static class Parameters extends AssetLoaderParameters<SpriteSheetAtlas> {
+    }
+
+    /// Resultado do empacotamento entre getDependencies e loadSync, existe um único atlas por vez
+    private volatile SpriteSheetAtlas.Prepared prepared;
+
+    public SpriteSheetAtlasLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        prepared = SpriteSheetAtlas.prepare(SpriteSheetAtlas.listSpriteSheets());
+        if (!prepared.isSaved()) return null;
+
+        Array<AssetDescriptor> dependencies = new Array<>();
+        dependencies.add(new AssetDescriptor<>(SpriteSheetAtlas.ATLAS_FILE, TextureAtlas.class));
+        return dependencies;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        // Todo o trabalho fora da thread do libGDX já foi feito em getDependencies
+    }
+
+    @Override
+    public SpriteSheetAtlas loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        SpriteSheetAtlas.Prepared result = prepared;
+        prepared = null;
+
+        if (!result.isSaved()) {
+            return SpriteSheetAtlas.fromPacker(result);
+        }
+        // O TextureAtlas pertence ao AssetManager e é descarregado junto com o SpriteSheetAtlas
+        return new SpriteSheetAtlas(
+            manager.get(SpriteSheetAtlas.ATLAS_FILE, TextureAtlas.class),
+            false,
+            result.getSheetPaths()
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package official.sketchBook.engine.util_related.texture;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Cache imutável de todos os quadros de uma sprite sheet.
+ * <p>
+ * A sheet pode ser uma textura inteira ou uma região dentro de uma página de atlas
+ * (ver {@link SpriteSheetAtlas}), os quadros são sempre relativos à região.
+ * <p>
+ * Cada célula (indexX, indexY) da sheet tem quatro regiões pré-construídas, uma para cada
+ * combinação de espelhamento (flipX, flipY). As regiões são criadas uma única vez no construtor,
+ * de forma que o caminho de renderização consegue obter o quadro atual sem nenhuma alocação.
+ * <p>
+ * IMPORTANTE: as regiões retornadas são compartilhadas entre todos os usuários da sheet,
+ * portanto NÃO devem ser modificadas (flip, setRegion, etc.).
+ */
+public class SpriteSheetRegionCache {
+
+    /// Quantidade de combinações de espelhamento guardadas por célula
+    private static final int FLIP_VARIANTS = 4;
+
+    /// Textura de origem (não owned, o cache nunca faz dispose dela)
+    private final Texture spriteSheet;
+    /// Área da sheet dentro da textura, a textura inteira quando a sheet não está num atlas
+    private final TextureRegion sheetRegion;
+
+    /// Dimensões de cada quadro da sprite sheet (em pixels)
+    private final int canvasWidth, canvasHeight;
+
+    /// Quantidade de quadros em cada eixo
+    private final int columns, rows;
+
+    /// Regiões indexadas por ((indexY * columns + indexX) * FLIP_VARIANTS + flipIndex)
+    private final TextureRegion[] regions;
+
+    public SpriteSheetRegionCache(Texture spriteSheet, int canvasWidth, int canvasHeight) {
+        this(spriteSheet == null ? null : new TextureRegion(spriteSheet), canvasWidth, canvasHeight);
+    }
+
+    public SpriteSheetRegionCache(TextureRegion sheetRegion, int canvasWidth, int canvasHeight) {
+        if (sheetRegion == null) {
+            throw new IllegalArgumentException("Texture não pode ser null");
+        }
+        if (canvasWidth <= 0 || canvasHeight <= 0) {
+            throw new IllegalArgumentException("Dimensões do quadro devem ser maiores que 0");
+        }
+
+        this.sheetRegion = sheetRegion;
+        this.spriteSheet = sheetRegion.getTexture();
+        this.canvasWidth = canvasWidth;
+        this.canvasHeight = canvasHeight;
+        this.columns = Math.max(1, sheetRegion.getRegionWidth() / canvasWidth);
+        this.rows = Math.max(1, sheetRegion.getRegionHeight() / canvasHeight);
+        this.regions = new TextureRegion[columns * rows * FLIP_VARIANTS];
+
+        buildRegions();
+    }
+
+    /// Constrói todas as regiões da sheet de uma vez
+    private void buildRegions() {
+        for (int indexY = 0; indexY < rows; indexY++) {
+            for (int indexX = 0; indexX < columns; indexX++) {
+                int base = (indexY * columns + indexX) * FLIP_VARIANTS;
+
+                for (int flipIndex = 0; flipIndex < FLIP_VARIANTS; flipIndex++) {
+                    TextureRegion region = new TextureRegion(
+                        sheetRegion,
+                        indexX * canvasWidth,
+                        indexY * canvasHeight,
+                        canvasWidth,
+                        canvasHeight
+                    );
+                    region.flip((flipIndex & 1) != 0, (flipIndex & 2) != 0);
+                    regions[base + flipIndex] = region;
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtém a região pré-construída de um quadro. Não aloca.
+     *
+     * @param indexX Coluna do quadro na sheet.
+     * @param indexY Linha do quadro na sheet.
+     * @param flipX  Se a região deve estar espelhada horizontalmente.
+     * @param flipY  Se a região deve estar espelhada verticalmente.
+     * @return Região compartilhada, não deve ser modificada.
+     */
+    public TextureRegion getRegion(int indexX, int indexY, boolean flipX, boolean flipY) {
+        if (indexX < 0 || indexX >= columns || indexY < 0 || indexY >= rows) {
+            throw new IllegalArgumentException(
+                "Quadro (" + indexX + ", " + indexY + ") fora da sheet [" + columns + "x" + rows + "]"
+            );
+        }
+        int flipIndex = (flipX ? 1 : 0) | (flipY ? 2 : 0);
+        return regions[(indexY * columns + indexX) * FLIP_VARIANTS + flipIndex];
+    }
+
+    /// Verifica se este cache corresponde a uma sheet com o tamanho de quadro informado
+    public boolean matches(Texture spriteSheet, int canvasWidth, int canvasHeight) {
+        return this.spriteSheet == spriteSheet
+            && this.canvasWidth == canvasWidth
+            && this.canvasHeight == canvasHeight;
+    }
+
+    /// Verifica se este cache usa o tamanho de quadro informado
+    public boolean matches(int canvasWidth, int canvasHeight) {
+        return this.canvasWidth == canvasWidth && this.canvasHeight == canvasHeight;
+    }
+
+    public TextureRegion getSheetRegion() {
+        return sheetRegion;
+    }
+
+    public Texture getSpriteSheet() {
+        return spriteSheet;
+    }
+
+    public int getCanvasWidth() {
+        return canvasWidth;
+    }
+
+    public int getCanvasHeight() {
+        return canvasHeight;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
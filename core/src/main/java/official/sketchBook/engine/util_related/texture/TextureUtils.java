@@ -4,7 +4,24 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import official.sketchBook.engine.animation_related.Sprite;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class TextureUtils {
+
+    /// Caches de regiões por sprite sheet, compartilhados entre todos os objetos que usam a mesma textura
+    private static final Map<Texture, List<SpriteSheetRegionCache>> regionCaches = new IdentityHashMap<>();
+    /// Caches de regiões por sheet dentro de um atlas, compartilhados entre todos os objetos que usam a mesma região
+    private static final Map<TextureRegion, List<SpriteSheetRegionCache>> atlasRegionCaches = new IdentityHashMap<>();
+
+    /**
+     * Cria uma nova região para o quadro atual.
+     * <p>
+     * Aloca um TextureRegion a cada chamada, para o caminho de renderização
+     * use {@link #obtainSpriteSheetRegionCache(Texture, int, int)}.
+     */
     public static TextureRegion obtainCurrentSpriteImage(Sprite sprite, int textureWidth, int textureHeight, Texture spriteSheet, boolean flipX, boolean flipY) {
 
         TextureRegion region = new TextureRegion(
@@ -20,6 +37,72 @@ public class TextureUtils {
         return region;
     }
 
+    /**
+     * Obtém o cache de quadros de uma sprite sheet, construindo-o na primeira vez que é pedido.
+     *
+     * @param spriteSheet  Textura da sprite sheet.
+     * @param canvasWidth  Largura de cada quadro em pixels.
+     * @param canvasHeight Altura de cada quadro em pixels.
+     * @return Cache compartilhado por todos que usam a mesma sheet com o mesmo tamanho de quadro.
+     */
+    public static SpriteSheetRegionCache obtainSpriteSheetRegionCache(Texture spriteSheet, int canvasWidth, int canvasHeight) {
+        List<SpriteSheetRegionCache> caches = regionCaches.get(spriteSheet);
+
+        if (caches == null) {
+            caches = new ArrayList<>(1);
+            regionCaches.put(spriteSheet, caches);
+        }
+
+        for (int i = 0; i < caches.size(); i++) {
+            SpriteSheetRegionCache cache = caches.get(i);
+            if (cache.matches(spriteSheet, canvasWidth, canvasHeight)) {
+                return cache;
+            }
+        }
+
+        SpriteSheetRegionCache cache = new SpriteSheetRegionCache(spriteSheet, canvasWidth, canvasHeight);
+        caches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Obtém o cache de quadros de uma sprite sheet guardada numa região de atlas.
+     *
+     * @param sheetRegion  Região da sheet, a mesma instância devolvida pelo atlas.
+     * @param canvasWidth  Largura de cada quadro em pixels.
+     * @param canvasHeight Altura de cada quadro em pixels.
+     * @return Cache compartilhado por todos que usam a mesma região com o mesmo tamanho de quadro.
+     */
+    public static SpriteSheetRegionCache obtainSpriteSheetRegionCache(TextureRegion sheetRegion, int canvasWidth, int canvasHeight) {
+        List<SpriteSheetRegionCache> caches = atlasRegionCaches.get(sheetRegion);
+
+        if (caches == null) {
+            caches = new ArrayList<>(1);
+            atlasRegionCaches.put(sheetRegion, caches);
+        }
+
+        for (int i = 0; i < caches.size(); i++) {
+            SpriteSheetRegionCache cache = caches.get(i);
+            if (cache.matches(canvasWidth, canvasHeight)) {
+                return cache;
+            }
+        }
+
+        SpriteSheetRegionCache cache = new SpriteSheetRegionCache(sheetRegion, canvasWidth, canvasHeight);
+        caches.add(cache);
+        return cache;
+    }
+
+    /// Descarta os caches de uma sheet, deve ser chamado junto do dispose da textura
+    public static void disposeSpriteSheetRegionCache(Texture spriteSheet) {
+        regionCaches.remove(spriteSheet);
+    }
+
+    /// Descarta os caches de uma sheet de atlas, deve ser chamado junto do dispose do atlas
+    public static void disposeSpriteSheetRegionCache(TextureRegion sheetRegion) {
+        atlasRegionCaches.remove(sheetRegion);
+    }
+
     public static float scale(float value, float factor, boolean shouldMultiply) {
         return shouldMultiply ? value * factor : value / factor;
     }
@@ -17,6 +17,8 @@ public class PlayerControllerComponent extends KeyBoundControllerComponent {
         this.bindKey(ControlKeys.dir_down, this::down);
         this.bindKey(ControlKeys.dir_left, this::left);
         this.bindKey(ControlKeys.dir_right, this::right);
+
+        this.useInputSnapshot(player.getWorldDataManager().getInputSnapshot());
     }
 
     public void up(boolean pressed) {
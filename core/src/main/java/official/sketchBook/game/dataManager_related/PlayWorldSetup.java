@@ -0,0 +1,53 @@
+package official.sketchBook.game.dataManager_related;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.game.gameObject_related.Player;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.*;
+
+/**
+ * Montagem do mundo da PlayScreen, usada também pelas simulações headless para que um replay de input rode
+ * no mesmo manager, com o mesmo Player e o mesmo PlayerControllerComponent que gravaram as teclas.
+ * <p>
+ * A montagem tem duas etapas porque o controller do Player lê o InputSnapshot do manager ao ser criado:
+ * o update system precisa ser criado entre {@link #createManager()} e {@link #populate(BaseWorldDataManager)}.
+ * Câmeras, streaming de chunks, profiler e recursos ficam com a screen, nada disso muda a simulação.
+ */
+public final class PlayWorldSetup {
+
+    private PlayWorldSetup() {
+    }
+
+    /// Cria o manager vazio, com o mundo box2d e as iterações do jogo
+    public static WorldDataManager createManager() {
+        return new WorldDataManager(
+            new World(
+                new Vector2(),
+                true
+            ),
+            FIXED_TIMESTAMP,
+            VELOCITY_ITERATIONS,
+            POSITION_ITERATIONS
+        );
+    }
+
+    /// Cria os objetos iniciais do mundo, depois que o update system entregou o snapshot de input ao manager
+    public static Player populate(BaseWorldDataManager manager) {
+        if (manager.getInputSnapshot() == null) {
+            throw new IllegalStateException("O update system precisa ser criado antes de popular o mundo");
+        }
+
+        return new Player(
+            100,
+            100,
+            0,
+            64,
+            64,
+            false,
+            false,
+            manager
+        );
+    }
+}
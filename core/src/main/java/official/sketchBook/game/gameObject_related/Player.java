@@ -1,21 +1,18 @@
 package official.sketchBook.game.gameObject_related;
 
-import com.badlogic.gdx.graphics.Texture;
 import official.sketchBook.engine.animation_related.ObjectAnimationPlayer;
 import official.sketchBook.engine.animation_related.Sprite;
 import official.sketchBook.engine.animation_related.SpriteSheetDataHandler;
-import official.sketchBook.engine.components_related.intefaces.integration_interfaces.StaticResourceDisposable;
 import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
 import official.sketchBook.engine.gameObject_related.RenderableGameObject;
+import official.sketchBook.engine.util_related.texture.SpriteSheetAtlas;
 import official.sketchBook.game.components_related.PlayerControllerComponent;
 import official.sketchBook.game.util_related.path.GameAssetsPaths;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 
-public class Player extends RenderableGameObject implements StaticResourceDisposable {
-
-    private static Texture playerSheet;
+public class Player extends RenderableGameObject {
 
     private PlayerControllerComponent controllerC;
 
@@ -54,7 +51,7 @@ public class Player extends RenderableGameObject implements StaticResourceDispos
     }
 
     private void initComponents(){
-        this.toUpdateComponentList.add(controllerC);
+        this.addUpdateComponent(controllerC);
     }
 
     private void initController(){
@@ -77,9 +74,8 @@ public class Player extends RenderableGameObject implements StaticResourceDispos
     }
 
     private void initSpriteSheet() {
-        if (playerSheet == null) {
-            playerSheet = new Texture(GameAssetsPaths.EntitiesAssetsPaths.PLAYER_SHEET_PATH);
-        }
+        // Sem registro de recursos o mundo roda sem janela (ex.: replay headless) e o player fica sem visuais
+        if (worldDataManager.getResourceRegistry() == null) return;
 
         this.spriteHandlerList.add(
             new SpriteSheetDataHandler(
@@ -91,7 +87,10 @@ public class Player extends RenderableGameObject implements StaticResourceDispos
                 4,
                 transformC.isxAxisInverted(),
                 transformC.isyAxisInverted(),
-                playerSheet
+                // A página do atlas é compartilhada com as outras entidades e pertence ao registro de recursos
+                worldDataManager.getResourceRegistry()
+                    .get(SpriteSheetAtlas.ASSET_NAME, SpriteSheetAtlas.class)
+                    .getSheet(GameAssetsPaths.EntitiesAssetsPaths.PLAYER_SHEET_PATH)
             )
         );
     }
@@ -116,11 +115,6 @@ public class Player extends RenderableGameObject implements StaticResourceDispos
         System.out.println("Player limpando dados de instancia");
     }
 
-    public static void disposeStaticResources() {
-        System.out.println("Player limpando dados estaticos");
-        playerSheet.dispose();
-    }
-
     public PlayerControllerComponent getControllerC() {
         return controllerC;
     }
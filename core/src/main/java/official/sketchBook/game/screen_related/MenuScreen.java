@@ -12,6 +12,8 @@ import official.sketchBook.engine.screen_related.BaseScreen;
 public class MenuScreen extends BaseScreen {
 
     private OrthographicCameraManager uiCameraManager;
+    /// Se os recursos da PlayScreen foram adquiridos pelo menu
+    private boolean preloadingPlayScreen = false;
 
     public MenuScreen(AppMain app) {
         super(app);
@@ -48,6 +50,10 @@ public class MenuScreen extends BaseScreen {
     public void updateVisuals(float delta) {
         uiCameraManager.getCamera().update();
 
+        // Uma vez por frame, a troca acontece quando tudo já foi enviado para a GPU
+        if (preloadingPlayScreen && app.resourceRegistry.isLoaded(PlayScreen.RESOURCES)) {
+            this.app.setScreen(app.getPlayScreen());
+        }
     }
 
     @Override
@@ -62,7 +68,20 @@ public class MenuScreen extends BaseScreen {
 
     @Override
     public void show() {
-        this.app.setScreen(app.getPlayScreen());
+        // Agora a PlayScreen é mostrada assim que os recursos dela terminam de carregar
+        if (!preloadingPlayScreen) {
+            app.resourceRegistry.acquire(PlayScreen.RESOURCES);
+            preloadingPlayScreen = true;
+        }
+    }
+
+    @Override
+    public void hide() {
+        // A PlayScreen já adquiriu os próprios recursos ao ser mostrada
+        if (preloadingPlayScreen) {
+            app.resourceRegistry.release(PlayScreen.RESOURCES);
+            preloadingPlayScreen = false;
+        }
     }
 
     @Override
@@ -5,29 +5,57 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.World;
 import official.sketchBook.engine.AppMain;
 import official.sketchBook.engine.camera_related.OrthographicCameraManager;
 import official.sketchBook.engine.camera_related.utils.CameraUtils;
 import official.sketchBook.engine.components_related.system_utils.SingleThreadRenderSystem;
 import official.sketchBook.engine.components_related.system_utils.SingleThreadUpdateSystem;
+import official.sketchBook.engine.components_related.system_utils.timing.AdaptiveStepPolicy;
+import official.sketchBook.engine.input_related.InputRecorder;
+import official.sketchBook.engine.input_related.KeyEventDispatcher;
+import official.sketchBook.engine.profiler_related.FrameProfilerOverlay;
+import official.sketchBook.engine.resource_related.ResourceManifest;
 import official.sketchBook.engine.screen_related.BaseScreen;
+import official.sketchBook.engine.streaming_related.ChunkStreamer;
+import official.sketchBook.engine.streaming_related.FileChunkStore;
+import official.sketchBook.engine.util_related.texture.SpriteSheetAtlas;
+import official.sketchBook.game.dataManager_related.PlayWorldSetup;
 import official.sketchBook.game.dataManager_related.WorldDataManager;
 import official.sketchBook.game.gameObject_related.Player;
 
+import java.nio.file.Paths;
+
+import static official.sketchBook.game.util_related.constants.DebugC.input_recordings_dir;
+import static official.sketchBook.game.util_related.constants.DebugC.parked_chunks_dir;
 import static official.sketchBook.game.util_related.constants.DebugC.show_fps_ups_metrics;
+import static official.sketchBook.game.util_related.constants.DebugC.show_frame_profiler;
 import static official.sketchBook.game.util_related.constants.PhysicsC.*;
+import static official.sketchBook.game.util_related.constants.RenderingC.*;
+import static official.sketchBook.game.util_related.constants.WorldC.*;
 
 public class PlayScreen extends BaseScreen {
+
+    private static final String LOG_TAG = "PlayScreen";
+
+    /// Recursos da screen, adquiridos pelo menu antes de criá-la para que carreguem em segundo plano
+    public static final ResourceManifest RESOURCES = new ResourceManifest()
+        .add(SpriteSheetAtlas.ASSET_NAME, SpriteSheetAtlas.class);
+
     private OrthographicCameraManager uiCameraManager;
     private OrthographicCameraManager gameCameraManager;
     private BitmapFont font;
+    private FrameProfilerOverlay profilerOverlay;
+    /// Eventos de tecla lidos pelo snapshot de input, registrado como input processor enquanto a screen é mostrada
+    private KeyEventDispatcher keyEventDispatcher;
 
     private WorldDataManager worldManager;
+    private SingleThreadUpdateSystem singleThreadUpdateSystem;
 
     private Player player;
 
+    /// F5 pediu uma gravação nova, começada no próximo frame com o mundo remontado
+    private boolean recordingRequested;
+
     public PlayScreen(AppMain app) {
         super(app);
     }
@@ -42,39 +70,65 @@ public class PlayScreen extends BaseScreen {
         this.font = new BitmapFont();
         this.font.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
 
-        this.worldManager = new WorldDataManager(
-            new World(
-                new Vector2(),
-                true
-            ),
-            FIXED_TIMESTAMP,
-            VELOCITY_ITERATIONS,
-            POSITION_ITERATIONS
-        );
+        this.keyEventDispatcher = new KeyEventDispatcher();
+        this.profilerOverlay = new FrameProfilerOverlay(profiler);
+
+        buildWorld();
+    }
 
-        this.renderSystem = new SingleThreadRenderSystem(
+    /**
+     * Monta o mundo e os sistemas que dependem dele. Também chamado ao começar uma gravação de input, para que a
+     * gravação parta do tick 0 de um mundo recém montado, o mesmo que o replay headless monta pelo {@link PlayWorldSetup}.
+     */
+    private void buildWorld() {
+        this.worldManager = PlayWorldSetup.createManager();
+        this.worldManager.setResourceRegistry(app.resourceRegistry);
+
+        SingleThreadRenderSystem singleThreadRenderSystem = new SingleThreadRenderSystem(
             this,
             worldManager,
             this.app.gameBatch,
             this.app.uiBatch
         );
+        singleThreadRenderSystem.enableViewCulling(
+            gameCameraManager,
+            CULLING_CELL_SIZE_PX,
+            CULLING_MARGIN_PX
+        );
+        singleThreadRenderSystem.setOffscreenVisualsInterval(OFFSCREEN_VISUALS_INTERVAL);
+        singleThreadRenderSystem.setProfiler(profiler);
+        this.renderSystem = singleThreadRenderSystem;
 
-        this.updateSystem = new SingleThreadUpdateSystem(
+        this.singleThreadUpdateSystem = new SingleThreadUpdateSystem(
             worldManager,
             this
         );
+        singleThreadUpdateSystem.setAdaptiveStepPolicy(new AdaptiveStepPolicy(worldManager));
+        this.updateSystem = singleThreadUpdateSystem;
 
-        player = new Player(
-            100,
-            100,
-            0,
-            64,
-            64,
-            false,
-            false,
-            worldManager
-        );
+        this.worldManager.setProfiler(profiler);
+        this.worldManager.setChunkStreamer(new ChunkStreamer(
+            worldManager,
+            gameCameraManager,
+            new FileChunkStore(Paths.get(parked_chunks_dir)),
+            CHUNK_SIZE_PX,
+            CHUNK_LOAD_RADIUS,
+            CHUNK_ACTIVATIONS_PER_UPDATE
+        ));
+
+        this.updateSystem.getInputSnapshot().setSource(keyEventDispatcher);
 
+        player = PlayWorldSetup.populate(worldManager);
+    }
+
+    @Override
+    public void render(float delta) {
+        // Fora do frame, para não trocar os sistemas enquanto eles rodam
+        if (recordingRequested) {
+            recordingRequested = false;
+            startInputRecording();
+        }
+        super.render(delta);
     }
 
     @Override
@@ -93,10 +147,47 @@ public class PlayScreen extends BaseScreen {
 
     @Override
     public void updateVisuals(float delta) {
+        // Lido uma vez por frame, fora do loop de passo fixo, para não perder nem repetir o toque
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            show_frame_profiler = !show_frame_profiler;
+        }
+        if (show_frame_profiler) {
+            profilerOverlay.update(delta);
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) {
+            toggleInputRecording();
+        }
+
         uiCameraManager.getCamera().update();
         gameCameraManager.getCamera().update();
     }
 
+    /// Fecha a gravação atual ou pede uma nova
+    private void toggleInputRecording() {
+        InputRecorder recorder = singleThreadUpdateSystem.getInputRecorder();
+        if (recorder != null) {
+            singleThreadUpdateSystem.setInputRecorder(null);
+            Gdx.app.log(LOG_TAG, "Gravação de input salva em " + recorder.getPath() + " (" + recorder.getTickCount() + " ticks)");
+            return;
+        }
+        recordingRequested = true;
+    }
+
+    /**
+     * Descarta o mundo atual e grava a partir de um mundo novo. O replay headless só conhece o estado inicial do
+     * {@link PlayWorldSetup}, então uma gravação começada no meio da partida sairia de sincronia.
+     */
+    private void startInputRecording() {
+        singleThreadUpdateSystem.dispose();
+        buildWorld();
+
+        InputRecorder newRecorder = new InputRecorder(
+            Paths.get(input_recordings_dir, "input-" + System.currentTimeMillis() + ".sbir"),
+            FIXED_TIMESTAMP
+        );
+        singleThreadUpdateSystem.setInputRecorder(newRecorder);
+        Gdx.app.log(LOG_TAG, "Mundo reiniciado, gravando input em " + newRecorder.getPath());
+    }
 
     @Override
     public void drawGame(SpriteBatch batch) {
@@ -114,11 +205,35 @@ public class PlayScreen extends BaseScreen {
             font.draw(batch, "FPS: " + getFps(), 10, this.screenHeightInPx - 10);
             font.draw(batch, "UPS: " + getUps(), 10, this.screenHeightInPx - 30);
         }
+
+        if (show_frame_profiler) {
+            profilerOverlay.draw(batch, font, 10, this.screenHeightInPx - 50);
+        }
+    }
+
+    @Override
+    public ResourceManifest getResourceManifest() {
+        return RESOURCES;
     }
 
     @Override
     public void show() {
         // Agora a PlayScreen é mostrada após o MenuScreen dar o comando
+        Gdx.input.setInputProcessor(keyEventDispatcher);
+    }
+
+    @Override
+    public void pause() {
+        // Sem foco os eventos de soltura não chegam, então nenhuma tecla pode ficar presa
+        keyEventDispatcher.releaseAll();
+    }
+
+    @Override
+    public void hide() {
+        keyEventDispatcher.releaseAll();
+        if (Gdx.input.getInputProcessor() == keyEventDispatcher) {
+            Gdx.input.setInputProcessor(null);
+        }
     }
 
     @Override
@@ -2,4 +2,10 @@ package official.sketchBook.game.util_related.constants;
 
 public class DebugC {
     public static boolean show_fps_ups_metrics = true;
+    /// Overlay com o tempo de cada fase do frame, alternado com F3
+    public static boolean show_frame_profiler = false;
+    /// Pasta das gravações de input iniciadas e paradas com F5
+    public static String input_recordings_dir = "replays";
+    /// Pasta onde os chunks estacionados da sessão são guardados
+    public static String parked_chunks_dir = "cache/chunks";
 }
@@ -19,6 +19,9 @@ public class PhysicsC {
     /// Acumulador máximo para evitar travamento acidental
     public static final float MAX_ACCUMULATOR = 0.25f;// Evita travar o PC se o frame demorar muito
 
+    /// Máximo de passos fixos por frame, o tempo que sobrar é descartado e registrado nas métricas
+    public static final int MAX_SUBSTEPS_PER_FRAME = 5;
+
     static {
         VELOCITY_ITERATIONS = 6;
         POSITION_ITERATIONS = 2;
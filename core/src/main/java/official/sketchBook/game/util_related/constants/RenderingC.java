@@ -17,6 +17,13 @@ public class RenderingC {
     /// Tamanho da altura da janela em metros
     public static final float VIRTUAL_HEIGHT_PX = TILE_SIZE_PX * TILES_VIEW_HEIGHT;
 
+    /// Tamanho das células da grade de culling em pixels
+    public static final float CULLING_CELL_SIZE_PX = TILE_SIZE_PX * 8;
+    /// Margem em volta da câmera para não cortar sprites maiores que o próprio objeto
+    public static final float CULLING_MARGIN_PX = TILE_SIZE_PX * 4;
+    /// A cada quantos frames objetos fora da tela atualizam seus visuais
+    public static final int OFFSCREEN_VISUALS_INTERVAL = 4;
+
     static {
         FPS_TARGET = 60;
     }
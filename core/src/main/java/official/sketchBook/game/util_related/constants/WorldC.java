@@ -3,4 +3,13 @@ package official.sketchBook.game.util_related.constants;
 public class WorldC {
     /// Tamanho das tiles em pixels
     public static final int TILE_SIZE_PX = 16;
+
+    /// Lado de cada chunk do streaming em tiles
+    public static final int CHUNK_SIZE_TILES = 32;
+    /// Lado de cada chunk do streaming em pixels
+    public static final float CHUNK_SIZE_PX = TILE_SIZE_PX * CHUNK_SIZE_TILES;
+    /// Distância em chunks, a partir do chunk da câmera, em que os objetos ficam ativos
+    public static final int CHUNK_LOAD_RADIUS = 1;
+    /// Objetos recriados no máximo por atualização ao carregar chunks
+    public static final int CHUNK_ACTIVATIONS_PER_UPDATE = 32;
 }
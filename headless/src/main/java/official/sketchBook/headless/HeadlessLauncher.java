@@ -0,0 +1,129 @@
+package official.sketchBook.headless;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import official.sketchBook.engine.input_related.InputReplay;
+import official.sketchBook.game.dataManager_related.PlayWorldSetup;
+import official.sketchBook.game.dataManager_related.WorldDataManager;
+
+import java.nio.file.Paths;
+
+import java.util.Random;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.*;
+
+/**
+ * Roda vários WorldDataManager sem janela nem contexto GL e reporta os ticks por segundo.
+ * <p>
+ * Argumentos (todos opcionais):
+ * <ul>
+ *     <li>{@code --worlds N}: quantidade de mundos (padrão 16)</li>
+ *     <li>{@code --ticks N}: passos fixos por mundo (padrão 3600, um minuto de jogo)</li>
+ *     <li>{@code --objects N}: agentes por mundo (padrão 100)</li>
+ *     <li>{@code --threads N}: threads de simulação (padrão: processadores disponíveis)</li>
+ *     <li>{@code --no-physics}: mundos sem box2d</li>
+ *     <li>{@code --replay ARQUIVO}: reproduz uma gravação de input em cada mundo; os mundos passam a ser montados
+ *     como o da PlayScreen, pelo {@link PlayWorldSetup}, e a quantidade de ticks passa a ser a da gravação</li>
+ * </ul>
+ */
+public class HeadlessLauncher {
+
+    public static void main(String[] args) {
+        int worlds = 16;
+        int ticks = 3600;
+        int objects = 100;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean physics = true;
+        String replayPath = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--worlds":
+                    worlds = Integer.parseInt(args[++i]);
+                    break;
+                case "--ticks":
+                    ticks = Integer.parseInt(args[++i]);
+                    break;
+                case "--objects":
+                    objects = Integer.parseInt(args[++i]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--no-physics":
+                    physics = false;
+                    break;
+                case "--replay":
+                    replayPath = args[++i];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Argumento desconhecido: " + args[i]);
+            }
+        }
+
+        if (replayPath != null && !physics) {
+            throw new IllegalArgumentException("--replay usa o mundo da PlayScreen, que sempre tem box2d");
+        }
+
+        GdxNativesLoader.load();
+        if (physics) {
+            Box2D.init();
+        }
+
+        final int objectsPerWorld = objects;
+        final boolean usePhysics = physics;
+        final InputReplay replay = replayPath != null ? InputReplay.open(Paths.get(replayPath)) : null;
+
+        HeadlessSimulationRunner runner;
+        if (replay != null) {
+            // Mesmo manager, Player e controller da PlayScreen, para que a gravação mova o que a gerou
+            runner = new HeadlessSimulationRunner(worldIndex -> PlayWorldSetup.createManager(), threads);
+            runner.setWorldPopulator(PlayWorldSetup::populate);
+            runner.setInputReplay(replay);
+            ticks = (int) Math.min(Integer.MAX_VALUE, replay.getTickCount());
+            objects = 0;
+            System.out.println("Reproduzindo " + replayPath + " (" + replay.getTickCount() + " ticks)");
+        } else {
+            runner = new HeadlessSimulationRunner(
+                worldIndex -> createWorld(worldIndex, objectsPerWorld, usePhysics),
+                threads
+            );
+        }
+
+        System.out.println(
+            "Simulando " + worlds + " mundos x " + ticks + " ticks, "
+                + objects + " agentes por mundo, " + threads + " threads"
+                + (physics ? "" : ", sem física")
+        );
+
+        SimulationReport report = runner.run(worlds, ticks);
+        System.out.println(report);
+
+        if (report.getFailedWorlds() > 0) {
+            System.exit(1);
+        }
+    }
+
+    /// Cria um mundo do jogo povoado com agentes em posições determinísticas
+    private static WorldDataManager createWorld(int worldIndex, int objects, boolean physics) {
+        WorldDataManager manager = new WorldDataManager(
+            physics ? new World(new Vector2(), true) : null,
+            FIXED_TIMESTAMP,
+            VELOCITY_ITERATIONS,
+            POSITION_ITERATIONS
+        );
+
+        Random random = new Random(worldIndex);
+        for (int i = 0; i < objects; i++) {
+            new SimulationAgent(
+                random.nextFloat() * SimulationAgent.ARENA_SIZE,
+                random.nextFloat() * SimulationAgent.ARENA_SIZE,
+                random.nextLong(),
+                manager
+            );
+        }
+        return manager;
+    }
+}
@@ -0,0 +1,144 @@
+package official.sketchBook.headless;
+
+import official.sketchBook.engine.components_related.system_utils.SingleThreadUpdateSystem;
+import official.sketchBook.engine.components_related.system_utils.timing.TickMetrics;
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.input_related.InputReplay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.FIXED_TIMESTAMP;
+
+/**
+ * Avança mundos sem janela, o mais rápido possível, e mede quantos ticks por segundo cada um aguenta.
+ * <p>
+ * Cada mundo é criado, avançado e descartado inteiramente por uma única thread do pool, então managers
+ * e mundos box2d nunca são compartilhados entre threads. O loop é o mesmo do BaseScreen.render, mas
+ * sem screen e com o delta de cada chamada igual a um passo fixo.
+ * <p>
+ * Com uma gravação de input, cada mundo reproduz a gravação inteira e roda exatamente os ticks dela.
+ */
+public class HeadlessSimulationRunner {
+
+    private final IntFunction<? extends BaseWorldDataManager> worldFactory;
+    private final int threads;
+    /// Gravação reproduzida em todos os mundos, null para rodar sem input
+    private InputReplay inputReplay;
+    /// Cria os objetos que dependem do snapshot de input, null se a fábrica já povoa o mundo
+    private Consumer<? super BaseWorldDataManager> worldPopulator;
+
+    /**
+     * @param worldFactory Cria o manager do mundo de índice informado, já povoado.
+     * @param threads      Quantidade de mundos avançados ao mesmo tempo.
+     */
+    public HeadlessSimulationRunner(IntFunction<? extends BaseWorldDataManager> worldFactory, int threads) {
+        if (worldFactory == null) {
+            throw new IllegalArgumentException("worldFactory não pode ser null");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Quantidade de threads deve ser maior que 0");
+        }
+        this.worldFactory = worldFactory;
+        this.threads = threads;
+    }
+
+    /// Reproduz a gravação em cada mundo, no lugar da quantidade de ticks informada no run
+    public void setInputReplay(InputReplay inputReplay) {
+        this.inputReplay = inputReplay;
+    }
+
+    /// Povoa cada mundo depois que o update system é criado e entrega o snapshot de input ao manager
+    public void setWorldPopulator(Consumer<? super BaseWorldDataManager> worldPopulator) {
+        this.worldPopulator = worldPopulator;
+    }
+
+    /// Avança cada mundo pela quantidade de ticks informada e junta os resultados
+    public SimulationReport run(int worlds, int ticksPerWorld) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "headless-simulation");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        try {
+            List<Future<WorldResult>> futures = new ArrayList<>(worlds);
+            for (int i = 0; i < worlds; i++) {
+                final int worldIndex = i;
+                futures.add(pool.submit(() -> simulate(worldIndex, ticksPerWorld)));
+            }
+
+            SimulationReport report = new SimulationReport(threads);
+            for (Future<WorldResult> future : futures) {
+                try {
+                    report.add(future.get());
+                } catch (ExecutionException e) {
+                    report.addFailure(e.getCause());
+                }
+            }
+
+            report.finish(System.nanoTime() - start);
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulação interrompida", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /// Cria, avança e descarta um mundo na thread atual
+    private WorldResult simulate(int worldIndex, int ticks) {
+        BaseWorldDataManager manager = worldFactory.apply(worldIndex);
+        SingleThreadUpdateSystem updateSystem = new SingleThreadUpdateSystem(manager, null);
+        if (worldPopulator != null) {
+            worldPopulator.accept(manager);
+        }
+
+        if (inputReplay != null) {
+            updateSystem.setInputReplay(inputReplay.copy());
+            ticks = (int) Math.min(Integer.MAX_VALUE, inputReplay.getTickCount());
+        }
+
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < ticks; i++) {
+                updateSystem.update(FIXED_TIMESTAMP);
+                updateSystem.postUpdate();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            TickMetrics metrics = updateSystem.getTickMetrics();
+            return new WorldResult(
+                worldIndex,
+                updateSystem.getUpdatesMetric(),
+                elapsed,
+                metrics.getMaxTickNanos(),
+                metrics.getOverrunTicks()
+            );
+        } finally {
+            updateSystem.dispose();
+        }
+    }
+
+    /// Resultado de um único mundo
+    static final class WorldResult {
+        final int worldIndex;
+        final int ticks;
+        final long elapsedNanos;
+        final long maxTickNanos;
+        final int overrunTicks;
+
+        WorldResult(int worldIndex, int ticks, long elapsedNanos, long maxTickNanos, int overrunTicks) {
+            this.worldIndex = worldIndex;
+            this.ticks = ticks;
+            this.elapsedNanos = elapsedNanos;
+            this.maxTickNanos = maxTickNanos;
+            this.overrunTicks = overrunTicks;
+        }
+    }
+}
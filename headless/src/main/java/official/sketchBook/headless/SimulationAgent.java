@@ -0,0 +1,125 @@
+package official.sketchBook.headless;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import official.sketchBook.engine.dataManager_related.BaseWorldDataManager;
+import official.sketchBook.engine.gameObject_related.BaseGameObject;
+
+import java.util.Random;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.PPM;
+
+/**
+ * Agente sem visuais para simulações headless: um corpo circular do box2d que troca de direção
+ * de tempos em tempos e volta quando sai da arena. Sem mundo físico, se move só pela velocidade.
+ */
+public class SimulationAgent extends BaseGameObject {
+
+    /// Lado da arena em pixels
+    public static final float ARENA_SIZE = 2048f;
+
+    private static final float SPEED_PX = 120f;
+    private static final float RADIUS_PX = 8f;
+    /// Passos entre trocas de direção
+    private static final int WANDER_INTERVAL = 90;
+
+    private final Random random;
+
+    private Body body;
+    private float x, y;
+    private float velocityX, velocityY;
+    private int ticksUntilWander;
+
+    public SimulationAgent(float x, float y, long seed, BaseWorldDataManager worldDataManager) {
+        super(worldDataManager);
+        this.x = x;
+        this.y = y;
+        this.random = new Random(seed);
+
+        initObject();
+    }
+
+    @Override
+    protected void initObject() {
+        pickDirection();
+
+        if (!worldDataManager.isPhysicsWorldExists()) return;
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        bodyDef.position.set(x / PPM, y / PPM);
+        bodyDef.fixedRotation = true;
+
+        body = worldDataManager.getPhysicsWorld().createBody(bodyDef);
+
+        CircleShape shape = new CircleShape();
+        shape.setRadius(RADIUS_PX / PPM);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = 1f;
+        fixtureDef.restitution = 0.5f;
+        body.createFixture(fixtureDef);
+        shape.dispose();
+
+        body.setUserData(this);
+        body.setLinearVelocity(velocityX / PPM, velocityY / PPM);
+    }
+
+    @Override
+    public void update(float delta) {
+        if (--ticksUntilWander <= 0) {
+            pickDirection();
+        }
+
+        if (body != null) {
+            Vector2 position = body.getPosition();
+            x = position.x * PPM;
+            y = position.y * PPM;
+        } else {
+            x += velocityX * delta;
+            y += velocityY * delta;
+        }
+
+        // Volta para dentro da arena
+        if ((x < 0 && velocityX < 0) || (x > ARENA_SIZE && velocityX > 0)) velocityX = -velocityX;
+        if ((y < 0 && velocityY < 0) || (y > ARENA_SIZE && velocityY > 0)) velocityY = -velocityY;
+
+        if (body != null) {
+            body.setLinearVelocity(velocityX / PPM, velocityY / PPM);
+        }
+    }
+
+    private void pickDirection() {
+        float angle = random.nextFloat() * (float) (Math.PI * 2);
+        velocityX = (float) Math.cos(angle) * SPEED_PX;
+        velocityY = (float) Math.sin(angle) * SPEED_PX;
+        ticksUntilWander = WANDER_INTERVAL + random.nextInt(WANDER_INTERVAL);
+    }
+
+    @Override
+    public void postUpdate() {
+        this.postUpdateComponents();
+    }
+
+    @Override
+    protected void onObjectDestruction() {
+
+    }
+
+    @Override
+    protected void disposeData() {
+        if (body != null && worldDataManager.isPhysicsWorldExists()) {
+            worldDataManager.getPhysicsWorld().destroyBody(body);
+        }
+        body = null;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+}
@@ -0,0 +1,121 @@
+package official.sketchBook.headless;
+
+import java.util.Locale;
+
+import static official.sketchBook.game.util_related.constants.PhysicsC.FIXED_TIMESTAMP;
+
+/// Resultado agregado de uma execução do {@link HeadlessSimulationRunner}
+public class SimulationReport {
+
+    private final int threads;
+
+    private int worlds;
+    private int failedWorlds;
+    private Throwable firstFailure;
+
+    private long totalTicks;
+    private long wallNanos;
+
+    /// Mundo mais lento em ticks por segundo
+    private double slowestWorldTicksPerSecond = Double.MAX_VALUE;
+    private int slowestWorldIndex = -1;
+
+    private long maxTickNanos;
+    private long overrunTicks;
+
+    SimulationReport(int threads) {
+        this.threads = threads;
+    }
+
+    void add(HeadlessSimulationRunner.WorldResult result) {
+        worlds++;
+        totalTicks += result.ticks;
+        overrunTicks += result.overrunTicks;
+        maxTickNanos = Math.max(maxTickNanos, result.maxTickNanos);
+
+        double worldTicksPerSecond = result.ticks / (result.elapsedNanos / 1e9);
+        if (worldTicksPerSecond < slowestWorldTicksPerSecond) {
+            slowestWorldTicksPerSecond = worldTicksPerSecond;
+            slowestWorldIndex = result.worldIndex;
+        }
+    }
+
+    void addFailure(Throwable failure) {
+        failedWorlds++;
+        if (firstFailure == null) {
+            firstFailure = failure;
+        }
+    }
+
+    void finish(long wallNanos) {
+        this.wallNanos = wallNanos;
+    }
+
+    /// Ticks de todos os mundos somados por segundo de relógio
+    public double getTicksPerSecond() {
+        return wallNanos == 0 ? 0 : totalTicks / (wallNanos / 1e9);
+    }
+
+    /// Quantas vezes mais rápido que o tempo real o conjunto de mundos rodou, por mundo
+    public double getRealTimeFactor() {
+        return worlds == 0 ? 0 : getTicksPerSecond() * FIXED_TIMESTAMP / worlds;
+    }
+
+    public double getSlowestWorldTicksPerSecond() {
+        return worlds == 0 ? 0 : slowestWorldTicksPerSecond;
+    }
+
+    public int getSlowestWorldIndex() {
+        return slowestWorldIndex;
+    }
+
+    public int getWorlds() {
+        return worlds;
+    }
+
+    public int getFailedWorlds() {
+        return failedWorlds;
+    }
+
+    public Throwable getFirstFailure() {
+        return firstFailure;
+    }
+
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    public long getOverrunTicks() {
+        return overrunTicks;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT,
+            "%d mundos (%d falharam), %d threads, %d ticks em %.2fs%n",
+            worlds, failedWorlds, threads, totalTicks, wallNanos / 1e9));
+        builder.append(String.format(Locale.ROOT,
+            "  %.0f ticks/s no total, %.1fx tempo real por mundo%n",
+            getTicksPerSecond(), getRealTimeFactor()));
+        builder.append(String.format(Locale.ROOT,
+            "  mundo mais lento: #%d com %.0f ticks/s%n",
+            slowestWorldIndex, getSlowestWorldTicksPerSecond()));
+        builder.append(String.format(Locale.ROOT,
+            "  pior tick: %.3fms, %d ticks acima do orçamento",
+            maxTickNanos / 1e6, overrunTicks));
+
+        if (firstFailure != null) {
+            builder.append(String.format(Locale.ROOT, "%n  primeira falha: %s", firstFailure));
+        }
+        return builder.toString();
+    }
+}